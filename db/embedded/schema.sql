@@ -0,0 +1,60 @@
+-- Embedded profile schema: the MySQL schema after migrations V1-V5, written for
+-- H2 in MODE=MySQL. Payroll is not partitioned here (H2 has no partitioning).
+-- Statements are separated by a semicolon at the end of a line.
+
+CREATE TABLE users (
+    username VARCHAR(50)  NOT NULL,
+    password VARCHAR(100) NOT NULL,
+    role     VARCHAR(20)  NOT NULL,
+    PRIMARY KEY (username)
+);
+
+CREATE TABLE job_titles (
+    job_title_id   INT          NOT NULL,
+    job_title_name VARCHAR(100) NOT NULL,
+    PRIMARY KEY (job_title_id)
+);
+
+CREATE TABLE division (
+    division_id   INT          NOT NULL,
+    division_name VARCHAR(100) NOT NULL,
+    PRIMARY KEY (division_id)
+);
+
+CREATE TABLE employees (
+    empid        INT          NOT NULL,
+    name         VARCHAR(100) NOT NULL,
+    ssn          VARCHAR(11)  NULL,
+    ssn_hash     BINARY(32)   NULL,
+    job_title_id INT          NULL,
+    division_id  INT          NULL,
+    PRIMARY KEY (empid)
+);
+
+CREATE UNIQUE INDEX idx_employees_ssn_hash ON employees (ssn_hash);
+
+CREATE INDEX idx_employees_job_title ON employees (job_title_id);
+
+CREATE INDEX idx_employees_division ON employees (division_id);
+
+CREATE TABLE payroll (
+    empid    INT           NOT NULL,
+    pay_date DATE          NOT NULL,
+    salary   DECIMAL(12,2) NOT NULL,
+    version  INT           NOT NULL DEFAULT 0,
+    PRIMARY KEY (empid, pay_date)
+);
+
+CREATE INDEX idx_payroll_salary_empid ON payroll (salary, empid, version);
+
+CREATE TABLE salary_audit (
+    audit_seq  BIGINT        NOT NULL,
+    empid      INT           NOT NULL,
+    pay_date   DATE          NOT NULL,
+    old_salary DECIMAL(12,2) NOT NULL,
+    new_salary DECIMAL(12,2) NOT NULL,
+    changed_at TIMESTAMP(3)  NOT NULL,
+    PRIMARY KEY (audit_seq)
+);
+
+CREATE INDEX idx_salary_audit_empid_changed_at ON salary_audit (empid, changed_at);
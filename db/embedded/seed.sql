@@ -0,0 +1,39 @@
+-- Embedded profile seed data: the same users, lookup rows and employees as the
+-- mock repositories, with three monthly pay records each. ssn_hash is left NULL
+-- and filled in by EmployeeRepository.backfillSsnHashes() at startup.
+-- Larger data sets for load tests come from EmbeddedDatabase.seedSynthetic().
+
+INSERT INTO users (username, password, role) VALUES
+    ('admin', 'admin123', 'ADMIN'),
+    ('employee', 'emp123', 'EMPLOYEE');
+
+INSERT INTO job_titles (job_title_id, job_title_name) VALUES
+    (1, 'Senior Developer'),
+    (2, 'Junior Developer'),
+    (3, 'Project Manager'),
+    (4, 'Business Analyst');
+
+INSERT INTO division (division_id, division_name) VALUES
+    (1, 'Engineering'),
+    (2, 'Management'),
+    (3, 'Operations');
+
+INSERT INTO employees (empid, name, ssn, job_title_id, division_id) VALUES
+    (1, 'John Smith', '123-45-6789', 1, 1),
+    (2, 'Jane Doe', '234-56-7890', 2, 1),
+    (3, 'Bob Johnson', '345-67-8901', 1, 2),
+    (4, 'Alice Williams', '456-78-9012', 2, 2);
+
+INSERT INTO payroll (empid, pay_date, salary) VALUES
+    (1, '2025-01-31', 72000.00),
+    (1, '2025-02-28', 73500.00),
+    (1, '2025-03-31', 75000.00),
+    (2, '2025-01-31', 82000.00),
+    (2, '2025-02-28', 83500.00),
+    (2, '2025-03-31', 85000.00),
+    (3, '2025-01-31', 70000.00),
+    (3, '2025-02-28', 71000.00),
+    (3, '2025-03-31', 72000.00),
+    (4, '2025-01-31', 88000.00),
+    (4, '2025-02-28', 89000.00),
+    (4, '2025-03-31', 90000.00);
@@ -0,0 +1,7 @@
+-- Keyed-hash SSN lookup column for EmployeeRepository.searchBySsn.
+-- Values are HMAC-SHA256(digits of ssn) computed by the application (SsnHasher),
+-- so they are filled in by EmployeeRepository.backfillSsnHashes() rather than SQL.
+ALTER TABLE employees
+    ADD COLUMN ssn_hash BINARY(32) NULL;
+
+CREATE UNIQUE INDEX idx_employees_ssn_hash ON employees (ssn_hash);
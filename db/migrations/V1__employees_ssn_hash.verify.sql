@@ -0,0 +1,4 @@
+-- EmployeeRepository.searchBySsn
+SELECT e.empid, e.name, p.salary FROM employees e
+JOIN payroll p ON e.empid = p.empid
+WHERE e.ssn_hash = X'abababababababababababababababababababababababababababababababab';
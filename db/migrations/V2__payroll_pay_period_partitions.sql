@@ -0,0 +1,17 @@
+-- Partition pay history by pay period so range queries on pay_date only touch
+-- the partitions they need. Rows past the last yearly partition land in pmax
+-- until a partition for their year is split out of it.
+--
+-- MySQL requires the partitioning column in every unique key, so the payroll
+-- primary key must be (empid, pay_date) before this runs.
+ALTER TABLE payroll
+    PARTITION BY RANGE COLUMNS (pay_date) (
+        PARTITION p2023 VALUES LESS THAN ('2024-01-01'),
+        PARTITION p2024 VALUES LESS THAN ('2025-01-01'),
+        PARTITION p2025 VALUES LESS THAN ('2026-01-01'),
+        PARTITION p2026 VALUES LESS THAN ('2027-01-01'),
+        PARTITION pmax  VALUES LESS THAN (MAXVALUE)
+    );
+
+-- Pay history range reads ("WHERE empid = ? AND pay_date ...") are served by the
+-- (empid, pay_date) primary key within each partition; no extra index is needed.
@@ -0,0 +1,6 @@
+-- PayrollRepository.getPayHistory
+SELECT pay_date, salary FROM payroll WHERE empid = 1 ORDER BY pay_date DESC;
+
+-- PayrollRepository.getPayHistory(empId, from, to, limit)
+SELECT pay_date, salary FROM payroll WHERE empid = 1 AND pay_date >= '2025-01-01' AND pay_date < '2026-01-01'
+ORDER BY pay_date DESC LIMIT 12;
@@ -0,0 +1,12 @@
+-- Queryable copy of the local salary audit log, filled by SalaryAuditReplayer.
+-- audit_seq is the log's own sequence number, so replays are idempotent.
+CREATE TABLE salary_audit (
+    audit_seq  BIGINT        NOT NULL,
+    empid      INT           NOT NULL,
+    pay_date   DATE          NOT NULL,
+    old_salary DECIMAL(12,2) NOT NULL,
+    new_salary DECIMAL(12,2) NOT NULL,
+    changed_at TIMESTAMP(3)  NOT NULL,
+    PRIMARY KEY (audit_seq),
+    KEY idx_salary_audit_empid_changed_at (empid, changed_at)
+);
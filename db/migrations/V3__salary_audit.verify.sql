@@ -0,0 +1,4 @@
+-- Audit history of one employee
+SELECT audit_seq, pay_date, old_salary, new_salary, changed_at FROM salary_audit
+WHERE empid = 1 AND changed_at >= '2025-01-01 00:00:00'
+ORDER BY changed_at;
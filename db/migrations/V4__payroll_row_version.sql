@@ -0,0 +1,4 @@
+-- Row version for optimistic salary updates (UpdateMode.OPTIMISTIC).
+-- Optimistic writers increment it; an update only applies if the version it read is unchanged.
+ALTER TABLE payroll
+    ADD COLUMN version INT NOT NULL DEFAULT 0;
@@ -0,0 +1,2 @@
+-- PayrollRepository optimistic mode: re-read of one row before a retry
+SELECT salary, version FROM payroll WHERE empid = 1 AND pay_date = '2025-01-31';
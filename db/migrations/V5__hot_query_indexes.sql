@@ -0,0 +1,13 @@
+-- Indexes for the hot repository queries. InnoDB secondary indexes also hold
+-- the primary key (empid, pay_date / empid), so the indexes below cover:
+--
+-- updateSalaryRange / previewSalaryRange: WHERE salary >= ? AND salary < ?,
+-- reading empid, pay_date and (optimistic mode) version. Salary changes rewrite
+-- the index entry anyway, so carrying version adds no write cost.
+CREATE INDEX idx_payroll_salary_empid ON payroll (salary, empid, version);
+
+-- Job title and division reports group employees by these columns and join
+-- payroll on empid; each index alone covers the employees side of the join.
+CREATE INDEX idx_employees_job_title ON employees (job_title_id);
+
+CREATE INDEX idx_employees_division ON employees (division_id);
@@ -0,0 +1,27 @@
+-- PayrollRepository.updateSalaryRange (run with FOR UPDATE; the plan is the same)
+SELECT empid, pay_date, salary FROM payroll WHERE salary >= 50000 AND salary < 60000;
+
+-- PayrollRepository.updateSalaryRange in optimistic mode
+SELECT empid, pay_date, salary, version FROM payroll WHERE salary >= 50000 AND salary < 60000;
+
+-- PayrollRepository.previewSalaryRange
+SELECT e.division_id AS division_id, COUNT(*) AS affected, SUM(p.salary) AS current_total
+FROM payroll p
+LEFT JOIN employees e ON e.empid = p.empid
+WHERE p.salary >= 50000 AND p.salary < 60000
+GROUP BY e.division_id;
+
+-- PayrollRepository.getLatestSalaries reads every employee's latest row by design
+-- to load the salary distribution index; MySQL serves both sides of the join from
+-- the (empid, pay_date) primary key.
+-- allow-full-scan: payroll
+-- query: src.repositories.PayrollRepository.LATEST_SALARIES_QUERY
+
+-- The reports sum every payroll row, so payroll is read in full by design;
+-- employees (getTotalPayByJobTitle, getTotalPayByDivision) must be served from its job title / division index.
+-- The statements are read from the repository, so the check follows any change to them.
+-- allow-full-scan: payroll
+-- query: src.repositories.PayrollRepository.JOB_TITLE_ID_REPORT_QUERY
+
+-- allow-full-scan: payroll
+-- query: src.repositories.PayrollRepository.DIVISION_ID_REPORT_QUERY
@@ -1,6 +1,7 @@
 package src;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
@@ -15,7 +16,33 @@ import src.users.EmployeeUser;
 import src.services.AuthService;
 import src.services.EmployeeService;
 import src.services.PayrollService;
+import src.services.ReferenceDataService;
 import src.repositories.*;
+import src.metrics.*;
+import src.database.DBConnection;
+import src.database.DataAccessException;
+import src.database.DataSourceConfig;
+import src.database.DatabaseProfile;
+import src.database.EmbeddedDatabase;
+import src.database.FetchPlan;
+import src.database.PartialUpdateException;
+import src.database.ReplicaLagProbe;
+import src.database.QueryTracer;
+import src.database.SlowQueryLog;
+import src.events.ChangeEventBus;
+import src.security.SsnHasher;
+import src.resilience.*;
+import src.audit.AuditLog;
+import src.audit.FsyncPolicy;
+import src.audit.SalaryAuditReplayer;
+import src.audit.SalaryAuditSink;
+import src.audit.SalaryAuditTrail;
+import src.services.PayHistoryCache;
+import src.services.SalaryDistributionIndex;
+import src.config.AppConfig;
+import src.config.ConfigException;
+import src.config.ConfigKey;
+import src.config.ConfigManager;
 
 /**
  * MainApp - JavaFX entry point for the Employee Management System.
@@ -34,6 +61,15 @@ public class MainApp extends Application {
     private EmployeeService employeeService;
     private PayrollService payrollService;
     
+    // Kept so failover recovery can mark it stale; created after the repositories are wrapped
+    private SalaryDistributionIndex salaryDistribution;
+    
+    // Settings from companyz.properties, environment and -D flags
+    private ConfigManager configManager;
+    
+    // Created on first use and kept across reloads, since its path is not reloadable
+    private SlowQueryLog slowQueryLog;
+    
     // Current logged-in user
     private User currentUser;
 
@@ -44,6 +80,14 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         this.stage = primaryStage;
+        try {
+            configManager = new ConfigManager(ConfigManager.locateFile());
+        } catch (ConfigException e) {
+            System.err.println(e.getMessage());
+            showConfigErrorAlert(e);
+            Platform.exit();
+            return;
+        }
         initializeServices();
         primaryStage.setTitle("Company Z Employee System");
         
@@ -79,7 +123,7 @@ public class MainApp extends Application {
             "Please ensure:\n" +
             "1. MySQL Server is running\n" +
             "2. Database 'employeeData' exists\n" +
-            "3. Credentials in DBConnection.java are correct\n\n" +
+            "3. companyz.db.url, companyz.db.user and companyz.db.password are correct\n\n" +
             "For testing, you can use:\n" +
             "Username: admin or employee\n" +
             "Password: test123"
@@ -87,40 +131,299 @@ public class MainApp extends Application {
         alert.showAndWait();
     }
 
+    /**
+     * Shows every configuration problem found at startup.
+     */
+    private void showConfigErrorAlert(ConfigException e) {
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("Configuration Error");
+        alert.setHeaderText("Invalid configuration");
+        alert.setContentText(String.join("\n", e.getProblems()));
+        alert.showAndWait();
+    }
+
     /**
      * Initializes service layer with concrete implementations.
      * This is the Dependency Injection point - could be replaced with
      * a DI framework like Spring or Guice for larger projects.
      * 
-     * Uses mock repositories if database connection fails.
+     * Uses mock repositories if database connection fails at startup. When the
+     * database is available, the mock repositories stay on standby: if MySQL
+     * stops answering health checks, reads switch to them (read-only degraded
+     * mode) and switch back once it recovers.
      */
     private void initializeServices() {
+        AppConfig config = configManager.current();
+        boolean databaseConfigured = configureDatabase(config);
+        DBConnection.setFetchSize(config.getInt(ConfigKey.DB_FETCH_SIZE));
+        
         // Try to use real repositories with database
         // Fall back to mock repositories if database is unavailable
         IAuthRepository authRepository;
         IEmployeeRepository employeeRepository;
         IPayrollRepository payrollRepository;
+        ReferenceDataService referenceDataService;
+        PayrollRepository databasePayrollRepository = null;
+        MockPayrollRepository mockPayrollRepository = null;
+        
+        // Write paths publish committed changes here; caches subscribe below
+        ChangeEventBus eventBus = new ChangeEventBus();
+        boolean databaseMode;
         
         try {
-            if (src.database.DBConnection.testConnection()) {
+            if (databaseConfigured && src.database.DBConnection.testConnection()) {
                 System.out.println("Database connected. Using real repositories.");
+                configureReadReplicas(config);
                 authRepository = new AuthRepository();
-                employeeRepository = new EmployeeRepository();
-                payrollRepository = new PayrollRepository();
+                EmployeeRepository databaseEmployeeRepository = new EmployeeRepository(SsnHasher.getDefault(), eventBus);
+                try {
+                    int hashed = databaseEmployeeRepository.backfillSsnHashes();
+                    if (hashed > 0) {
+                        System.out.println("Computed SSN hashes for " + hashed + " employees.");
+                    }
+                } catch (DataAccessException e) {
+                    // Not fatal: SSN search misses the unhashed rows until the next startup
+                    System.err.println("SSN hash backfill failed: " + e.getMessage());
+                }
+                employeeRepository = databaseEmployeeRepository;
+                referenceDataService = new ReferenceDataService(new ReferenceDataRepository(),
+                    config.getLong(ConfigKey.CACHE_REFERENCE_DATA_TTL_MILLIS));
+                databasePayrollRepository = new PayrollRepository(referenceDataService, eventBus, UpdateMode.OPTIMISTIC);
+                databasePayrollRepository.setBatchSize(config.getInt(ConfigKey.DB_BATCH_SIZE));
+                databasePayrollRepository.setFetchPlan(FetchPlan.defaults()
+                    .withStreamingThreshold(config.getLong(ConfigKey.DB_STREAMING_THRESHOLD_ROWS)));
+                payrollRepository = databasePayrollRepository;
+                databaseMode = true;
+                
+                // Deadlines, retries, bulkhead and circuit breaker shared by all MySQL repositories
+                long reportDeadline = config.getLong(ConfigKey.DB_REPORT_DEADLINE_MILLIS);
+                ResiliencePolicy databasePolicy = ResiliencePolicy.defaults()
+                    .withDeadline(null, config.getLong(ConfigKey.DB_DEADLINE_MILLIS))
+                    .withDeadline("getTotalPayByJobTitle", reportDeadline)
+                    .withDeadline("getTotalPayByDivision", reportDeadline)
+                    .withDeadline("previewSalaryRange", reportDeadline)
+                    .withDeadline("getLatestSalaries", reportDeadline);
+                // Real results from the last successful reads: the stale fallback and the failover standby
+                LastKnownGoodCache lastKnownGood = new LastKnownGoodCache(databasePolicy.getMaxStaleEntries());
+                ResilientExecutor databaseExecutor = new ResilientExecutor("employeeData", databasePolicy, lastKnownGood);
+                authRepository = new ResilientAuthRepository(authRepository, databaseExecutor);
+                employeeRepository = new ResilientEmployeeRepository(employeeRepository, databaseExecutor);
+                payrollRepository = new ResilientPayrollRepository(payrollRepository, databaseExecutor);
+                
+                // Read-only last-known-good standby while the database is down; logins and writes are refused
+                DatabaseHealthMonitor healthMonitor = new DatabaseHealthMonitor(DBConnection::testConnection,
+                    config.getLong(ConfigKey.DB_HEALTH_CHECK_INTERVAL_MILLIS), 2, 3);
+                FailoverRouter failoverRouter = new FailoverRouter(healthMonitor, lastKnownGood);
+                authRepository = new FailoverAuthRepository(authRepository, failoverRouter);
+                employeeRepository = new FailoverEmployeeRepository(employeeRepository, failoverRouter);
+                payrollRepository = new FailoverPayrollRepository(payrollRepository, failoverRouter);
+                
+                ReferenceDataService databaseReferenceData = referenceDataService;
+                healthMonitor.addListener(event -> {
+                    System.out.println("Database failover: " + event);
+                    if (event.to() == DatabaseHealthMonitor.Mode.PRIMARY) {
+                        // Lookup tables may have changed or failed to load while degraded
+                        databaseReferenceData.invalidate();
+                        // Change events may have been missed while degraded
+                        if (salaryDistribution != null) {
+                            salaryDistribution.invalidate();
+                        }
+                    }
+                });
+                healthMonitor.start(true);
             } else {
                 throw new Exception("Database test failed");
             }
         } catch (Exception e) {
             System.out.println("Database unavailable, using mock repositories for demo: " + e.getMessage());
             authRepository = new MockAuthRepository();
-            employeeRepository = new MockEmployeeRepository();
-            payrollRepository = new MockPayrollRepository();
+            mockPayrollRepository = new MockPayrollRepository(eventBus);
+            employeeRepository = new MockEmployeeRepository(eventBus, mockPayrollRepository);
+            payrollRepository = mockPayrollRepository;
+            referenceDataService = new ReferenceDataService(new MockReferenceDataRepository(),
+                config.getLong(ConfigKey.CACHE_REFERENCE_DATA_TTL_MILLIS));
+            databaseMode = false;
         }
+        try {
+            referenceDataService.refresh();
+        } catch (DataAccessException e) {
+            // Retried on first use; reports surface the error until it succeeds
+            System.err.println("Reference data load failed: " + e.getMessage());
+        }
+        eventBus.subscribe("reference-data", referenceDataService);
+        SalaryAuditSink auditSink = startSalaryAudit(config, databaseMode);
+        if (mockPayrollRepository != null) {
+            mockPayrollRepository.setAuditSink(auditSink);
+        } else {
+            databasePayrollRepository.setAuditSink(auditSink);
+        }
+        
+        // Instrumentation layer - records per-method metrics for every repository call
+        MetricsRegistry metricsRegistry = MetricsRegistry.getDefault();
+        authRepository = new InstrumentedAuthRepository(authRepository, metricsRegistry);
+        employeeRepository = new InstrumentedEmployeeRepository(employeeRepository, metricsRegistry);
+        payrollRepository = new InstrumentedPayrollRepository(payrollRepository, metricsRegistry);
+        startMetricsExport(config, metricsRegistry);
+        configureQueryTracing(config);
         
         // Service layer
         authService = new AuthService(authRepository);
         employeeService = new EmployeeService(employeeRepository);
-        payrollService = new PayrollService(payrollRepository);
+        PayHistoryCache payHistoryCache = new PayHistoryCache(config.getLong(ConfigKey.CACHE_PAY_HISTORY_BYTES));
+        payHistoryCache.subscribeTo(eventBus);
+        salaryDistribution = new SalaryDistributionIndex(payrollRepository);
+        salaryDistribution.subscribeTo(eventBus);
+        salaryDistribution.loadInBackground().exceptionally(e -> {
+            System.err.println("Salary distribution not loaded, will retry on first use: " + e.getMessage());
+            return null;
+        });
+        payrollService = new PayrollService(payrollRepository, payHistoryCache, salaryDistribution);
+        
+        // Hot reload: the listener only ever sees new values for settings marked reloadable in ConfigKey
+        ReferenceDataService reloadableReferenceData = referenceDataService;
+        PayrollRepository reloadablePayrollRepository = databasePayrollRepository;
+        configManager.addListener(reloaded -> {
+            DBConnection.setFetchSize(reloaded.getInt(ConfigKey.DB_FETCH_SIZE));
+            if (reloadablePayrollRepository != null) {
+                reloadablePayrollRepository.setBatchSize(reloaded.getInt(ConfigKey.DB_BATCH_SIZE));
+                reloadablePayrollRepository.setFetchPlan(FetchPlan.defaults()
+                    .withStreamingThreshold(reloaded.getLong(ConfigKey.DB_STREAMING_THRESHOLD_ROWS)));
+            }
+            payHistoryCache.setMaxBytes(reloaded.getLong(ConfigKey.CACHE_PAY_HISTORY_BYTES));
+            reloadableReferenceData.setMaxAgeMillis(reloaded.getLong(ConfigKey.CACHE_REFERENCE_DATA_TTL_MILLIS));
+            configureQueryTracing(reloaded);
+        });
+        configManager.startWatching(config.getLong(ConfigKey.CONFIG_RELOAD_INTERVAL_SECONDS));
+    }
+
+    /**
+     * Points DBConnection at MySQL, or at the embedded H2 database when
+     * companyz.db.profile=EMBEDDED (needs the H2 jar on the classpath).
+     * @return false if the embedded database could not be started
+     */
+    private boolean configureDatabase(AppConfig config) {
+        int poolSize = config.getInt(ConfigKey.DB_POOL_SIZE);
+        int timeoutMillis = (int) config.getLong(ConfigKey.DB_CONNECT_TIMEOUT_MILLIS);
+        if (config.getEnum(ConfigKey.DB_PROFILE, DatabaseProfile.class) == DatabaseProfile.MYSQL) {
+            DBConnection.configurePrimary(new DataSourceConfig("primary",
+                config.getString(ConfigKey.DB_URL), config.getString(ConfigKey.DB_USER),
+                config.getString(ConfigKey.DB_PASSWORD), poolSize), timeoutMillis);
+            return true;
+        }
+        
+        EmbeddedDatabase embedded = new EmbeddedDatabase(config.getString(ConfigKey.DB_EMBEDDED_URL),
+            java.nio.file.Paths.get(config.getString(ConfigKey.DB_EMBEDDED_SCRIPTS)));
+        try {
+            embedded.start(poolSize, timeoutMillis);
+            System.out.println("Using embedded database " + config.getString(ConfigKey.DB_EMBEDDED_URL));
+            return true;
+        } catch (java.sql.SQLException | java.io.IOException e) {
+            System.err.println("Embedded database unavailable: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Starts the optional metrics outputs.
+     * companyz.metrics.dumpIntervalSeconds=N prints a text dump every N seconds;
+     * companyz.metrics.port=P serves Prometheus metrics at http://localhost:P/metrics.
+     */
+    private void startMetricsExport(AppConfig config, MetricsRegistry metricsRegistry) {
+        long dumpInterval = config.getLong(ConfigKey.METRICS_DUMP_INTERVAL_SECONDS);
+        if (dumpInterval > 0) {
+            new MetricsReporter(metricsRegistry, System.out).start(dumpInterval);
+        }
+        
+        if (config.isSet(ConfigKey.METRICS_PORT)) {
+            int port = config.getInt(ConfigKey.METRICS_PORT);
+            try {
+                new PrometheusEndpoint(metricsRegistry).start(port);
+                System.out.println("Metrics available at http://localhost:" + port + "/metrics");
+            } catch (java.io.IOException e) {
+                System.err.println("Failed to start metrics endpoint: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Starts the write-behind salary audit trail in companyz.audit.dir (logs/audit).
+     * companyz.audit.fsync=NONE|EVERY_BATCH|INTERVAL selects the fsync policy,
+     * companyz.audit.queueCapacity bounds the records waiting to be written, and
+     * companyz.audit.replay=true copies the log into salary_audit at startup.
+     * @return the trail salary updates enqueue into, or a no-op sink if it could not start
+     */
+    private SalaryAuditSink startSalaryAudit(AppConfig config, boolean databaseMode) {
+        java.nio.file.Path auditDir = java.nio.file.Paths.get(config.getString(ConfigKey.AUDIT_DIR));
+        try {
+            FsyncPolicy fsyncPolicy = config.getEnum(ConfigKey.AUDIT_FSYNC, FsyncPolicy.class);
+            AuditLog auditLog = new AuditLog(auditDir, config.getLong(ConfigKey.AUDIT_SEGMENT_BYTES), fsyncPolicy,
+                config.getLong(ConfigKey.AUDIT_FSYNC_INTERVAL_MILLIS));
+            SalaryAuditTrail auditTrail = new SalaryAuditTrail(auditLog, config.getInt(ConfigKey.AUDIT_BATCH_SIZE),
+                config.getInt(ConfigKey.AUDIT_QUEUE_CAPACITY), config.getLong(ConfigKey.AUDIT_ENQUEUE_TIMEOUT_MILLIS));
+            
+            if (databaseMode && config.getBoolean(ConfigKey.AUDIT_REPLAY)) {
+                try {
+                    int replayed = new SalaryAuditReplayer(config.getInt(ConfigKey.DB_BATCH_SIZE)).replay(auditLog);
+                    System.out.println("Replayed " + replayed + " salary audit records into salary_audit.");
+                } catch (DataAccessException e) {
+                    // The log still has every record; the next replay resumes where this one stopped
+                    System.err.println(e.getMessage());
+                }
+            }
+            return auditTrail;
+        } catch (java.io.IOException | IllegalArgumentException e) {
+            System.err.println("Salary audit trail disabled: " + e.getMessage());
+            return SalaryAuditSink.NO_OP;
+        }
+    }
+
+    /**
+     * Routes read-only queries to replicas when companyz.db.replicas=url1,url2 is set.
+     * companyz.db.replicaMaxLagMillis sets the staleness bound, which is also the
+     * read-your-writes window, and companyz.db.replicaAssumeCurrent=true skips
+     * SHOW REPLICA STATUS for local stand-ins without replication.
+     */
+    private void configureReadReplicas(AppConfig config) {
+        String replicaUrls = config.getString(ConfigKey.DB_REPLICAS);
+        if (replicaUrls.isEmpty()) {
+            return;
+        }
+        
+        DataSourceConfig primary = DBConnection.getPrimaryConfig();
+        java.util.List<DataSourceConfig> replicas = new java.util.ArrayList<>();
+        for (String url : replicaUrls.split(",")) {
+            if (!url.isBlank()) {
+                replicas.add(new DataSourceConfig("replica-" + (replicas.size() + 1), url.trim(),
+                    primary.user(), primary.password(), primary.maxPoolSize()));
+            }
+        }
+        long maxLagMillis = config.getLong(ConfigKey.DB_REPLICA_MAX_LAG_MILLIS);
+        ReplicaLagProbe lagProbe = config.getBoolean(ConfigKey.DB_REPLICA_ASSUME_CURRENT)
+            ? ReplicaLagProbe.ASSUME_CURRENT : ReplicaLagProbe.SHOW_REPLICA_STATUS;
+        DBConnection.configureReplicas(replicas, lagProbe, maxLagMillis, maxLagMillis);
+        System.out.println("Read replicas enabled: " + replicas + " (max lag " + maxLagMillis + "ms)");
+    }
+
+    /**
+     * Enables the slow query log when companyz.db.slowQueryMillis=N is set, and
+     * disables it again when the setting is removed on reload.
+     * companyz.db.slowQuerySampleEvery=N additionally logs every Nth query, and
+     * companyz.db.slowQueryLog=path overrides the log location (logs/slow-query.log).
+     */
+    private void configureQueryTracing(AppConfig config) {
+        if (!config.isSet(ConfigKey.DB_SLOW_QUERY_MILLIS)) {
+            DBConnection.setQueryTracer(null);
+            return;
+        }
+        
+        long thresholdMillis = config.getLong(ConfigKey.DB_SLOW_QUERY_MILLIS);
+        java.nio.file.Path logFile = java.nio.file.Paths.get(config.getString(ConfigKey.DB_SLOW_QUERY_LOG));
+        if (slowQueryLog == null) {
+            slowQueryLog = new SlowQueryLog(logFile, 10L * 1024 * 1024, 5);
+        }
+        DBConnection.setQueryTracer(new QueryTracer(slowQueryLog, thresholdMillis,
+            config.getInt(ConfigKey.DB_SLOW_QUERY_SAMPLE_EVERY)));
+        System.out.println("Slow query log enabled: " + logFile + " (threshold " + thresholdMillis + "ms)");
     }
 
     // ============ SCREEN 1: LOGIN ============
@@ -208,8 +511,12 @@ public class MainApp extends Application {
         output.setEditable(false);
 
         searchBtn.setOnAction(e -> {
-            String results = admin.searchEmployees(searchIn.getText());
-            output.setText(results);
+            try {
+                String results = admin.searchEmployees(searchIn.getText());
+                output.setText(results);
+            } catch (DataAccessException ex) {
+                output.setText("Search failed: " + ex.getMessage());
+            }
         });
 
         // --- PART B: SALARY UPDATE ---
@@ -225,8 +532,46 @@ public class MainApp extends Application {
         TextField pct = new TextField();
         pct.setPromptText("Percent %");
         
+        Button previewBtn = new Button("Preview Raise");
         Button updateBtn = new Button("Apply Bulk Raise");
+        Button bandsBtn = new Button("Suggest Salary Bands");
         Label upMsg = new Label();
+        
+        // Live count for the typed range, answered from the in-memory salary distribution
+        Label rangeInfo = new Label();
+        min.textProperty().addListener((obs, oldText, newText) -> updateRangeInfo(admin, min, max, rangeInfo));
+        max.textProperty().addListener((obs, oldText, newText) -> updateRangeInfo(admin, min, max, rangeInfo));
+
+        bandsBtn.setOnAction(e -> {
+            try {
+                upMsg.setText(admin.suggestSalaryBands(4));
+                upMsg.setStyle("-fx-text-fill: black;");
+            } catch (DataAccessException ex) {
+                upMsg.setText("Database error: " + ex.getMessage());
+                upMsg.setStyle("-fx-text-fill: red;");
+            }
+        });
+
+        previewBtn.setOnAction(e -> {
+            try {
+                String preview = admin.previewSalaryRaise(
+                    Double.parseDouble(min.getText()),
+                    Double.parseDouble(max.getText()),
+                    Double.parseDouble(pct.getText())
+                );
+                upMsg.setText(preview);
+                upMsg.setStyle("-fx-text-fill: black;");
+            } catch (DataAccessException ex) {
+                upMsg.setText("Database error: " + ex.getMessage());
+                upMsg.setStyle("-fx-text-fill: red;");
+            } catch (NumberFormatException ex) {
+                upMsg.setText("Invalid Input: Please enter valid numbers");
+                upMsg.setStyle("-fx-text-fill: red;");
+            } catch (IllegalArgumentException ex) {
+                upMsg.setText("Error: " + ex.getMessage());
+                upMsg.setStyle("-fx-text-fill: red;");
+            }
+        });
 
         updateBtn.setOnAction(e -> {
             try {
@@ -237,6 +582,16 @@ public class MainApp extends Application {
                 );
                 upMsg.setText("Updated " + count + " records.");
                 upMsg.setStyle("-fx-text-fill: green;");
+                updateRangeInfo(admin, min, max, rangeInfo);
+            } catch (PartialUpdateException ex) {
+                // The updated rows stay raised; re-applying would raise them twice
+                upMsg.setText("Raise only partly applied: updated " + ex.getCommittedCount() + " records, skipped " +
+                    ex.getSkippedCount() + " that kept changing. Check the skipped records before raising them.");
+                upMsg.setStyle("-fx-text-fill: orange;");
+                updateRangeInfo(admin, min, max, rangeInfo);
+            } catch (DataAccessException ex) {
+                upMsg.setText("Database error: " + ex.getMessage());
+                upMsg.setStyle("-fx-text-fill: red;");
             } catch (NumberFormatException ex) {
                 upMsg.setText("Invalid Input: Please enter valid numbers");
                 upMsg.setStyle("-fx-text-fill: red;");
@@ -257,13 +612,21 @@ public class MainApp extends Application {
         reportOut.setEditable(false);
 
         jobReportBtn.setOnAction(e -> {
-            String report = admin.getJobTitleReport();
-            reportOut.setText(report);
+            try {
+                String report = admin.getJobTitleReport();
+                reportOut.setText(report);
+            } catch (DataAccessException ex) {
+                reportOut.setText("Report failed: " + ex.getMessage());
+            }
         });
 
         divReportBtn.setOnAction(e -> {
-            String report = admin.getDivisionReport();
-            reportOut.setText(report);
+            try {
+                String report = admin.getDivisionReport();
+                reportOut.setText(report);
+            } catch (DataAccessException ex) {
+                reportOut.setText("Report failed: " + ex.getMessage());
+            }
         });
 
         Button logout = new Button("Logout");
@@ -277,7 +640,7 @@ public class MainApp extends Application {
             new Separator(),
             searchLabel, searchIn, searchBtn, output,
             new Separator(),
-            raiseLabel, min, max, pct, updateBtn, upMsg,
+            raiseLabel, min, max, rangeInfo, pct, bandsBtn, previewBtn, updateBtn, upMsg,
             new Separator(),
             reportLabel, jobReportBtn, divReportBtn, reportOut,
             new Separator(),
@@ -287,6 +650,34 @@ public class MainApp extends Application {
         stage.setScene(new Scene(root, 500, 900));
     }
 
+    /**
+     * Shows the count and total for the typed salary range. Runs on every keystroke,
+     * so it never waits for the database: while the salary distribution loads in the
+     * background the label reads "loading…" and is filled in once the load finishes.
+     */
+    private void updateRangeInfo(AdminUser admin, TextField min, TextField max, Label rangeInfo) {
+        try {
+            String description = admin.describeSalaryRange(
+                Double.parseDouble(min.getText()), Double.parseDouble(max.getText()));
+            if (description != null) {
+                rangeInfo.setText(description);
+                return;
+            }
+            rangeInfo.setText("Salary distribution loading…");
+            admin.whenSalaryRangesLoaded().whenComplete((loaded, failure) -> Platform.runLater(() -> {
+                if (failure == null) {
+                    updateRangeInfo(admin, min, max, rangeInfo);
+                } else {
+                    rangeInfo.setText("Salary distribution unavailable: " + failure.getMessage());
+                }
+            }));
+        } catch (NumberFormatException ex) {
+            rangeInfo.setText("");
+        } catch (IllegalArgumentException ex) {
+            rangeInfo.setText(ex.getMessage());
+        }
+    }
+
     // ============ SCREEN 3: EMPLOYEE VIEW ============
     private void showEmployee() {
         EmployeeUser employee = (EmployeeUser) currentUser;
@@ -307,8 +698,12 @@ public class MainApp extends Application {
         historyArea.setEditable(false);
 
         historyBtn.setOnAction(e -> {
-            String history = employee.viewPayHistory();
-            historyArea.setText(history);
+            try {
+                String history = employee.viewPayHistory();
+                historyArea.setText(history);
+            } catch (DataAccessException ex) {
+                historyArea.setText("Pay history unavailable: " + ex.getMessage());
+            }
         });
 
         // --- SALARY INFO ---
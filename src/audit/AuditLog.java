@@ -0,0 +1,321 @@
+package src.audit;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * AuditLog is an append-only, segment-rotated log of salary audit records.
+ * Records are written as tab-separated lines to {@code audit-<n>.log} files in
+ * one directory; when the active segment reaches the size limit a new segment
+ * is started and old segments are never modified again.
+ *
+ * A batch is all-or-nothing: if a write fails part way, the segment is
+ * truncated back to where the batch started before anything else is appended.
+ * On open, the last segment is scanned to recover the next sequence number,
+ * and a trailing partial line left by a crash is truncated away. Readers skip
+ * any line that still does not parse instead of failing the whole scan.
+ *
+ * With {@link FsyncPolicy#INTERVAL} a background timer forces unforced batches,
+ * so the loss window stays bounded even when appends stop.
+ */
+public class AuditLog implements AutoCloseable {
+    private static final String SEGMENT_PREFIX = "audit-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final long maxSegmentBytes;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalMillis;
+
+    private final ScheduledExecutorService forceTimer;
+
+    private FileChannel channel;
+    private int segmentIndex;
+    private long segmentBytes;
+    private long nextSequence = 1;
+    private long lastForceMillis;
+    private boolean unforced;
+    // Segment length to restore before the next append, or -1; set when a failed batch could not be rolled back
+    private long tornTailAt = -1;
+
+    /**
+     * @param directory directory holding the segments; created if missing
+     * @param maxSegmentBytes size at which a new segment is started
+     * @param fsyncPolicy when to force written batches to disk
+     * @param fsyncIntervalMillis minimum time between forces for {@link FsyncPolicy#INTERVAL}
+     */
+    public AuditLog(Path directory, long maxSegmentBytes, FsyncPolicy fsyncPolicy, long fsyncIntervalMillis)
+            throws IOException {
+        if (maxSegmentBytes <= 0) {
+            throw new IllegalArgumentException("Segment size must be positive");
+        }
+        if (fsyncPolicy == FsyncPolicy.INTERVAL && fsyncIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Fsync interval must be positive");
+        }
+        this.directory = directory;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncIntervalMillis = fsyncIntervalMillis;
+
+        Files.createDirectories(directory);
+        List<Path> segments = listSegments();
+        if (segments.isEmpty()) {
+            openSegment(1);
+        } else {
+            Path last = segments.get(segments.size() - 1);
+            recover(last);
+            openSegment(segmentIndexOf(last));
+        }
+
+        if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+            forceTimer = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "audit-log-fsync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            forceTimer.scheduleWithFixedDelay(this::forceIfDue, fsyncIntervalMillis, fsyncIntervalMillis,
+                TimeUnit.MILLISECONDS);
+        } else {
+            forceTimer = null;
+        }
+    }
+
+    /**
+     * Appends a batch of records, assigning consecutive sequence numbers.
+     * The whole batch is written with one write call and forced according to the policy.
+     * @param records records created with {@link SalaryAuditRecord#of}
+     * @return number of records written
+     */
+    public synchronized int append(List<SalaryAuditRecord> records) throws IOException {
+        if (records.isEmpty()) {
+            return 0;
+        }
+        if (tornTailAt >= 0) {
+            channel.truncate(tornTailAt);
+            tornTailAt = -1;
+        }
+        if (segmentBytes >= maxSegmentBytes) {
+            rollSegment();
+        }
+
+        StringBuilder batch = new StringBuilder(records.size() * 48);
+        long sequence = nextSequence;
+        for (SalaryAuditRecord record : records) {
+            batch.append(record.withSequence(sequence++).toLogLine()).append('\n');
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(batch.toString().getBytes(StandardCharsets.UTF_8));
+        int length = buffer.remaining();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            discardPartialBatch(e);
+            throw e;
+        }
+        segmentBytes += length;
+        nextSequence = sequence;
+        unforced = true;
+
+        long now = System.currentTimeMillis();
+        if (fsyncPolicy == FsyncPolicy.EVERY_BATCH ||
+            (fsyncPolicy == FsyncPolicy.INTERVAL && now - lastForceMillis >= fsyncIntervalMillis)) {
+            force(now);
+        }
+        return records.size();
+    }
+
+    /**
+     * Reads every record with a sequence number greater than the given one, oldest first.
+     * @param afterSequence last sequence already processed, or 0 for all records
+     * @param consumer receives each record
+     */
+    public void forEach(long afterSequence, Consumer<SalaryAuditRecord> consumer) throws IOException {
+        List<Path> segments;
+        synchronized (this) {
+            if (channel != null && unforced) {
+                // Make sure a concurrent reader sees everything appended so far
+                force(System.currentTimeMillis());
+            }
+            segments = listSegments();
+        }
+        for (Path segment : segments) {
+            try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+                String line;
+                int lineNumber = 0;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isEmpty()) {
+                        continue;
+                    }
+                    SalaryAuditRecord record;
+                    try {
+                        record = SalaryAuditRecord.parse(line);
+                    } catch (IllegalArgumentException e) {
+                        System.err.println("Audit log: skipping torn line " + lineNumber + " of " + segment);
+                        continue;
+                    }
+                    if (record.sequence() > afterSequence) {
+                        consumer.accept(record);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return sequence number of the most recently appended record, or 0 if the log is empty
+     */
+    public synchronized long getLastSequence() {
+        return nextSequence - 1;
+    }
+
+    public synchronized int getSegmentCount() throws IOException {
+        return listSegments().size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (forceTimer != null) {
+            forceTimer.shutdownNow();
+        }
+        if (channel != null) {
+            if (unforced && fsyncPolicy != FsyncPolicy.NONE) {
+                force(System.currentTimeMillis());
+            }
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void force(long now) throws IOException {
+        channel.force(false);
+        lastForceMillis = now;
+        unforced = false;
+    }
+
+    /**
+     * Timer task for {@link FsyncPolicy#INTERVAL}: forces batches left unforced for a full interval.
+     */
+    private synchronized void forceIfDue() {
+        long now = System.currentTimeMillis();
+        if (channel == null || !unforced || now - lastForceMillis < fsyncIntervalMillis) {
+            return;
+        }
+        try {
+            force(now);
+        } catch (IOException e) {
+            System.err.println("Audit log: background fsync failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Cuts the bytes of a failed batch off the segment, so a retry starts on a
+     * line boundary. If that fails too, the next append retries the truncation
+     * before writing.
+     */
+    private void discardPartialBatch(IOException cause) {
+        try {
+            channel.truncate(segmentBytes);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+            tornTailAt = segmentBytes;
+        }
+    }
+
+    private void rollSegment() throws IOException {
+        if (fsyncPolicy != FsyncPolicy.NONE) {
+            force(System.currentTimeMillis());
+        }
+        channel.close();
+        openSegment(segmentIndex + 1);
+    }
+
+    private void openSegment(int index) throws IOException {
+        Path segment = directory.resolve(segmentName(index));
+        channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND);
+        segmentIndex = index;
+        segmentBytes = channel.size();
+    }
+
+    /**
+     * Drops a torn trailing line and restores the sequence counter from the last complete record.
+     */
+    private void recover(Path segment) throws IOException {
+        byte[] content = Files.readAllBytes(segment);
+        int end = content.length;
+        while (end > 0 && content[end - 1] != '\n') {
+            end--;
+        }
+        if (end < content.length) {
+            System.err.println("Audit log: truncating " + (content.length - end) + " bytes of a partial record in " + segment);
+            try (FileChannel truncate = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                truncate.truncate(end);
+                truncate.force(false);
+            }
+        }
+
+        // The newest record is the last line that parses; torn lines before it are skipped
+        int lineEnd = end - 1;
+        while (lineEnd > 0) {
+            int lineStart = lineEnd;
+            while (lineStart > 0 && content[lineStart - 1] != '\n') {
+                lineStart--;
+            }
+            if (lineEnd > lineStart) {
+                String line = new String(content, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+                try {
+                    nextSequence = SalaryAuditRecord.parse(line).sequence() + 1;
+                    return;
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Audit log: skipping torn line in " + segment);
+                }
+            }
+            lineEnd = lineStart - 1;
+        }
+
+        // No complete record in the newest segment: fall back to the segment before it
+        List<Path> segments = listSegments();
+        int position = segments.indexOf(segment);
+        if (position > 0) {
+            recover(segments.get(position - 1));
+        }
+    }
+
+    private List<Path> listSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                segments.add(path);
+            }
+        }
+        // Zero-padded indexes sort lexicographically in segment order
+        Collections.sort(segments);
+        return segments;
+    }
+
+    private static String segmentName(int index) {
+        return String.format("%s%08d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX);
+    }
+
+    private static int segmentIndexOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
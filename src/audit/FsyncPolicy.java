@@ -0,0 +1,13 @@
+package src.audit;
+
+/**
+ * FsyncPolicy controls when the audit log forces written batches to disk.
+ */
+public enum FsyncPolicy {
+    /** Leave flushing to the operating system; a crash can lose recent batches. */
+    NONE,
+    /** Force after every batch; no acknowledged batch is lost, at the cost of one fsync per batch. */
+    EVERY_BATCH,
+    /** Force at most once per configured interval, on append or from a timer; bounds the loss window to that interval. */
+    INTERVAL
+}
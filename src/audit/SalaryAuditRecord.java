@@ -0,0 +1,53 @@
+package src.audit;
+
+import java.time.LocalDate;
+
+/**
+ * SalaryAuditRecord is one before/after salary entry of the audit trail,
+ * identifying the payroll row by employee and pay date.
+ * The sequence number is assigned by the {@link AuditLog} when the record is
+ * appended and increases strictly across segments.
+ */
+public record SalaryAuditRecord(long sequence, int empId, LocalDate payDate, double oldSalary, double newSalary,
+                                long changedAtMillis) {
+
+    /**
+     * Creates a record that has not been appended yet.
+     */
+    public static SalaryAuditRecord of(int empId, LocalDate payDate, double oldSalary, double newSalary,
+                                       long changedAtMillis) {
+        return new SalaryAuditRecord(0, empId, payDate, oldSalary, newSalary, changedAtMillis);
+    }
+
+    SalaryAuditRecord withSequence(long sequence) {
+        return new SalaryAuditRecord(sequence, empId, payDate, oldSalary, newSalary, changedAtMillis);
+    }
+
+    /**
+     * @return the tab-separated log line, without line terminator
+     */
+    String toLogLine() {
+        return sequence + "\t" + changedAtMillis + "\t" + empId + "\t" + payDate + "\t" + oldSalary + "\t" + newSalary;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the line is not a complete record
+     */
+    static SalaryAuditRecord parse(String line) {
+        String[] fields = line.split("\t");
+        if (fields.length != 6) {
+            throw new IllegalArgumentException("Malformed audit line: " + line);
+        }
+        try {
+            return new SalaryAuditRecord(
+                Long.parseLong(fields[0]),
+                Integer.parseInt(fields[2]),
+                LocalDate.parse(fields[3]),
+                Double.parseDouble(fields[4]),
+                Double.parseDouble(fields[5]),
+                Long.parseLong(fields[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed audit line: " + line, e);
+        }
+    }
+}
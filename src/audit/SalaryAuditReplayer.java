@@ -0,0 +1,103 @@
+package src.audit;
+
+import src.database.DBConnection;
+import src.database.DataAccessException;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * SalaryAuditReplayer copies the local audit log into the salary_audit table.
+ * Single Responsibility: makes the audit trail queryable in the database
+ * without putting audit inserts on the salary update path.
+ *
+ * Replay resumes after the highest audit_seq already in the table and inserts
+ * in JDBC batches; INSERT IGNORE keeps repeated replays idempotent, so a
+ * failed replay can simply be run again.
+ */
+public class SalaryAuditReplayer {
+    private static final int DEFAULT_BATCH_SIZE = 500;
+
+    private static final String LAST_SEQUENCE_QUERY =
+        "SELECT COALESCE(MAX(audit_seq), 0) AS last_seq FROM salary_audit";
+
+    private static final String INSERT_AUDIT_QUERY =
+        "INSERT IGNORE INTO salary_audit (audit_seq, empid, pay_date, old_salary, new_salary, changed_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final int batchSize;
+
+    public SalaryAuditReplayer() {
+        this(DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param batchSize rows per JDBC insert batch
+     */
+    public SalaryAuditReplayer(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Inserts every log record not yet present in salary_audit.
+     * @param auditLog the local audit log
+     * @return number of records replayed
+     * @throws DataAccessException if the log or the table cannot be read or written;
+     *         batches inserted before the failure stay in the table
+     */
+    public int replay(AuditLog auditLog) {
+        int[] count = new int[1];
+        try (Connection conn = DBConnection.getConnection()) {
+            long lastSequence;
+            try (PreparedStatement stmt = conn.prepareStatement(LAST_SEQUENCE_QUERY);
+                 ResultSet rs = stmt.executeQuery()) {
+                rs.next();
+                lastSequence = rs.getLong("last_seq");
+            }
+
+            try (PreparedStatement insertStmt = conn.prepareStatement(INSERT_AUDIT_QUERY)) {
+                auditLog.forEach(lastSequence, record -> {
+                    try {
+                        insertStmt.setLong(1, record.sequence());
+                        insertStmt.setInt(2, record.empId());
+                        insertStmt.setDate(3, Date.valueOf(record.payDate()));
+                        insertStmt.setDouble(4, record.oldSalary());
+                        insertStmt.setDouble(5, record.newSalary());
+                        insertStmt.setTimestamp(6, new Timestamp(record.changedAtMillis()));
+                        insertStmt.addBatch();
+                        if (++count[0] % batchSize == 0) {
+                            insertStmt.executeBatch();
+                        }
+                    } catch (SQLException e) {
+                        // Tunnels out of the Consumer; unwrapped below
+                        throw new IllegalStateException(e);
+                    }
+                });
+                if (count[0] % batchSize != 0) {
+                    insertStmt.executeBatch();
+                }
+            }
+            return count[0];
+        } catch (SQLException | IOException | IllegalStateException e) {
+            Throwable cause = e instanceof IllegalStateException && e.getCause() instanceof SQLException
+                ? e.getCause() : e;
+            String message = "Failed to replay salary audit log after " + count[0] + " records";
+            if (cause instanceof SQLException) {
+                throw new DataAccessException(message, (SQLException) cause);
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            DataAccessException failure = new DataAccessException(message + ": " + cause.getMessage(), false);
+            failure.initCause(cause);
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package src.audit;
+
+/**
+ * SalaryAuditSink receives the before/after value of every committed salary change.
+ * Salary writers reserve room for their rows before committing, so a full sink
+ * fails the write instead of losing its audit records, then record each
+ * committed row and release the room of rows that were not written.
+ */
+public interface SalaryAuditSink {
+    /** Sink that audits nothing. */
+    SalaryAuditSink NO_OP = new SalaryAuditSink() {
+        @Override
+        public void reserve(int records) { }
+
+        @Override
+        public void release(int records) { }
+
+        @Override
+        public void record(int empId, int payEpochDay, double oldSalary, double newSalary) { }
+    };
+
+    /**
+     * Reserves room for records, waiting for the sink to catch up if it is full.
+     * Call before the write commits.
+     * @param records number of records the write may produce
+     * @throws src.database.DataAccessException if no room became available; the write must not commit
+     */
+    void reserve(int records);
+
+    /**
+     * Returns reserved room that will not be used, because rows were not written.
+     * @param records number of unused records
+     */
+    void release(int records);
+
+    /**
+     * Records one committed change, using room reserved earlier. Never blocks.
+     * @param empId employee id
+     * @param payEpochDay pay date of the payroll row, as an epoch day
+     * @param oldSalary salary before the change
+     * @param newSalary salary after the change
+     */
+    void record(int empId, int payEpochDay, double oldSalary, double newSalary);
+}
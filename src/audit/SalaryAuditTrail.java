@@ -0,0 +1,132 @@
+package src.audit;
+
+import src.database.DataAccessException;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SalaryAuditTrail records every salary change in the {@link AuditLog}.
+ * Salary writers enqueue their before/after values straight into the trail's
+ * in-memory queue (see {@link SalaryAuditSink}); a writer thread appends them
+ * to the log in batches, so the update only pays for the enqueue.
+ *
+ * The queue is bounded. Room is reserved before a write commits and freed
+ * once its records are in the log, so records are never dropped: if the log
+ * cannot be written, the batch is retried and writers wait for room, and a
+ * write that finds no room within the enqueue timeout fails before committing.
+ */
+public class SalaryAuditTrail implements SalaryAuditSink {
+    private static final int DEFAULT_MAX_BATCH = 1000;
+    private static final int DEFAULT_CAPACITY = 100_000;
+    private static final long DEFAULT_ENQUEUE_TIMEOUT_MILLIS = 1000;
+    private static final long RETRY_DELAY_MILLIS = 1000;
+
+    private final AuditLog auditLog;
+    private final int maxBatch;
+    private final int capacity;
+    private final long enqueueTimeoutMillis;
+
+    private final Semaphore room;
+    private final LinkedBlockingQueue<SalaryAuditRecord> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public SalaryAuditTrail(AuditLog auditLog) {
+        this(auditLog, DEFAULT_MAX_BATCH, DEFAULT_CAPACITY, DEFAULT_ENQUEUE_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * @param auditLog the log to append to
+     * @param maxBatch most records appended at once
+     * @param capacity most records queued or being written
+     * @param enqueueTimeoutMillis how long a write waits for room before it fails
+     */
+    public SalaryAuditTrail(AuditLog auditLog, int maxBatch, int capacity, long enqueueTimeoutMillis) {
+        if (maxBatch <= 0 || capacity < maxBatch) {
+            throw new IllegalArgumentException("Batch size must be positive and not exceed the queue capacity");
+        }
+        if (enqueueTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Enqueue timeout must be >= 0");
+        }
+        this.auditLog = auditLog;
+        this.maxBatch = maxBatch;
+        this.capacity = capacity;
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+        this.room = new Semaphore(capacity);
+        this.writer = new Thread(this::writeLoop, "salary-audit-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void reserve(int records) {
+        if (records <= 0) {
+            return;
+        }
+        if (records > capacity) {
+            rejected.increment();
+            throw new DataAccessException("Salary change of " + records +
+                " rows exceeds the audit queue capacity of " + capacity, false);
+        }
+        try {
+            if (room.tryAcquire(records, enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.increment();
+        throw new DataAccessException("Salary audit queue is full; change of " + records +
+            " rows not applied", false);
+    }
+
+    @Override
+    public void release(int records) {
+        if (records > 0) {
+            room.release(records);
+        }
+    }
+
+    @Override
+    public void record(int empId, int payEpochDay, double oldSalary, double newSalary) {
+        queue.add(SalaryAuditRecord.of(empId, LocalDate.ofEpochDay(payEpochDay), oldSalary, newSalary,
+            System.currentTimeMillis()));
+    }
+
+    private void writeLoop() {
+        List<SalaryAuditRecord> batch = new ArrayList<>(maxBatch);
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch, maxBatch - 1);
+                // Retried until written; the room stays taken meanwhile, so writers feel the backlog
+                while (true) {
+                    try {
+                        written.add(auditLog.append(batch));
+                        break;
+                    } catch (IOException e) {
+                        System.err.println("Failed to write salary audit batch of " + batch.size() +
+                            " records, retrying: " + e.getMessage());
+                        Thread.sleep(RETRY_DELAY_MILLIS);
+                    }
+                }
+                room.release(batch.size());
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getWrittenCount() { return written.sum(); }
+    public long getRejectedCount() { return rejected.sum(); }
+    public int getQueuedCount() { return capacity - room.availablePermits(); }
+}
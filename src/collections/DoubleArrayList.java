@@ -0,0 +1,82 @@
+package src.collections;
+
+import java.util.Arrays;
+
+/**
+ * DoubleArrayList is a growable list of primitive doubles.
+ * Avoids the per-element Double boxing of {@code List<Double>}.
+ */
+public class DoubleArrayList {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private double[] elements;
+    private int size;
+
+    public DoubleArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DoubleArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must be >= 0");
+        }
+        this.elements = new double[initialCapacity];
+    }
+
+    public void add(double value) {
+        ensureCapacity(size + 1);
+        elements[size++] = value;
+    }
+
+    public double get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    public void set(int index, double value) {
+        checkIndex(index);
+        elements[index] = value;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * @return sum of all elements
+     */
+    public double sum() {
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += elements[i];
+        }
+        return total;
+    }
+
+    /**
+     * @return a trimmed copy of the elements
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(required, Math.max(DEFAULT_CAPACITY, elements.length * 2)));
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
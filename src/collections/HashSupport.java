@@ -0,0 +1,36 @@
+package src.collections;
+
+/**
+ * Hashing helpers shared by the open-addressing collections.
+ */
+final class HashSupport {
+    private HashSupport() {
+    }
+
+    /**
+     * Scrambles sequential keys such as empids so they spread across the table.
+     */
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Folds a 64-bit key into 32 bits before scrambling it.
+     */
+    static int mix(long key) {
+        return mix((int) (key ^ (key >>> 32)));
+    }
+
+    /**
+     * Smallest power-of-two table that holds expectedSize entries under the load factor.
+     */
+    static int tableSizeFor(int expectedSize, float loadFactor) {
+        long required = (long) Math.ceil(Math.max(expectedSize, 1) / (double) loadFactor);
+        int capacity = 8;
+        while (capacity < required && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,102 @@
+package src.collections;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * IntArrayList is a growable list of primitive ints.
+ * Avoids the per-element Integer boxing of {@code List<Integer>}.
+ */
+public class IntArrayList {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] elements;
+    private int size;
+
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must be >= 0");
+        }
+        this.elements = new int[initialCapacity];
+    }
+
+    /**
+     * Creates a list holding a copy of the given values.
+     * @param values the initial values
+     * @return new list
+     */
+    public static IntArrayList of(int... values) {
+        IntArrayList list = new IntArrayList(values.length);
+        list.addAll(values);
+        return list;
+    }
+
+    public void add(int value) {
+        ensureCapacity(size + 1);
+        elements[size++] = value;
+    }
+
+    public void addAll(int[] values) {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+    }
+
+    public int get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    public void set(int index, int value) {
+        checkIndex(index);
+        elements[index] = value;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Sorts the elements in ascending order.
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    /**
+     * @return a trimmed copy of the elements
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(required, Math.max(DEFAULT_CAPACITY, elements.length * 2)));
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
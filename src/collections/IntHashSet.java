@@ -0,0 +1,163 @@
+package src.collections;
+
+import java.util.function.IntConsumer;
+
+/**
+ * IntHashSet is a set of primitive ints.
+ * Uses open addressing with linear probing; 0 is the empty-slot marker in the
+ * table and is tracked with a separate flag when it is a member.
+ * Not thread-safe.
+ */
+public class IntHashSet {
+    private static final float MAX_LOAD_FACTOR = 0.5f;
+    private static final int EMPTY = 0;
+
+    private int[] keys;
+    private int size;
+    private boolean containsZero;
+
+    public IntHashSet() {
+        this(8);
+    }
+
+    public IntHashSet(int expectedSize) {
+        keys = new int[HashSupport.tableSizeFor(expectedSize, MAX_LOAD_FACTOR)];
+    }
+
+    /**
+     * Creates a set holding the given values.
+     * @param values the values
+     * @return new set
+     */
+    public static IntHashSet of(int... values) {
+        IntHashSet set = new IntHashSet(values.length);
+        for (int value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    /**
+     * @param value the value to add
+     * @return true if the set did not already contain the value
+     */
+    public boolean add(int value) {
+        if (value == EMPTY) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        if (size + 1 > keys.length * MAX_LOAD_FACTOR) {
+            resize(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        int slot = HashSupport.mix(value) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = value;
+        size++;
+        return true;
+    }
+
+    public boolean contains(int value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+        return findSlot(value) >= 0;
+    }
+
+    /**
+     * @param value the value to remove
+     * @return true if the value was present
+     */
+    public boolean remove(int value) {
+        if (value == EMPTY) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int slot = findSlot(value);
+        if (slot < 0) {
+            return false;
+        }
+
+        int mask = keys.length - 1;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = HashSupport.mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+        size--;
+        return true;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    public void forEach(IntConsumer action) {
+        if (containsZero) {
+            action.accept(EMPTY);
+        }
+        for (int key : keys) {
+            if (key != EMPTY) {
+                action.accept(key);
+            }
+        }
+    }
+
+    /**
+     * @return the members in no particular order
+     */
+    public int[] toArray() {
+        int[] result = new int[size];
+        int n = 0;
+        if (containsZero) {
+            result[n++] = EMPTY;
+        }
+        for (int key : keys) {
+            if (key != EMPTY) {
+                result[n++] = key;
+            }
+        }
+        return result;
+    }
+
+    private int findSlot(int value) {
+        int mask = keys.length - 1;
+        int slot = HashSupport.mix(value) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == value) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        keys = new int[capacity];
+        size = containsZero ? 1 : 0;
+        for (int key : oldKeys) {
+            if (key != EMPTY) {
+                add(key);
+            }
+        }
+    }
+}
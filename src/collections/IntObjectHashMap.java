@@ -0,0 +1,199 @@
+package src.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * IntObjectHashMap maps primitive int keys to object values.
+ * Uses open addressing with linear probing over parallel key/value arrays,
+ * so there is no Integer boxing and no per-entry node object. Removals use
+ * backward-shift deletion, keeping probe runs short without tombstones.
+ *
+ * Null values are not permitted; a null slot marks an empty bucket.
+ * Not thread-safe.
+ *
+ * @param <V> the value type
+ */
+public class IntObjectHashMap<V> {
+    private static final float MAX_LOAD_FACTOR = 0.5f;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+
+    public IntObjectHashMap() {
+        this(8);
+    }
+
+    public IntObjectHashMap(int expectedSize) {
+        allocate(HashSupport.tableSizeFor(expectedSize, MAX_LOAD_FACTOR));
+    }
+
+    /**
+     * Associates a value with a key, replacing any previous value.
+     * @param key the key
+     * @param value the value (must not be null)
+     * @return the previous value, or null if there was none
+     */
+    public V put(int key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Null values are not supported");
+        }
+        if (size + 1 > keys.length * MAX_LOAD_FACTOR) {
+            resize(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        int slot = HashSupport.mix(key) & mask;
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                V previous = valueAt(slot);
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        return null;
+    }
+
+    /**
+     * @param key the key
+     * @return the value, or null if the key is absent
+     */
+    public V get(int key) {
+        int slot = findSlot(key);
+        return slot < 0 ? null : valueAt(slot);
+    }
+
+    public V getOrDefault(int key, V defaultValue) {
+        V value = get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    public boolean containsKey(int key) {
+        return findSlot(key) >= 0;
+    }
+
+    /**
+     * Removes a key.
+     * @param key the key
+     * @return the removed value, or null if the key was absent
+     */
+    public V remove(int key) {
+        int slot = findSlot(key);
+        if (slot < 0) {
+            return null;
+        }
+        V removed = valueAt(slot);
+
+        int mask = keys.length - 1;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (values[next] != null) {
+            int home = HashSupport.mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = 0;
+        values[gap] = null;
+        size--;
+        return removed;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    public void clear() {
+        allocate(keys.length);
+    }
+
+    /**
+     * Visits every entry in table order.
+     * @param action callback receiving each key and value
+     */
+    public void forEach(IntObjectConsumer<? super V> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null) {
+                action.accept(keys[i], valueAt(i));
+            }
+        }
+    }
+
+    /**
+     * @return all keys in table order
+     */
+    public int[] keys() {
+        int[] result = new int[size];
+        int n = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null) {
+                result[n++] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return all values in table order
+     */
+    public List<V> values() {
+        List<V> result = new ArrayList<>(size);
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null) {
+                result.add(valueAt(i));
+            }
+        }
+        return result;
+    }
+
+    private int findSlot(int key) {
+        int mask = keys.length - 1;
+        int slot = HashSupport.mix(key) & mask;
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int slot) {
+        return (V) values[slot];
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                @SuppressWarnings("unchecked")
+                V value = (V) oldValues[i];
+                put(oldKeys[i], value);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        size = 0;
+    }
+
+    /**
+     * Callback for {@link #forEach}.
+     * @param <V> the value type
+     */
+    @FunctionalInterface
+    public interface IntObjectConsumer<V> {
+        void accept(int key, V value);
+    }
+}
@@ -0,0 +1,147 @@
+package src.collections;
+
+/**
+ * LongIntHashMap maps primitive long keys to primitive int values.
+ * Uses open addressing with linear probing over parallel key/value arrays;
+ * 0 is the empty-slot marker in the table and is tracked separately when it
+ * is a key. Removals use backward-shift deletion, so no tombstones accumulate.
+ * Not thread-safe.
+ */
+public class LongIntHashMap {
+    private static final float MAX_LOAD_FACTOR = 0.5f;
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private boolean containsZero;
+    private int zeroValue;
+
+    public LongIntHashMap() {
+        this(8);
+    }
+
+    public LongIntHashMap(int expectedSize) {
+        allocate(HashSupport.tableSizeFor(expectedSize, MAX_LOAD_FACTOR));
+    }
+
+    /**
+     * Associates a value with a key, replacing any previous value.
+     * @param key the key
+     * @param value the value
+     * @return true if the key was not present before
+     */
+    public boolean put(long key, int value) {
+        if (key == EMPTY) {
+            boolean added = !containsZero;
+            if (added) {
+                containsZero = true;
+                size++;
+            }
+            zeroValue = value;
+            return added;
+        }
+        if (size + 1 > keys.length * MAX_LOAD_FACTOR) {
+            resize(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        int slot = HashSupport.mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        return true;
+    }
+
+    /**
+     * @param key the key
+     * @param defaultValue value returned when the key is absent
+     * @return the value, or defaultValue if the key is absent
+     */
+    public int getOrDefault(long key, int defaultValue) {
+        if (key == EMPTY) {
+            return containsZero ? zeroValue : defaultValue;
+        }
+        int slot = findSlot(key);
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    public boolean containsKey(long key) {
+        return key == EMPTY ? containsZero : findSlot(key) >= 0;
+    }
+
+    /**
+     * Removes a key.
+     * @param key the key
+     * @return true if the key was present
+     */
+    public boolean remove(long key) {
+        if (key == EMPTY) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int slot = findSlot(key);
+        if (slot < 0) {
+            return false;
+        }
+
+        int mask = keys.length - 1;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = HashSupport.mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+        values[gap] = 0;
+        size--;
+        return true;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    private int findSlot(long key) {
+        int mask = keys.length - 1;
+        int slot = HashSupport.mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        size = containsZero ? 1 : 0;
+    }
+}
@@ -0,0 +1,203 @@
+package src.config;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * AppConfig is an immutable, validated snapshot of every {@link ConfigKey}.
+ * Single Responsibility: resolves settings from their sources; applying them
+ * is left to the components that use them.
+ *
+ * Layers, lowest precedence first: built-in defaults, the properties file,
+ * environment variables (COMPANYZ_DB_POOLSIZE for companyz.db.poolSize) and
+ * system properties. Validation collects every problem before failing, and
+ * unknown companyz.* keys in the file are reported so typos do not go unnoticed.
+ */
+public final class AppConfig {
+    private final Map<ConfigKey, Object> values;
+    private final Map<ConfigKey, String> sources;
+
+    private AppConfig(Map<ConfigKey, Object> values, Map<ConfigKey, String> sources) {
+        this.values = values;
+        this.sources = sources;
+    }
+
+    /**
+     * @return the built-in defaults only
+     */
+    public static AppConfig defaults() {
+        return load(null, Map.of(), new Properties());
+    }
+
+    /**
+     * Loads from a file, the process environment and the system properties.
+     * @param file properties file, or null for none
+     * @return the validated configuration
+     * @throws ConfigException if the file cannot be read or any value is invalid
+     */
+    public static AppConfig load(Path file) {
+        return load(file, System.getenv(), System.getProperties());
+    }
+
+    static AppConfig load(Path file, Map<String, String> env, Properties systemProperties) {
+        List<String> problems = new ArrayList<>();
+        Properties fileProperties = new Properties();
+        if (file != null) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                fileProperties.load(reader);
+            } catch (IOException e) {
+                throw new ConfigException(List.of("Cannot read " + file + ": " + e.getMessage()));
+            }
+            for (String name : fileProperties.stringPropertyNames()) {
+                if (name.startsWith("companyz.") && ConfigKey.fromKey(name) == null) {
+                    problems.add(name + " (in " + file + "): unknown setting");
+                }
+            }
+        }
+
+        Map<ConfigKey, Object> values = new EnumMap<>(ConfigKey.class);
+        Map<ConfigKey, String> sources = new EnumMap<>(ConfigKey.class);
+        for (ConfigKey key : ConfigKey.values()) {
+            String raw = key.getDefaultValue();
+            String source = "default";
+            String layered;
+            if ((layered = specified(key, fileProperties.getProperty(key.getKey()))) != null) {
+                raw = layered;
+                source = "file " + file;
+            }
+            if ((layered = specified(key, env.get(key.getEnvName()))) != null) {
+                raw = layered;
+                source = "env " + key.getEnvName();
+            }
+            if ((layered = specified(key, systemProperties.getProperty(key.getKey()))) != null) {
+                raw = layered;
+                source = "-D" + key.getKey();
+            }
+
+            sources.put(key, source);
+            if (raw == null) {
+                continue;
+            }
+            try {
+                values.put(key, key.parse(raw));
+            } catch (IllegalArgumentException e) {
+                problems.add(key.getKey() + " (from " + source + "): " + e.getMessage());
+            }
+        }
+
+        if (!problems.isEmpty()) {
+            throw new ConfigException(problems);
+        }
+        return new AppConfig(values, sources);
+    }
+
+    /**
+     * Blank typed values count as not specified, so an empty line in the file
+     * falls back to the next lower layer; blank strings are kept as given.
+     */
+    private static String specified(ConfigKey key, String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String trimmed = raw.trim();
+        boolean textual = key.getType() == ConfigKey.Type.STRING || key.getType() == ConfigKey.Type.SECRET;
+        return trimmed.isEmpty() && !textual ? null : trimmed;
+    }
+
+    /**
+     * @return true if the setting has a value; only settings without a default can be unset
+     */
+    public boolean isSet(ConfigKey key) {
+        return values.containsKey(key);
+    }
+
+    public String getString(ConfigKey key) {
+        return (String) require(key);
+    }
+
+    public int getInt(ConfigKey key) {
+        return (Integer) require(key);
+    }
+
+    public long getLong(ConfigKey key) {
+        return (Long) require(key);
+    }
+
+    public boolean getBoolean(ConfigKey key) {
+        return (Boolean) require(key);
+    }
+
+    public <E extends Enum<E>> E getEnum(ConfigKey key, Class<E> type) {
+        return type.cast(require(key));
+    }
+
+    private Object require(ConfigKey key) {
+        Object value = values.get(key);
+        if (value == null) {
+            throw new IllegalStateException(key.getKey() + " is not set");
+        }
+        return value;
+    }
+
+    /**
+     * @return where the effective value came from, e.g. "default" or "-Dcompanyz.db.poolSize"
+     */
+    public String getSource(ConfigKey key) {
+        return sources.get(key);
+    }
+
+    /**
+     * @return the settings whose values differ between this snapshot and another
+     */
+    public Set<ConfigKey> changedKeys(AppConfig other) {
+        Set<ConfigKey> changed = EnumSet.noneOf(ConfigKey.class);
+        for (ConfigKey key : ConfigKey.values()) {
+            if (!Objects.equals(values.get(key), other.values.get(key))) {
+                changed.add(key);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * @return a copy of this snapshot with the given settings taken from another
+     */
+    AppConfig withValuesFrom(AppConfig other, Set<ConfigKey> keys) {
+        Map<ConfigKey, Object> mergedValues = new EnumMap<>(values);
+        Map<ConfigKey, String> mergedSources = new EnumMap<>(sources);
+        for (ConfigKey key : keys) {
+            if (other.values.containsKey(key)) {
+                mergedValues.put(key, other.values.get(key));
+            } else {
+                mergedValues.remove(key);
+            }
+            mergedSources.put(key, other.sources.get(key));
+        }
+        return new AppConfig(mergedValues, mergedSources);
+    }
+
+    /**
+     * @return one line per setting with its value and source; secrets are masked
+     */
+    public String describe() {
+        StringBuilder out = new StringBuilder();
+        for (ConfigKey key : ConfigKey.values()) {
+            Object value = values.get(key);
+            String shown = value == null ? "(unset)" : key.isSecret() ? "****" : value.toString();
+            out.append(key.getKey()).append(" = ").append(shown)
+               .append("  [").append(sources.get(key)).append("]\n");
+        }
+        return out.toString();
+    }
+}
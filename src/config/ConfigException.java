@@ -0,0 +1,22 @@
+package src.config;
+
+import java.util.List;
+
+/**
+ * Raised when configuration cannot be loaded or fails validation.
+ * Carries every problem found, not just the first.
+ */
+public class ConfigException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final List<String> problems;
+
+    public ConfigException(List<String> problems) {
+        super("Invalid configuration:\n  " + String.join("\n  ", problems));
+        this.problems = List.copyOf(problems);
+    }
+
+    public List<String> getProblems() {
+        return problems;
+    }
+}
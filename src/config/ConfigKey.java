@@ -0,0 +1,155 @@
+package src.config;
+
+import src.audit.FsyncPolicy;
+import src.database.DBConnection;
+import src.database.DatabaseProfile;
+import src.database.EmbeddedDatabase;
+
+/**
+ * ConfigKey lists every setting the application reads, with its default,
+ * type, allowed range and whether it may change while the application runs.
+ *
+ * Reloadable settings are pushed to running components on reload; changes to
+ * the others are reported and take effect after a restart.
+ */
+public enum ConfigKey {
+    DB_PROFILE("companyz.db.profile", DatabaseProfile.MYSQL.name(), DatabaseProfile.class),
+    DB_URL("companyz.db.url", DBConnection.DEFAULT_URL, Type.STRING),
+    DB_USER("companyz.db.user", DBConnection.DEFAULT_USER, Type.STRING),
+    DB_PASSWORD("companyz.db.password", DBConnection.DEFAULT_PASSWORD, Type.SECRET),
+    DB_EMBEDDED_URL("companyz.db.embeddedUrl", EmbeddedDatabase.DEFAULT_URL, Type.STRING),
+    DB_EMBEDDED_SCRIPTS("companyz.db.embeddedScripts", "db/embedded", Type.STRING),
+    DB_POOL_SIZE("companyz.db.poolSize", "10", Type.INT, 1, 1000, false),
+    DB_CONNECT_TIMEOUT_MILLIS("companyz.db.connectTimeoutMillis", "5000", Type.LONG, 1, Integer.MAX_VALUE, false),
+    DB_FETCH_SIZE("companyz.db.fetchSize", "1000", Type.INT, 1, 1_000_000, true),
+    DB_STREAMING_THRESHOLD_ROWS("companyz.db.streamingThresholdRows", "1000", Type.LONG, 0, Long.MAX_VALUE, true),
+    DB_BATCH_SIZE("companyz.db.batchSize", "500", Type.INT, 1, 100_000, true),
+    DB_DEADLINE_MILLIS("companyz.db.deadlineMillis", "3000", Type.LONG, 1, Long.MAX_VALUE, false),
+    DB_REPORT_DEADLINE_MILLIS("companyz.db.reportDeadlineMillis", "10000", Type.LONG, 1, Long.MAX_VALUE, false),
+    DB_HEALTH_CHECK_INTERVAL_MILLIS("companyz.db.healthCheckIntervalMillis", "5000", Type.LONG, 1, Long.MAX_VALUE, false),
+    DB_REPLICAS("companyz.db.replicas", "", Type.STRING),
+    DB_REPLICA_MAX_LAG_MILLIS("companyz.db.replicaMaxLagMillis", "5000", Type.LONG, 0, Long.MAX_VALUE, false),
+    DB_REPLICA_ASSUME_CURRENT("companyz.db.replicaAssumeCurrent", "false", Type.BOOLEAN),
+    DB_SLOW_QUERY_MILLIS("companyz.db.slowQueryMillis", null, Type.LONG, 0, Long.MAX_VALUE, true),
+    DB_SLOW_QUERY_SAMPLE_EVERY("companyz.db.slowQuerySampleEvery", "0", Type.INT, 0, Integer.MAX_VALUE, true),
+    DB_SLOW_QUERY_LOG("companyz.db.slowQueryLog", "logs/slow-query.log", Type.STRING),
+    CACHE_PAY_HISTORY_BYTES("companyz.cache.payHistoryBytes", String.valueOf(8L * 1024 * 1024), Type.LONG, 1, Long.MAX_VALUE, true),
+    CACHE_REFERENCE_DATA_TTL_MILLIS("companyz.cache.referenceDataTtlMillis", "300000", Type.LONG, 1, Long.MAX_VALUE, true),
+    AUDIT_DIR("companyz.audit.dir", "logs/audit", Type.STRING),
+    AUDIT_FSYNC("companyz.audit.fsync", FsyncPolicy.EVERY_BATCH.name(), FsyncPolicy.class),
+    AUDIT_FSYNC_INTERVAL_MILLIS("companyz.audit.fsyncIntervalMillis", "1000", Type.LONG, 1, Long.MAX_VALUE, false),
+    AUDIT_SEGMENT_BYTES("companyz.audit.segmentBytes", String.valueOf(64L * 1024 * 1024), Type.LONG, 1, Long.MAX_VALUE, false),
+    AUDIT_BATCH_SIZE("companyz.audit.batchSize", "1000", Type.INT, 1, 1_000_000, false),
+    AUDIT_QUEUE_CAPACITY("companyz.audit.queueCapacity", "100000", Type.INT, 1, Integer.MAX_VALUE, false),
+    AUDIT_ENQUEUE_TIMEOUT_MILLIS("companyz.audit.enqueueTimeoutMillis", "1000", Type.LONG, 0, Long.MAX_VALUE, false),
+    AUDIT_REPLAY("companyz.audit.replay", "false", Type.BOOLEAN),
+    METRICS_DUMP_INTERVAL_SECONDS("companyz.metrics.dumpIntervalSeconds", "0", Type.LONG, 0, Long.MAX_VALUE, false),
+    METRICS_PORT("companyz.metrics.port", null, Type.INT, 1, 65535, false),
+    CONFIG_RELOAD_INTERVAL_SECONDS("companyz.config.reloadIntervalSeconds", "10", Type.LONG, 0, Long.MAX_VALUE, false);
+
+    public enum Type { STRING, SECRET, INT, LONG, BOOLEAN, ENUM }
+
+    private final String key;
+    private final String defaultValue;
+    private final Type type;
+    private final long min;
+    private final long max;
+    private final boolean reloadable;
+    private final Class<? extends Enum<?>> enumType;
+
+    ConfigKey(String key, String defaultValue, Type type) {
+        this(key, defaultValue, type, Long.MIN_VALUE, Long.MAX_VALUE, false, null);
+    }
+
+    ConfigKey(String key, String defaultValue, Type type, long min, long max, boolean reloadable) {
+        this(key, defaultValue, type, min, max, reloadable, null);
+    }
+
+    ConfigKey(String key, String defaultValue, Class<? extends Enum<?>> enumType) {
+        this(key, defaultValue, Type.ENUM, Long.MIN_VALUE, Long.MAX_VALUE, false, enumType);
+    }
+
+    ConfigKey(String key, String defaultValue, Type type, long min, long max, boolean reloadable,
+              Class<? extends Enum<?>> enumType) {
+        this.key = key;
+        this.defaultValue = defaultValue;
+        this.type = type;
+        this.min = min;
+        this.max = max;
+        this.reloadable = reloadable;
+        this.enumType = enumType;
+    }
+
+    /**
+     * @return the property name, e.g. companyz.db.poolSize
+     */
+    public String getKey() { return key; }
+
+    /**
+     * @return the environment variable name, e.g. COMPANYZ_DB_POOLSIZE
+     */
+    public String getEnvName() { return key.toUpperCase().replace('.', '_'); }
+
+    /**
+     * @return the default as text, or null if the setting is unset by default
+     */
+    public String getDefaultValue() { return defaultValue; }
+
+    public Type getType() { return type; }
+    public boolean isReloadable() { return reloadable; }
+    public boolean isSecret() { return type == Type.SECRET; }
+
+    /**
+     * Parses and range-checks a raw value.
+     * @param raw trimmed text from a configuration layer
+     * @return the typed value
+     * @throws IllegalArgumentException with a readable message if the value is invalid
+     */
+    Object parse(String raw) {
+        switch (type) {
+            case INT:
+            case LONG:
+                long number;
+                try {
+                    number = Long.parseLong(raw);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("expected a whole number but was '" + raw + "'");
+                }
+                if (number < min || number > max) {
+                    throw new IllegalArgumentException("must be between " + min + " and " + max + " but was " + number);
+                }
+                if (type == Type.INT) {
+                    return Integer.valueOf((int) number);
+                }
+                return Long.valueOf(number);
+            case BOOLEAN:
+                if (!"true".equalsIgnoreCase(raw) && !"false".equalsIgnoreCase(raw)) {
+                    throw new IllegalArgumentException("expected true or false but was '" + raw + "'");
+                }
+                return Boolean.valueOf(raw);
+            case ENUM:
+                for (Enum<?> constant : enumType.getEnumConstants()) {
+                    if (constant.name().equalsIgnoreCase(raw)) {
+                        return constant;
+                    }
+                }
+                throw new IllegalArgumentException("expected one of " +
+                    java.util.Arrays.toString(enumType.getEnumConstants()) + " but was '" + raw + "'");
+            default:
+                return raw;
+        }
+    }
+
+    /**
+     * @param key property name
+     * @return the matching ConfigKey, or null if the name is not a known setting
+     */
+    public static ConfigKey fromKey(String key) {
+        for (ConfigKey configKey : values()) {
+            if (configKey.key.equals(key)) {
+                return configKey;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,168 @@
+package src.config;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * ConfigManager holds the current {@link AppConfig} and reloads it when the
+ * properties file changes.
+ *
+ * A reload that fails validation is logged and leaves the current snapshot in
+ * place. Settings that are not reloadable keep their startup values; changing
+ * them only produces a "restart required" message. Listeners are called with
+ * the new snapshot after every reload that changed a reloadable setting.
+ */
+public class ConfigManager implements AutoCloseable {
+    public static final String FILE_PROPERTY = "companyz.config";
+    public static final String FILE_ENV = "COMPANYZ_CONFIG";
+    private static final String DEFAULT_FILE = "companyz.properties";
+
+    private final Path file;
+    private final List<Consumer<AppConfig>> listeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService watcher;
+    private volatile AppConfig current;
+    private FileTime lastModified;
+
+    /**
+     * Loads the initial configuration.
+     * @param file properties file, or null to use defaults, environment and system properties only
+     * @throws ConfigException if the file cannot be read or a value is invalid
+     */
+    public ConfigManager(Path file) {
+        this.file = file;
+        this.lastModified = modifiedTime();
+        this.current = AppConfig.load(file);
+        this.watcher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "config-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Finds the properties file: -Dcompanyz.config, then COMPANYZ_CONFIG, then
+     * companyz.properties in the working directory if it exists.
+     * @return the file to load, or null if none is configured or present
+     * @throws ConfigException if an explicitly named file does not exist
+     */
+    public static Path locateFile() {
+        String configured = System.getProperty(FILE_PROPERTY, System.getenv(FILE_ENV));
+        if (configured != null && !configured.isBlank()) {
+            Path path = Paths.get(configured.trim());
+            if (!Files.isRegularFile(path)) {
+                throw new ConfigException(List.of("Configuration file " + path + " does not exist"));
+            }
+            return path;
+        }
+        Path fallback = Paths.get(DEFAULT_FILE);
+        return Files.isRegularFile(fallback) ? fallback : null;
+    }
+
+    public AppConfig current() {
+        return current;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public void addListener(Consumer<AppConfig> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Checks the file for changes every interval and reloads when it changed.
+     * @param intervalSeconds seconds between checks; 0 disables watching
+     */
+    public void startWatching(long intervalSeconds) {
+        if (file == null || intervalSeconds <= 0) {
+            return;
+        }
+        watcher.scheduleWithFixedDelay(() -> {
+            FileTime modified = modifiedTime();
+            if (modified != null && !modified.equals(lastModified)) {
+                lastModified = modified;
+                reload();
+            }
+        }, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Reloads all layers and applies the reloadable changes.
+     * @return true if any reloadable setting changed
+     */
+    public synchronized boolean reload() {
+        AppConfig fresh;
+        try {
+            fresh = AppConfig.load(file);
+        } catch (ConfigException e) {
+            System.err.println("Configuration reload rejected, keeping current settings. " + e.getMessage());
+            return false;
+        }
+
+        AppConfig previous = current;
+        Set<ConfigKey> restartRequired = EnumSet.noneOf(ConfigKey.class);
+        for (ConfigKey key : fresh.changedKeys(previous)) {
+            if (!key.isReloadable()) {
+                restartRequired.add(key);
+            }
+        }
+        if (!restartRequired.isEmpty()) {
+            System.err.println("Configuration changes that take effect after a restart: " + keyNames(restartRequired));
+        }
+
+        AppConfig applied = fresh.withValuesFrom(previous, restartRequired);
+        Set<ConfigKey> changed = applied.changedKeys(previous);
+        if (changed.isEmpty()) {
+            return false;
+        }
+        current = applied;
+        System.out.println("Configuration reloaded: " + keyNames(changed));
+        for (Consumer<AppConfig> listener : listeners) {
+            try {
+                listener.accept(applied);
+            } catch (RuntimeException e) {
+                System.err.println("Configuration listener failed: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private FileTime modifiedTime() {
+        if (file == null) {
+            return null;
+        }
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static String keyNames(Set<ConfigKey> keys) {
+        StringBuilder names = new StringBuilder();
+        for (ConfigKey key : keys) {
+            if (names.length() > 0) {
+                names.append(", ");
+            }
+            names.append(key.getKey());
+        }
+        return names.toString();
+    }
+
+    @Override
+    public void close() {
+        watcher.shutdownNow();
+    }
+}
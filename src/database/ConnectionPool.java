@@ -0,0 +1,227 @@
+package src.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ConnectionPool keeps a bounded set of physical connections to one data source.
+ * Single Responsibility: reuses connections; routing between data sources is
+ * done by {@link DBConnection}.
+ *
+ * Borrowed connections are returned to the pool on close(). An open transaction
+ * is rolled back on return, and a connection that raised a connection-level
+ * error (SQLState 08) is discarded instead of reused. Idle connections are
+ * validated before reuse once they have been idle for a few seconds.
+ */
+public class ConnectionPool implements AutoCloseable {
+    private static final long VALIDATE_AFTER_IDLE_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSourceConfig config;
+    private final int networkTimeoutMillis;
+    private final Runnable onCommit;
+    private final Semaphore permits;
+    private final Deque<IdleConnection> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger openCount = new AtomicInteger();
+    private volatile boolean closed;
+
+    private record IdleConnection(Connection connection, long returnedAtNanos) { }
+
+    /**
+     * @param config endpoint and pool size
+     * @param networkTimeoutMillis socket timeout applied to every physical connection
+     * @param onCommit called after each successful commit on a borrowed connection, or null
+     */
+    public ConnectionPool(DataSourceConfig config, int networkTimeoutMillis, Runnable onCommit) {
+        this.config = config;
+        this.networkTimeoutMillis = networkTimeoutMillis;
+        this.onCommit = onCommit;
+        this.permits = new Semaphore(config.maxPoolSize(), true);
+    }
+
+    /**
+     * Borrows a connection, opening a new one if no idle connection is usable.
+     * @param waitMillis how long to wait for a free slot when the pool is exhausted
+     * @return pooled connection; close it to return it
+     * @throws SQLException if no slot frees up in time or a new connection cannot be opened
+     */
+    public Connection borrow(long waitMillis) throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool " + config.name() + " is closed");
+        }
+        try {
+            if (!permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("No free connection in pool " + config.name() +
+                    " after " + waitMillis + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted waiting for pool " + config.name());
+        }
+
+        try {
+            return wrap(takeIdleOrOpen());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private Connection takeIdleOrOpen() throws SQLException {
+        IdleConnection candidate;
+        while ((candidate = idle.pollFirst()) != null) {
+            Connection connection = candidate.connection();
+            boolean stale = System.nanoTime() - candidate.returnedAtNanos() > VALIDATE_AFTER_IDLE_NANOS;
+            if (!stale || isUsable(connection)) {
+                return connection;
+            }
+            discard(connection);
+        }
+
+        Connection connection = DriverManager.getConnection(config.url(), config.user(), config.password());
+        openCount.incrementAndGet();
+        try {
+            connection.setNetworkTimeout(null, networkTimeoutMillis);
+        } catch (SQLFeatureNotSupportedException e) {
+            // Embedded drivers have no socket to time out
+        } catch (SQLException e) {
+            discard(connection);
+            throw e;
+        }
+        return connection;
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            new PooledConnectionHandler(connection));
+    }
+
+    private void giveBack(Connection connection, boolean broken) {
+        try {
+            if (broken || closed || connection.isClosed()) {
+                discard(connection);
+                return;
+            }
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            if (connection.isReadOnly()) {
+                connection.setReadOnly(false);
+            }
+            idle.addFirst(new IdleConnection(connection, System.nanoTime()));
+        } catch (SQLException e) {
+            discard(connection);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static boolean isUsable(Connection connection) {
+        try {
+            return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void discard(Connection connection) {
+        openCount.decrementAndGet();
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            // Already broken; nothing left to release
+        }
+    }
+
+    public DataSourceConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * @return physical connections currently open, idle or borrowed
+     */
+    public int getOpenCount() {
+        return openCount.get();
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Closes idle connections; borrowed connections are closed when returned.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        IdleConnection candidate;
+        while ((candidate = idle.pollFirst()) != null) {
+            discard(candidate.connection());
+        }
+    }
+
+    private class PooledConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+        private boolean returned;
+        private boolean broken;
+
+        PooledConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        giveBack(connection, broken);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled[" + config.name() + "]" + connection;
+                default:
+                    break;
+            }
+            if (returned) {
+                throw new SQLException("Connection has been returned to pool " + config.name());
+            }
+
+            try {
+                Object result = method.invoke(connection, args);
+                if (onCommit != null && "commit".equals(method.getName())) {
+                    onCommit.run();
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException sqlException) {
+                    String state = sqlException.getSQLState();
+                    broken |= state != null && state.startsWith("08");
+                }
+                throw cause;
+            }
+        }
+    }
+}
@@ -1,23 +1,47 @@
 package src.database;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * DBConnection provides database connectivity.
  * Encapsulates database configuration with proper error handling.
  * Single Responsibility: manages database connections only.
  * 
- * Future enhancement: Implement connection pooling (HikariCP, C3P0)
- * for better resource management in production environments.
+ * Connections come from a pool per data source. Writes and consistency-critical
+ * reads use the primary through getConnection(); read-only queries that tolerate
+ * bounded staleness use getReadConnection(), which goes to a replica when one
+ * is configured and within its lag bound.
+ *
+ * Read-your-writes: every commit on a primary connection starts a stickiness
+ * window during which getReadConnection() returns primary connections. The
+ * desktop client runs one user per process, so the window is process-wide.
  */
 public class DBConnection {
-    private static final String URL = "jdbc:mysql://localhost:3306/employeeData";
-    private static final String USER = "XXX"; // CHANGE THIS
-    private static final String PASSWORD = "XXX"; // CHANGE THIS
+    // Defaults; override with companyz.db.url, companyz.db.user and companyz.db.password
+    public static final String DEFAULT_URL = "jdbc:mysql://localhost:3306/employeeData";
+    public static final String DEFAULT_USER = "XXX";
+    public static final String DEFAULT_PASSWORD = "XXX";
     
-    private static final int CONNECTION_TIMEOUT = 5000;
+    private static final int DEFAULT_CONNECTION_TIMEOUT = 5000;
+    private static final int DEFAULT_POOL_SIZE = 10;
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private static volatile int connectionTimeout = DEFAULT_CONNECTION_TIMEOUT;
+    private static volatile int fetchSize = DEFAULT_FETCH_SIZE;
+    private static volatile ConnectionPool primaryPool = new ConnectionPool(
+        new DataSourceConfig("primary", DEFAULT_URL, DEFAULT_USER, DEFAULT_PASSWORD, DEFAULT_POOL_SIZE),
+        DEFAULT_CONNECTION_TIMEOUT, DBConnection::recordWrite);
+
+    // Null when no replicas are configured
+    private static volatile ReplicaRouter replicaRouter;
+    private static volatile long stickinessMillis;
+    private static volatile long lastWriteMillis;
+
+    // Optional SQL tracing; null means connections are returned unwrapped
+    private static volatile QueryTracer queryTracer;
 
     private DBConnection() {
         // Private constructor prevents instantiation
@@ -25,19 +49,132 @@ public class DBConnection {
     }
 
     /**
-     * Gets a database connection with configured timeout.
-     * @return Connection to the employee database
+     * Gets a primary database connection with configured timeout.
+     * @return Connection to the employee database; close it to return it to the pool
      * @throws SQLException if connection fails
      */
     public static Connection getConnection() throws SQLException {
         try {
-            Connection conn = DriverManager.getConnection(URL, USER, PASSWORD);
-            conn.setNetworkTimeout(null, CONNECTION_TIMEOUT);
-            return conn;
+            return trace(primaryPool.borrow(connectionTimeout));
         } catch (SQLException e) {
             System.err.println("Database connection failed. Verify credentials and MySQL server is running.");
-            throw new SQLException("Failed to establish database connection: " + e.getMessage(), e);
+            throw new SQLException("Failed to establish database connection: " + e.getMessage(),
+                e.getSQLState(), e.getErrorCode(), e);
+        }
+    }
+
+    /**
+     * Gets a connection for a read-only query that tolerates replication lag
+     * up to the configured bound. Falls back to the primary when no replica is
+     * configured or usable, or within the stickiness window after a commit.
+     * @return Connection to a replica or the primary
+     * @throws SQLException if connection fails
+     */
+    public static Connection getReadConnection() throws SQLException {
+        ReplicaRouter router = replicaRouter;
+        if (router != null && System.currentTimeMillis() - lastWriteMillis >= stickinessMillis) {
+            Connection replica = router.borrow(connectionTimeout);
+            if (replica != null) {
+                return trace(replica);
+            }
+        }
+        return getConnection();
+    }
+
+    /**
+     * Replaces the primary pool. Idle connections of the previous pool are closed.
+     * @param primary primary endpoint and pool size
+     * @param connectionTimeoutMillis pool wait and socket timeout, also used for replicas configured afterwards
+     */
+    public static void configurePrimary(DataSourceConfig primary, int connectionTimeoutMillis) {
+        if (connectionTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Connection timeout must be positive");
+        }
+        connectionTimeout = connectionTimeoutMillis;
+        ConnectionPool previous = primaryPool;
+        primaryPool = new ConnectionPool(primary, connectionTimeoutMillis, DBConnection::recordWrite);
+        previous.close();
+    }
+
+    /**
+     * Sets the rows per round trip used by {@link FetchStrategy#CURSOR} reads, and by
+     * {@link FetchStrategy#STREAMING} reads on drivers other than MySQL.
+     * Takes effect for statements prepared afterwards; safe to change at runtime.
+     * @param rows rows per round trip
+     */
+    public static void setFetchSize(int rows) {
+        if (rows <= 0) {
+            throw new IllegalArgumentException("Fetch size must be positive");
+        }
+        fetchSize = rows;
+    }
+
+    public static int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Enables read routing to replicas, replacing any previous replica set.
+     * @param replicas replica endpoints; empty disables replica reads
+     * @param lagProbe measures replication lag
+     * @param maxLagMillis staleness bound; replicas further behind are not read from
+     * @param stickinessMillis reads go to the primary for this long after a commit;
+     *        must be at least maxLagMillis so a session always sees its own writes
+     */
+    public static void configureReplicas(List<DataSourceConfig> replicas, ReplicaLagProbe lagProbe,
+                                         long maxLagMillis, long stickinessMillis) {
+        if (stickinessMillis < maxLagMillis) {
+            throw new IllegalArgumentException("Stickiness window must cover the replica lag bound");
         }
+        ReplicaRouter router = null;
+        if (!replicas.isEmpty()) {
+            List<ConnectionPool> pools = new ArrayList<>(replicas.size());
+            for (DataSourceConfig replica : replicas) {
+                // Commits on replicas are not application writes
+                pools.add(new ConnectionPool(replica, connectionTimeout, null));
+            }
+            router = new ReplicaRouter(pools, lagProbe, maxLagMillis, 1000);
+        }
+        DBConnection.stickinessMillis = stickinessMillis;
+        ReplicaRouter previous = replicaRouter;
+        replicaRouter = router;
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    /**
+     * @return the active primary endpoint
+     */
+    public static DataSourceConfig getPrimaryConfig() {
+        return primaryPool.getConfig();
+    }
+
+    /**
+     * @return the replica router, or null when reads always go to the primary
+     */
+    public static ReplicaRouter getReplicaRouter() {
+        return replicaRouter;
+    }
+
+    /**
+     * Starts the read-your-writes window. Called after every primary commit.
+     */
+    public static void recordWrite() {
+        lastWriteMillis = System.currentTimeMillis();
+    }
+
+    private static Connection trace(Connection conn) {
+        QueryTracer tracer = queryTracer;
+        return tracer == null ? conn : tracer.wrap(conn);
+    }
+
+    /**
+     * Enables or disables SQL execution tracing for connections obtained afterwards.
+     * @param tracer the tracer to wrap connections with, or null to disable tracing
+     */
+    public static void setQueryTracer(QueryTracer tracer) {
+        queryTracer = tracer;
     }
 
     /**
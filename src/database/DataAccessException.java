@@ -0,0 +1,59 @@
+package src.database;
+
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+
+/**
+ * DataAccessException reports a failed database operation to callers.
+ * Unchecked, so repository interfaces stay free of SQL types; callers can tell
+ * a failure apart from an empty result and decide whether a retry may help.
+ */
+public class DataAccessException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    // MySQL error codes for lock wait timeout, deadlock and lost/aborted connections
+    private static final int[] TRANSIENT_MYSQL_ERRORS = { 1205, 1213, 2006, 2013 };
+
+    private final boolean transientFailure;
+
+    public DataAccessException(String message, SQLException cause) {
+        super(message + ": " + cause.getMessage(), cause);
+        this.transientFailure = isTransient(cause);
+    }
+
+    public DataAccessException(String message, boolean transientFailure) {
+        super(message);
+        this.transientFailure = transientFailure;
+    }
+
+    /**
+     * @return true if the same operation may succeed when retried (timeouts, deadlocks, lost connections)
+     */
+    public boolean isTransient() {
+        return transientFailure;
+    }
+
+    /**
+     * Classifies an SQLException by type, SQLState class and MySQL error code.
+     * @param e the exception
+     * @return true if the failure is likely temporary
+     */
+    public static boolean isTransient(SQLException e) {
+        if (e instanceof SQLTransientException || e instanceof SQLRecoverableException) {
+            return true;
+        }
+        String sqlState = e.getSQLState();
+        // 08 = connection exception, 40 = transaction rollback (deadlock, serialization failure)
+        if (sqlState != null && (sqlState.startsWith("08") || sqlState.startsWith("40"))) {
+            return true;
+        }
+        for (int code : TRANSIENT_MYSQL_ERRORS) {
+            if (e.getErrorCode() == code) {
+                return true;
+            }
+        }
+        // DBConnection wraps driver failures; classify by the original cause
+        return e.getCause() instanceof SQLException && e.getCause() != e && isTransient((SQLException) e.getCause());
+    }
+}
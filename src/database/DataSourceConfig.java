@@ -0,0 +1,27 @@
+package src.database;
+
+/**
+ * DataSourceConfig describes one MySQL endpoint and the size of its connection pool.
+ * @param name short label used in log messages, e.g. "primary" or "replica-1"
+ * @param url JDBC URL
+ * @param user database user
+ * @param password database password
+ * @param maxPoolSize maximum number of open connections
+ */
+public record DataSourceConfig(String name, String url, String user, String password, int maxPoolSize) {
+
+    public DataSourceConfig {
+        if (url == null || url.isBlank()) {
+            throw new IllegalArgumentException("JDBC URL is required for data source " + name);
+        }
+        if (maxPoolSize <= 0) {
+            throw new IllegalArgumentException("Pool size must be positive for data source " + name);
+        }
+    }
+
+    @Override
+    public String toString() {
+        // Never print the password
+        return name + " (" + url + ", pool " + maxPoolSize + ")";
+    }
+}
@@ -0,0 +1,11 @@
+package src.database;
+
+/**
+ * DatabaseProfile selects the database the real repositories run against.
+ */
+public enum DatabaseProfile {
+    /** MySQL server at companyz.db.url. */
+    MYSQL,
+    /** In-process H2 in MySQL mode, created from db/embedded; see {@link EmbeddedDatabase}. */
+    EMBEDDED
+}
@@ -0,0 +1,197 @@
+package src.database;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * EmbeddedDatabase runs the real repositories against an in-process H2
+ * database in MySQL compatibility mode, so they can be exercised and load
+ * tested on machines without a MySQL server.
+ * Single Responsibility: creates and seeds the embedded schema and points
+ * {@link DBConnection} at it.
+ *
+ * The H2 driver is not bundled; put h2-*.jar in lib/ and on the classpath.
+ * Schema and seed scripts live in db/embedded and only run when the
+ * employees table does not exist yet, so file-backed databases keep their data.
+ */
+public class EmbeddedDatabase {
+    public static final String DRIVER_CLASS = "org.h2.Driver";
+
+    /** Private in-memory database that lives until the JVM exits. */
+    public static final String DEFAULT_URL =
+        "jdbc:h2:mem:employeeData;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static final String SCHEMA_SCRIPT = "schema.sql";
+    private static final String SEED_SCRIPT = "seed.sql";
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String TABLE_EXISTS_QUERY =
+        "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE LOWER(TABLE_NAME) = 'employees'";
+
+    private static final String MAX_EMPID_QUERY = "SELECT COALESCE(MAX(empid), 0) FROM employees";
+
+    private static final String INSERT_EMPLOYEE_QUERY =
+        "INSERT INTO employees (empid, name, ssn, job_title_id, division_id) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_PAYROLL_QUERY =
+        "INSERT INTO payroll (empid, pay_date, salary) VALUES (?, ?, ?)";
+
+    private final String url;
+    private final Path scriptDir;
+
+    /**
+     * @param url H2 JDBC URL; should include MODE=MySQL and DATABASE_TO_LOWER=TRUE
+     * @param scriptDir directory holding schema.sql and seed.sql
+     */
+    public EmbeddedDatabase(String url, Path scriptDir) {
+        this.url = url;
+        this.scriptDir = scriptDir;
+    }
+
+    /**
+     * @return true if the H2 driver is on the classpath
+     */
+    public static boolean isDriverAvailable() {
+        try {
+            Class.forName(DRIVER_CLASS);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Points DBConnection at the embedded database and creates the schema if needed.
+     * @param poolSize connections kept open in the pool
+     * @param connectionTimeoutMillis pool wait timeout
+     * @throws SQLException if the driver is missing or a script fails
+     * @throws IOException if a script cannot be read
+     */
+    public void start(int poolSize, int connectionTimeoutMillis) throws SQLException, IOException {
+        if (!isDriverAvailable()) {
+            throw new SQLException("H2 driver " + DRIVER_CLASS + " not on the classpath; add h2-*.jar to lib/");
+        }
+        DBConnection.configurePrimary(new DataSourceConfig("embedded", url, "sa", "", poolSize),
+            connectionTimeoutMillis);
+
+        try (Connection conn = DBConnection.getConnection()) {
+            boolean exists;
+            try (PreparedStatement stmt = conn.prepareStatement(TABLE_EXISTS_QUERY);
+                 ResultSet rs = stmt.executeQuery()) {
+                exists = rs.next() && rs.getInt(1) > 0;
+            }
+            if (!exists) {
+                runScript(conn, scriptDir.resolve(SCHEMA_SCRIPT));
+                runScript(conn, scriptDir.resolve(SEED_SCRIPT));
+                System.out.println("Embedded database created from " + scriptDir);
+            }
+        }
+    }
+
+    /**
+     * Adds generated employees with monthly pay history, for load tests.
+     * Employee ids continue after the highest existing id; job titles 1-4 and
+     * divisions 1-3 from the seed script are assigned round-robin.
+     * @param employeeCount employees to add
+     * @param payPeriods monthly payroll rows per employee, ending last month
+     * @param randomSeed seed for salaries, so runs are repeatable
+     * @return number of payroll rows inserted
+     */
+    public int seedSynthetic(int employeeCount, int payPeriods, long randomSeed) throws SQLException {
+        Random random = new Random(randomSeed);
+        YearMonth lastPayMonth = YearMonth.now().minusMonths(1);
+        int payrollRows = 0;
+
+        try (Connection conn = DBConnection.getConnection()) {
+            int firstId;
+            try (PreparedStatement stmt = conn.prepareStatement(MAX_EMPID_QUERY);
+                 ResultSet rs = stmt.executeQuery()) {
+                rs.next();
+                firstId = rs.getInt(1) + 1;
+            }
+
+            conn.setAutoCommit(false);
+            try (PreparedStatement employeeStmt = conn.prepareStatement(INSERT_EMPLOYEE_QUERY);
+                 PreparedStatement payrollStmt = conn.prepareStatement(INSERT_PAYROLL_QUERY)) {
+                for (int i = 0; i < employeeCount; i++) {
+                    int empId = firstId + i;
+                    employeeStmt.setInt(1, empId);
+                    employeeStmt.setString(2, "Employee " + empId);
+                    employeeStmt.setString(3, String.format("%03d-%02d-%04d",
+                        empId / 1_000_000 % 1000, empId / 10_000 % 100, empId % 10_000));
+                    employeeStmt.setInt(4, i % 4 + 1);
+                    employeeStmt.setInt(5, i % 3 + 1);
+                    employeeStmt.addBatch();
+
+                    // Salaries spread over 40k-160k and grow about 0.5% a month
+                    double salary = 40_000 + random.nextInt(120_000);
+                    for (int period = payPeriods - 1; period >= 0; period--) {
+                        payrollStmt.setInt(1, empId);
+                        payrollStmt.setDate(2, Date.valueOf(lastPayMonth.minusMonths(period).atEndOfMonth()));
+                        payrollStmt.setDouble(3, Math.round(salary * 100) / 100.0);
+                        payrollStmt.addBatch();
+                        salary *= 1.005;
+                        if (++payrollRows % BATCH_SIZE == 0) {
+                            employeeStmt.executeBatch();
+                            payrollStmt.executeBatch();
+                        }
+                    }
+                }
+                employeeStmt.executeBatch();
+                payrollStmt.executeBatch();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+        return payrollRows;
+    }
+
+    /**
+     * Runs a script of statements that each end with a semicolon at the end of a line.
+     * Lines starting with -- are comments.
+     */
+    private static void runScript(Connection conn, Path script) throws IOException, SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            for (String sql : readStatements(script)) {
+                stmt.execute(sql);
+            }
+        }
+    }
+
+    static List<String> readStatements(Path script) throws IOException {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String line : Files.readAllLines(script, StandardCharsets.UTF_8)) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("--")) {
+                continue;
+            }
+            current.append(line).append('\n');
+            if (trimmed.endsWith(";")) {
+                String sql = current.toString().trim();
+                statements.add(sql.substring(0, sql.length() - 1));
+                current.setLength(0);
+            }
+        }
+        if (current.toString().trim().length() > 0) {
+            statements.add(current.toString().trim());
+        }
+        return statements;
+    }
+}
@@ -0,0 +1,79 @@
+package src.database;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * FetchPlan chooses a {@link FetchStrategy} for each repository method.
+ * Immutable; the with* methods return adjusted copies.
+ *
+ * Methods without an explicit strategy use AUTO: results expected to fit
+ * within the streaming threshold are buffered, larger or unbounded ones are
+ * fetched through a cursor (or streamed where cursors are unavailable).
+ */
+public final class FetchPlan {
+    /** Expected row count for queries with no useful upper bound. */
+    public static final long UNBOUNDED = Long.MAX_VALUE;
+
+    private final long streamingThresholdRows;
+    private final Map<String, FetchStrategy> methodStrategies;
+
+    private FetchPlan(long streamingThresholdRows, Map<String, FetchStrategy> methodStrategies) {
+        this.streamingThresholdRows = streamingThresholdRows;
+        this.methodStrategies = Map.copyOf(methodStrategies);
+    }
+
+    /**
+     * AUTO for every method, buffering results of up to 1000 rows.
+     */
+    public static FetchPlan defaults() {
+        return new FetchPlan(1000, Map.of());
+    }
+
+    /**
+     * @param method repository method name
+     * @param strategy strategy to use for it regardless of expected size
+     */
+    public FetchPlan withStrategy(String method, FetchStrategy strategy) {
+        Map<String, FetchStrategy> strategies = new HashMap<>(methodStrategies);
+        strategies.put(method, strategy);
+        return new FetchPlan(streamingThresholdRows, strategies);
+    }
+
+    /**
+     * @param rows AUTO buffers results expected to have at most this many rows
+     */
+    public FetchPlan withStreamingThreshold(long rows) {
+        if (rows < 0) {
+            throw new IllegalArgumentException("Streaming threshold cannot be negative");
+        }
+        return new FetchPlan(rows, methodStrategies);
+    }
+
+    /**
+     * @param method repository method name
+     * @param expectedRows upper estimate of the result size, or UNBOUNDED
+     * @return the configured strategy, or the AUTO choice for the expected size
+     */
+    public FetchStrategy strategyFor(String method, long expectedRows) {
+        FetchStrategy strategy = methodStrategies.getOrDefault(method, FetchStrategy.AUTO);
+        if (strategy != FetchStrategy.AUTO) {
+            return strategy;
+        }
+        return expectedRows <= streamingThresholdRows ? FetchStrategy.BUFFERED : FetchStrategy.CURSOR;
+    }
+
+    /**
+     * Applies the chosen strategy to a statement, using {@link DBConnection#getFetchSize()}.
+     * @return the strategy actually applied
+     */
+    public FetchStrategy apply(PreparedStatement stmt, String method, long expectedRows) throws SQLException {
+        return strategyFor(method, expectedRows).apply(stmt, DBConnection.getFetchSize());
+    }
+
+    public long getStreamingThresholdRows() {
+        return streamingThresholdRows;
+    }
+}
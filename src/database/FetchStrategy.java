@@ -0,0 +1,80 @@
+package src.database;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * FetchStrategy controls how a query's result set is transferred to the client.
+ *
+ * MySQL Connector/J buffers the whole result set by default. CURSOR reads it
+ * in fetch-size chunks through a server-side cursor, which requires
+ * useCursorFetch=true in the JDBC URL; without it CURSOR falls back to
+ * STREAMING. STREAMING reads rows one at a time (fetch size Integer.MIN_VALUE
+ * on MySQL) and keeps the connection busy until the result set is closed, so
+ * no other statement may run on that connection meanwhile. Other drivers get
+ * a plain positive fetch size for both.
+ */
+public enum FetchStrategy {
+    /** Decide from the expected row count; see {@link FetchPlan}. */
+    AUTO,
+    /** Driver default; the whole result is held in memory. */
+    BUFFERED,
+    /** Server-side cursor, fetch size rows per round trip. */
+    CURSOR,
+    /** Row-by-row streaming. */
+    STREAMING;
+
+    private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    // Keyed by JDBC URL; a data source does not change its capabilities
+    private static final Map<String, Capabilities> CAPABILITIES = new ConcurrentHashMap<>();
+
+    private record Capabilities(boolean mysql, boolean cursorFetch) { }
+
+    /**
+     * Configures a statement before it is executed.
+     * @param stmt a forward-only, read-only statement
+     * @param fetchSize rows per round trip for cursor fetches
+     * @return the strategy actually applied, after any fallback
+     */
+    public FetchStrategy apply(PreparedStatement stmt, int fetchSize) throws SQLException {
+        if (this == AUTO) {
+            throw new IllegalStateException("AUTO must be resolved by a FetchPlan first");
+        }
+        if (this == BUFFERED) {
+            return BUFFERED;
+        }
+
+        Capabilities capabilities = capabilitiesOf(stmt.getConnection());
+        if (!capabilities.mysql()) {
+            stmt.setFetchSize(fetchSize);
+            return this;
+        }
+        if (this == CURSOR && capabilities.cursorFetch()) {
+            stmt.setFetchSize(fetchSize);
+            return CURSOR;
+        }
+        stmt.setFetchSize(MYSQL_STREAMING_FETCH_SIZE);
+        return STREAMING;
+    }
+
+    private static Capabilities capabilitiesOf(Connection conn) throws SQLException {
+        DatabaseMetaData metaData = conn.getMetaData();
+        String url = metaData.getURL();
+        Capabilities cached = url == null ? null : CAPABILITIES.get(url);
+        if (cached != null) {
+            return cached;
+        }
+        boolean mysql = "MySQL".equalsIgnoreCase(metaData.getDatabaseProductName());
+        boolean cursorFetch = url != null && url.toLowerCase().contains("usecursorfetch=true");
+        Capabilities capabilities = new Capabilities(mysql, cursorFetch);
+        if (url != null) {
+            CAPABILITIES.put(url, capabilities);
+        }
+        return capabilities;
+    }
+}
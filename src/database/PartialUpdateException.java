@@ -0,0 +1,27 @@
+package src.database;
+
+/**
+ * PartialUpdateException reports a bulk update that committed only some of
+ * its rows. The committed rows stay applied, so the operation must not simply
+ * be retried; callers should tell the user how many rows were left out.
+ */
+public class PartialUpdateException extends DataAccessException {
+    private static final long serialVersionUID = 1L;
+
+    private final int committedCount;
+    private final int skippedCount;
+
+    /**
+     * @param message what was being updated
+     * @param committedCount rows updated and committed
+     * @param skippedCount rows that should have been updated but were not
+     */
+    public PartialUpdateException(String message, int committedCount, int skippedCount) {
+        super(message + ": " + committedCount + " rows updated, " + skippedCount + " skipped", false);
+        this.committedCount = committedCount;
+        this.skippedCount = skippedCount;
+    }
+
+    public int getCommittedCount() { return committedCount; }
+    public int getSkippedCount() { return skippedCount; }
+}
@@ -0,0 +1,202 @@
+package src.database;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * QueryPlanVerifier checks that hot queries are still served by indexes.
+ * Single Responsibility: runs EXPLAIN for each query of a verify script and
+ * reports every table the plan reads with a full table scan.
+ *
+ * A verify script holds plain SELECT statements, each ending with a semicolon
+ * at the end of a line. A "-- allow-full-scan: table, ..." comment above a
+ * statement permits scans of those tables for that statement. A
+ * "-- query: package.Class.CONSTANT" line stands for the statement held in that
+ * static String field, so a verify script can check the exact text a repository
+ * runs instead of a copy that drifts; only queries without parameters can be
+ * referenced this way. Full index scans
+ * (MySQL type "index") are accepted; only table scans (type "ALL") fail.
+ *
+ * Tables with fewer than minRows rows are not checked, since the optimizer
+ * rightly scans small tables instead of using an index. Verify against a
+ * database of production size (or seeded with EmbeddedDatabase.seedSynthetic).
+ */
+public class QueryPlanVerifier {
+    private static final String ALLOW_SCAN_DIRECTIVE = "-- allow-full-scan:";
+    private static final String QUERY_DIRECTIVE = "-- query:";
+
+    // H2 marks scans in its plan text as /* schema.table.tableScan */
+    private static final Pattern H2_TABLE_SCAN =
+        Pattern.compile("/\\*\\s*\"?\\w+\"?\\.\"?(\\w+)\"?\\.tableScan", Pattern.CASE_INSENSITIVE);
+
+    private final long minRows;
+
+    /**
+     * A full table scan found in a query plan.
+     * @param script verify script the query came from
+     * @param sql the query
+     * @param table table read with a full scan
+     * @param rows estimated (MySQL) or actual (H2) rows in the scan
+     */
+    public record Violation(Path script, String sql, String table, long rows) {
+        @Override
+        public String toString() {
+            return script.getFileName() + ": full scan of " + table + " (" + rows + " rows) in "
+                + sql.replaceAll("\\s+", " ");
+        }
+    }
+
+    record VerifyQuery(String sql, Set<String> allowedScans) { }
+
+    /**
+     * @param minRows smallest table that must not be scanned
+     */
+    public QueryPlanVerifier(long minRows) {
+        if (minRows < 0) {
+            throw new IllegalArgumentException("minRows cannot be negative");
+        }
+        this.minRows = minRows;
+    }
+
+    /**
+     * Explains every query of a verify script on the primary.
+     * @return the full scans found; empty if every query uses indexes
+     */
+    public List<Violation> verify(Path script) throws IOException, SQLException {
+        List<Violation> violations = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection()) {
+            boolean h2 = conn.getMetaData().getDatabaseProductName().toUpperCase(Locale.ROOT).contains("H2");
+            for (VerifyQuery query : readQueries(script)) {
+                List<Violation> scans = h2 ? explainH2(conn, script, query.sql())
+                    : explainMySql(conn, script, query.sql());
+                for (Violation scan : scans) {
+                    if (scan.rows() >= minRows && !query.allowedScans().contains(scan.table())) {
+                        violations.add(scan);
+                    }
+                }
+            }
+        }
+        return violations;
+    }
+
+    private static List<Violation> explainMySql(Connection conn, Path script, String sql) throws SQLException {
+        List<Violation> scans = new ArrayList<>();
+        try (PreparedStatement stmt = conn.prepareStatement("EXPLAIN " + sql);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                String table = rs.getString("table");
+                // <unionN,M> and <derivedN> rows are temporary results, not stored tables
+                if (table == null || table.startsWith("<") || !"ALL".equalsIgnoreCase(rs.getString("type"))) {
+                    continue;
+                }
+                scans.add(new Violation(script, sql, tableOf(sql, table), rs.getLong("rows")));
+            }
+        }
+        return scans;
+    }
+
+    private static List<Violation> explainH2(Connection conn, Path script, String sql) throws SQLException {
+        List<Violation> scans = new ArrayList<>();
+        String plan;
+        try (PreparedStatement stmt = conn.prepareStatement("EXPLAIN " + sql);
+             ResultSet rs = stmt.executeQuery()) {
+            plan = rs.next() ? rs.getString(1) : "";
+        }
+        Matcher matcher = H2_TABLE_SCAN.matcher(plan);
+        while (matcher.find()) {
+            String table = matcher.group(1).toLowerCase(Locale.ROOT);
+            // H2 has no row estimate in the plan; the table name comes from the plan, not user input
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM " + table);
+                 ResultSet rs = stmt.executeQuery()) {
+                rs.next();
+                scans.add(new Violation(script, sql, table, rs.getLong(1)));
+            }
+        }
+        return scans;
+    }
+
+    /**
+     * MySQL reports the alias (e.g. "p") in the table column; maps it back to the table name.
+     */
+    private static String tableOf(String sql, String aliasOrTable) {
+        Matcher matcher = Pattern.compile("(?i)\\b(?:FROM|JOIN)\\s+(\\w+)\\s+(?:AS\\s+)?" +
+            Pattern.quote(aliasOrTable) + "\\b").matcher(sql);
+        return (matcher.find() ? matcher.group(1) : aliasOrTable).toLowerCase(Locale.ROOT);
+    }
+
+    static List<VerifyQuery> readQueries(Path script) throws IOException {
+        List<VerifyQuery> queries = new ArrayList<>();
+        Set<String> allowedScans = new HashSet<>();
+        StringBuilder current = new StringBuilder();
+        for (String line : Files.readAllLines(script, StandardCharsets.UTF_8)) {
+            String trimmed = line.trim();
+            if (trimmed.toLowerCase(Locale.ROOT).startsWith(ALLOW_SCAN_DIRECTIVE)) {
+                for (String table : trimmed.substring(ALLOW_SCAN_DIRECTIVE.length()).split(",")) {
+                    if (!table.isBlank()) {
+                        allowedScans.add(table.trim().toLowerCase(Locale.ROOT));
+                    }
+                }
+                continue;
+            }
+            if (trimmed.toLowerCase(Locale.ROOT).startsWith(QUERY_DIRECTIVE)) {
+                queries.add(new VerifyQuery(resolveQuery(trimmed.substring(QUERY_DIRECTIVE.length()).trim()),
+                    Set.copyOf(allowedScans)));
+                allowedScans.clear();
+                continue;
+            }
+            if (trimmed.isEmpty() || trimmed.startsWith("--")) {
+                continue;
+            }
+            current.append(line).append('\n');
+            if (trimmed.endsWith(";")) {
+                String sql = current.toString().trim();
+                queries.add(new VerifyQuery(sql.substring(0, sql.length() - 1), Set.copyOf(allowedScans)));
+                current.setLength(0);
+                allowedScans.clear();
+            }
+        }
+        return queries;
+    }
+
+    /**
+     * Reads the query held in a static String constant, private or not.
+     * @param reference fully qualified class name, a dot, and the field name
+     * @throws IllegalArgumentException if the constant does not exist or the query takes parameters
+     */
+    static String resolveQuery(String reference) {
+        int dot = reference.lastIndexOf('.');
+        if (dot <= 0) {
+            throw new IllegalArgumentException("Expected package.Class.CONSTANT, found: " + reference);
+        }
+        String sql;
+        try {
+            Field field = Class.forName(reference.substring(0, dot)).getDeclaredField(reference.substring(dot + 1));
+            if (!Modifier.isStatic(field.getModifiers()) || field.getType() != String.class) {
+                throw new IllegalArgumentException(reference + " is not a static String constant");
+            }
+            field.setAccessible(true);
+            sql = (String) field.get(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot read query " + reference, e);
+        }
+        if (sql.indexOf('?') >= 0) {
+            throw new IllegalArgumentException(reference + " takes parameters; copy it with literal values instead");
+        }
+        return sql;
+    }
+}
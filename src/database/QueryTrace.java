@@ -0,0 +1,73 @@
+package src.database;
+
+import java.time.Instant;
+
+/**
+ * QueryTrace captures the timing of one statement execution.
+ * Holds the SQL text with placeholders and the JDBC types bound to them,
+ * never the bound values, so SSNs and passwords cannot leak into logs.
+ */
+public class QueryTrace {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Instant startedAt;
+    private final String sql;
+    private final String parameterShape;
+    private final long prepareNanos;
+    private final long executeNanos;
+    private final long fetchNanos;
+    private final long rows;
+    private final int batchSize;
+    private final boolean failed;
+
+    public QueryTrace(Instant startedAt, String sql, String parameterShape,
+                      long prepareNanos, long executeNanos, long fetchNanos,
+                      long rows, int batchSize, boolean failed) {
+        this.startedAt = startedAt;
+        this.sql = sql;
+        this.parameterShape = parameterShape;
+        this.prepareNanos = prepareNanos;
+        this.executeNanos = executeNanos;
+        this.fetchNanos = fetchNanos;
+        this.rows = rows;
+        this.batchSize = batchSize;
+        this.failed = failed;
+    }
+
+    public Instant getStartedAt() { return startedAt; }
+    public String getSql() { return sql; }
+    public String getParameterShape() { return parameterShape; }
+    public long getPrepareNanos() { return prepareNanos; }
+    public long getExecuteNanos() { return executeNanos; }
+    public long getFetchNanos() { return fetchNanos; }
+    public long getRows() { return rows; }
+    public int getBatchSize() { return batchSize; }
+    public boolean isFailed() { return failed; }
+
+    public long getTotalNanos() {
+        return prepareNanos + executeNanos + fetchNanos;
+    }
+
+    /**
+     * Formats the trace as a single log line.
+     * @param sampled true if the entry was logged by sampling rather than the threshold
+     * @return log line without a trailing newline
+     */
+    public String toLogLine(boolean sampled) {
+        return startedAt +
+                String.format(" total=%.3fms prepare=%.3fms execute=%.3fms fetch=%.3fms",
+                    getTotalNanos() / NANOS_PER_MILLI, prepareNanos / NANOS_PER_MILLI,
+                    executeNanos / NANOS_PER_MILLI, fetchNanos / NANOS_PER_MILLI) +
+                " rows=" + rows +
+                " batch=" + batchSize +
+                (failed ? " failed=true" : "") +
+                (sampled ? " sampled=true" : "") +
+                " params=" + parameterShape +
+                " sql=\"" + sql.replaceAll("\\s+", " ") + "\"";
+    }
+
+    @Override
+    public String toString() {
+        return toLogLine(false);
+    }
+}
@@ -0,0 +1,295 @@
+package src.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * QueryTracer wraps JDBC connections to time every prepared statement.
+ * Prepare, execute and fetch (time spent in ResultSet.next) are measured separately.
+ * Executions slower than the threshold are written to the slow query log, and
+ * with sampling enabled every Nth execution is logged regardless of its duration.
+ *
+ * Only SQL text and the JDBC types of bound parameters are captured; bound
+ * values are never read. Plain Statements are passed through untraced because
+ * their SQL may embed literal values.
+ */
+public class QueryTracer {
+    private final SlowQueryLog slowQueryLog;
+    private final long thresholdNanos;
+    private final int sampleEvery;
+    private final AtomicLong executions = new AtomicLong();
+
+    /**
+     * @param slowQueryLog destination for logged traces
+     * @param thresholdMillis executions at or above this duration are logged
+     * @param sampleEvery log every Nth execution as well; 0 disables sampling
+     */
+    public QueryTracer(SlowQueryLog slowQueryLog, long thresholdMillis, int sampleEvery) {
+        if (thresholdMillis < 0 || sampleEvery < 0) {
+            throw new IllegalArgumentException("Threshold and sample rate must be >= 0");
+        }
+        this.slowQueryLog = slowQueryLog;
+        this.thresholdNanos = thresholdMillis * 1_000_000L;
+        this.sampleEvery = sampleEvery;
+    }
+
+    /**
+     * Wraps a connection so its prepared statements are traced.
+     * @param connection the physical connection
+     * @return traced connection; closing it closes the underlying connection
+     */
+    public Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            new ConnectionHandler(connection));
+    }
+
+    /**
+     * Decides whether a finished execution is logged.
+     */
+    void report(QueryTrace trace) {
+        boolean sampled = sampleEvery > 0 && executions.incrementAndGet() % sampleEvery == 0;
+        if (trace.getTotalNanos() >= thresholdNanos) {
+            slowQueryLog.append(trace, false);
+        } else if (sampled) {
+            slowQueryLog.append(trace, true);
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+
+        ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("prepareStatement".equals(method.getName())) {
+                long start = System.nanoTime();
+                PreparedStatement stmt = (PreparedStatement) QueryTracer.invoke(connection, method, args);
+                long prepareNanos = System.nanoTime() - start;
+                return Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] {PreparedStatement.class},
+                    new StatementHandler(stmt, (String) args[0], prepareNanos));
+            }
+            return QueryTracer.invoke(connection, method, args);
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+        private final PreparedStatement statement;
+        private final String sql;
+        private long unreportedPrepareNanos;
+        private String[] parameterTypes = new String[8];
+        private int batchSize;
+
+        // Execution whose result set is still being read
+        private boolean pending;
+        private Instant pendingStartedAt;
+        private String pendingShape;
+        private long pendingPrepareNanos;
+        private long pendingExecuteNanos;
+        private long pendingFetchNanos;
+        private long pendingRows;
+
+        StatementHandler(PreparedStatement statement, String sql, long prepareNanos) {
+            this.statement = statement;
+            this.sql = sql;
+            this.unreportedPrepareNanos = prepareNanos;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                recordParameter((Integer) args[0], name.substring(3));
+                return QueryTracer.invoke(statement, method, args);
+            }
+
+            switch (name) {
+                case "clearParameters":
+                    Arrays.fill(parameterTypes, null);
+                    return QueryTracer.invoke(statement, method, args);
+                case "addBatch":
+                    batchSize++;
+                    return QueryTracer.invoke(statement, method, args);
+                case "close":
+                    finishPending();
+                    return QueryTracer.invoke(statement, method, args);
+                case "executeQuery":
+                    return executeQuery(method, args);
+                case "execute":
+                case "executeUpdate":
+                case "executeLargeUpdate":
+                case "executeBatch":
+                case "executeLargeBatch":
+                    return executeWithoutResults(method, args);
+                default:
+                    return QueryTracer.invoke(statement, method, args);
+            }
+        }
+
+        private Object executeQuery(Method method, Object[] args) throws Throwable {
+            finishPending();
+            Instant startedAt = Instant.now();
+            long start = System.nanoTime();
+            ResultSet rs;
+            try {
+                rs = (ResultSet) QueryTracer.invoke(statement, method, args);
+            } catch (Throwable t) {
+                report(new QueryTrace(startedAt, sql, parameterShape(), takePrepareNanos(),
+                    System.nanoTime() - start, 0, 0, 0, true));
+                throw t;
+            }
+
+            pending = true;
+            pendingStartedAt = startedAt;
+            pendingShape = parameterShape();
+            pendingPrepareNanos = takePrepareNanos();
+            pendingExecuteNanos = System.nanoTime() - start;
+            pendingFetchNanos = 0;
+            pendingRows = 0;
+
+            return Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(),
+                new Class<?>[] {ResultSet.class},
+                new ResultSetHandler(rs, this));
+        }
+
+        private Object executeWithoutResults(Method method, Object[] args) throws Throwable {
+            finishPending();
+            Instant startedAt = Instant.now();
+            long start = System.nanoTime();
+            int executedBatch = batchSize;
+            boolean failed = true;
+            long rows = 0;
+            try {
+                Object result = QueryTracer.invoke(statement, method, args);
+                rows = countRows(result);
+                failed = false;
+                return result;
+            } finally {
+                if (method.getName().contains("Batch")) {
+                    batchSize = 0;
+                }
+                report(new QueryTrace(startedAt, sql, parameterShape(), takePrepareNanos(),
+                    System.nanoTime() - start, 0, rows, executedBatch, failed));
+            }
+        }
+
+        void fetched(long nanos, boolean hasRow) {
+            pendingFetchNanos += nanos;
+            if (hasRow) {
+                pendingRows++;
+            }
+        }
+
+        void finishPending() {
+            if (pending) {
+                pending = false;
+                report(new QueryTrace(pendingStartedAt, sql, pendingShape, pendingPrepareNanos,
+                    pendingExecuteNanos, pendingFetchNanos, pendingRows, 0, false));
+            }
+        }
+
+        private long takePrepareNanos() {
+            long nanos = unreportedPrepareNanos;
+            unreportedPrepareNanos = 0;
+            return nanos;
+        }
+
+        private void recordParameter(int index, String type) {
+            if (index < 1) {
+                return;
+            }
+            if (index > parameterTypes.length) {
+                parameterTypes = Arrays.copyOf(parameterTypes, Math.max(index, parameterTypes.length * 2));
+            }
+            parameterTypes[index - 1] = type;
+        }
+
+        private String parameterShape() {
+            int count = 0;
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (parameterTypes[i] != null) {
+                    count = i + 1;
+                }
+            }
+            StringBuilder sb = new StringBuilder("[");
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append(parameterTypes[i] == null ? "?" : parameterTypes[i]);
+            }
+            return sb.append(']').toString();
+        }
+
+        private long countRows(Object result) {
+            if (result instanceof Number) {
+                return ((Number) result).longValue();
+            }
+            long rows = 0;
+            if (result instanceof int[]) {
+                for (int count : (int[]) result) {
+                    rows += Math.max(count, 0);
+                }
+            } else if (result instanceof long[]) {
+                for (long count : (long[]) result) {
+                    rows += Math.max(count, 0);
+                }
+            }
+            return rows;
+        }
+    }
+
+    private static class ResultSetHandler implements InvocationHandler {
+        private final ResultSet resultSet;
+        private final StatementHandler owner;
+
+        ResultSetHandler(ResultSet resultSet, StatementHandler owner) {
+            this.resultSet = resultSet;
+            this.owner = owner;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "next": {
+                    long start = System.nanoTime();
+                    Boolean hasRow = (Boolean) QueryTracer.invoke(resultSet, method, args);
+                    owner.fetched(System.nanoTime() - start, hasRow);
+                    return hasRow;
+                }
+                case "close":
+                    try {
+                        return QueryTracer.invoke(resultSet, method, args);
+                    } finally {
+                        owner.finishPending();
+                    }
+                default:
+                    return QueryTracer.invoke(resultSet, method, args);
+            }
+        }
+    }
+}
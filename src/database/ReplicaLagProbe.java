@@ -0,0 +1,54 @@
+package src.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * ReplicaLagProbe measures how far a replica is behind its source.
+ * Implementations return {@link #UNKNOWN_LAG} when the lag cannot be
+ * determined; such replicas are never read from.
+ */
+@FunctionalInterface
+public interface ReplicaLagProbe {
+    long UNKNOWN_LAG = Long.MAX_VALUE;
+
+    /**
+     * @param replica connection to the replica being measured
+     * @return replication lag in milliseconds, or UNKNOWN_LAG
+     */
+    long lagMillis(Connection replica) throws SQLException;
+
+    /**
+     * Reads Seconds_Behind_Source (Seconds_Behind_Master before MySQL 8.0.22)
+     * from SHOW REPLICA STATUS. Requires the REPLICATION CLIENT privilege.
+     * A stopped replication thread (NULL) or a server that is not a replica
+     * (no rows) both report UNKNOWN_LAG.
+     */
+    ReplicaLagProbe SHOW_REPLICA_STATUS = replica -> {
+        try (PreparedStatement stmt = replica.prepareStatement("SHOW REPLICA STATUS");
+             ResultSet rs = stmt.executeQuery()) {
+            if (!rs.next()) {
+                return UNKNOWN_LAG;
+            }
+            ResultSetMetaData metaData = rs.getMetaData();
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                String column = metaData.getColumnLabel(i);
+                if ("Seconds_Behind_Source".equalsIgnoreCase(column) ||
+                        "Seconds_Behind_Master".equalsIgnoreCase(column)) {
+                    long seconds = rs.getLong(i);
+                    return rs.wasNull() ? UNKNOWN_LAG : seconds * 1000;
+                }
+            }
+            return UNKNOWN_LAG;
+        }
+    };
+
+    /**
+     * Treats every replica as fully caught up. For independent local instances
+     * or embedded stand-ins that have no replication configured.
+     */
+    ReplicaLagProbe ASSUME_CURRENT = replica -> 0;
+}
@@ -0,0 +1,125 @@
+package src.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ReplicaRouter picks a read replica whose replication lag is within bounds.
+ * Single Responsibility: replica selection; read-your-writes stickiness is
+ * decided by {@link DBConnection} before a replica is asked for.
+ *
+ * Replicas are tried round-robin. Each replica's lag is measured on the
+ * borrowed connection itself, at most once per check interval; a replica that
+ * is too far behind, or that fails to connect, is skipped until its next check.
+ */
+public class ReplicaRouter implements AutoCloseable {
+    private final List<Replica> replicas;
+    private final ReplicaLagProbe lagProbe;
+    private final long maxLagMillis;
+    private final long lagCheckIntervalNanos;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder staleSkips = new LongAdder();
+    private final LongAdder failedSkips = new LongAdder();
+
+    private static final class Replica {
+        final ConnectionPool pool;
+        volatile long lagMillis = ReplicaLagProbe.UNKNOWN_LAG;
+        volatile long checkedAtNanos;
+        volatile boolean checked;
+
+        Replica(ConnectionPool pool) {
+            this.pool = pool;
+        }
+    }
+
+    /**
+     * @param pools one pool per replica
+     * @param lagProbe measures replication lag
+     * @param maxLagMillis replicas further behind than this are not read from
+     * @param lagCheckIntervalMillis how long a lag measurement is trusted
+     */
+    public ReplicaRouter(List<ConnectionPool> pools, ReplicaLagProbe lagProbe,
+                         long maxLagMillis, long lagCheckIntervalMillis) {
+        if (maxLagMillis < 0 || lagCheckIntervalMillis < 0) {
+            throw new IllegalArgumentException("Lag bound and check interval must be >= 0");
+        }
+        this.replicas = new ArrayList<>(pools.size());
+        for (ConnectionPool pool : pools) {
+            replicas.add(new Replica(pool));
+        }
+        this.lagProbe = lagProbe;
+        this.maxLagMillis = maxLagMillis;
+        this.lagCheckIntervalNanos = TimeUnit.MILLISECONDS.toNanos(lagCheckIntervalMillis);
+    }
+
+    /**
+     * Borrows a connection from the next replica within the lag bound.
+     * @param waitMillis pool wait per replica
+     * @return replica connection, or null if no replica is currently usable
+     */
+    public Connection borrow(long waitMillis) {
+        int count = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(count, 1));
+        for (int i = 0; i < count; i++) {
+            Replica replica = replicas.get((start + i) % count);
+            long now = System.nanoTime();
+            boolean due = !replica.checked || now - replica.checkedAtNanos >= lagCheckIntervalNanos;
+            if (!due && replica.lagMillis > maxLagMillis) {
+                staleSkips.increment();
+                continue;
+            }
+
+            Connection connection = null;
+            try {
+                connection = replica.pool.borrow(waitMillis);
+                if (due) {
+                    replica.lagMillis = lagProbe.lagMillis(connection);
+                    replica.checkedAtNanos = now;
+                    replica.checked = true;
+                }
+                if (replica.lagMillis <= maxLagMillis) {
+                    replicaReads.increment();
+                    return connection;
+                }
+                staleSkips.increment();
+            } catch (SQLException e) {
+                replica.lagMillis = ReplicaLagProbe.UNKNOWN_LAG;
+                replica.checkedAtNanos = now;
+                replica.checked = true;
+                failedSkips.increment();
+                System.err.println("Replica " + replica.pool.getConfig().name() + " unavailable: " + e.getMessage());
+            }
+            closeQuietly(connection);
+        }
+        return null;
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                // Returned to the pool or discarded either way
+            }
+        }
+    }
+
+    public long getMaxLagMillis() { return maxLagMillis; }
+    public long getReplicaReadCount() { return replicaReads.sum(); }
+    public long getStaleSkipCount() { return staleSkips.sum(); }
+    public long getFailedSkipCount() { return failedSkips.sum(); }
+
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            replica.pool.close();
+        }
+    }
+}
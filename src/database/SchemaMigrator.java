@@ -0,0 +1,293 @@
+package src.database;
+
+import src.config.AppConfig;
+import src.config.ConfigException;
+import src.config.ConfigKey;
+import src.config.ConfigManager;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * SchemaMigrator applies the versioned scripts in db/migrations to the primary.
+ * Single Responsibility: tracks which migrations ran in schema_history, applies
+ * the pending ones in version order and verifies their query plans.
+ *
+ * Migrations are named V&lt;n&gt;__&lt;description&gt;.sql. An optional
+ * V&lt;n&gt;__&lt;description&gt;.verify.sql next to it lists the queries the
+ * migration serves; after the migration runs they are checked with
+ * {@link QueryPlanVerifier}, and a full table scan fails the run.
+ *
+ * MySQL commits DDL implicitly, so a migration that fails halfway is not rolled
+ * back; fix the schema by hand and rerun. A script edited after it was applied
+ * is reported as a checksum mismatch rather than run again.
+ *
+ * Usage: java -cp bin:lib/* src.database.SchemaMigrator [status|migrate|verify|baseline N] [--min-rows=N]
+ */
+public class SchemaMigrator {
+    public static final Path DEFAULT_DIR = Paths.get("db", "migrations");
+
+    private static final Pattern MIGRATION_FILE = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+    private static final String VERIFY_SUFFIX = ".verify.sql";
+
+    private static final String CREATE_HISTORY_TABLE =
+        "CREATE TABLE IF NOT EXISTS schema_history (" +
+        "version INT NOT NULL PRIMARY KEY, " +
+        "description VARCHAR(200) NOT NULL, " +
+        "checksum CHAR(64) NOT NULL, " +
+        "applied_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)";
+
+    private static final String SELECT_HISTORY_QUERY = "SELECT version, checksum FROM schema_history";
+
+    private static final String INSERT_HISTORY_QUERY =
+        "INSERT INTO schema_history (version, description, checksum) VALUES (?, ?, ?)";
+
+    private final Path migrationDir;
+    private final QueryPlanVerifier verifier;
+
+    /**
+     * One migration script and its optional verify script.
+     */
+    public record Migration(int version, String description, Path script, Path verifyScript, String checksum) {
+        @Override
+        public String toString() {
+            return "V" + version + " " + description.replace('_', ' ');
+        }
+    }
+
+    /**
+     * @param migrationDir directory holding the V*.sql scripts
+     * @param verifier checks the verify scripts after each migration
+     */
+    public SchemaMigrator(Path migrationDir, QueryPlanVerifier verifier) {
+        this.migrationDir = migrationDir;
+        this.verifier = verifier;
+    }
+
+    /**
+     * @return every migration script, in version order
+     */
+    public List<Migration> migrations() throws IOException {
+        List<Migration> migrations = new ArrayList<>();
+        try (Stream<Path> files = Files.list(migrationDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher matcher = MIGRATION_FILE.matcher(file.getFileName().toString());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                Path verifyScript = migrationDir.resolve(
+                    file.getFileName().toString().replace(".sql", VERIFY_SUFFIX));
+                migrations.add(new Migration(Integer.parseInt(matcher.group(1)), matcher.group(2), file,
+                    Files.isRegularFile(verifyScript) ? verifyScript : null, checksum(file)));
+            }
+        }
+        migrations.sort(Comparator.comparingInt(Migration::version));
+        for (int i = 1; i < migrations.size(); i++) {
+            if (migrations.get(i).version() == migrations.get(i - 1).version()) {
+                throw new IllegalStateException("Two migrations with version " + migrations.get(i).version());
+            }
+        }
+        return migrations;
+    }
+
+    /**
+     * @return migrations not yet recorded in schema_history
+     * @throws IllegalStateException if an applied script was changed afterwards
+     */
+    public List<Migration> pending() throws IOException, SQLException {
+        Map<Integer, String> applied = appliedChecksums();
+        List<Migration> pending = new ArrayList<>();
+        for (Migration migration : migrations()) {
+            String checksum = applied.get(migration.version());
+            if (checksum == null) {
+                pending.add(migration);
+            } else if (!checksum.equals(migration.checksum())) {
+                throw new IllegalStateException(migration + " was changed after it was applied");
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * Applies the pending migrations in order, verifying each one's query plans.
+     * A migration is recorded as soon as its statements succeed, so a failed
+     * verification leaves it applied; rerun {@link #verifyAll()} after fixing it.
+     * @return the migrations applied
+     * @throws IllegalStateException if a verify script finds a full table scan
+     */
+    public List<Migration> migrate() throws IOException, SQLException {
+        List<Migration> applied = new ArrayList<>();
+        for (Migration migration : pending()) {
+            try (Connection conn = DBConnection.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                for (String sql : EmbeddedDatabase.readStatements(migration.script())) {
+                    stmt.execute(sql);
+                }
+                record(conn, migration);
+            } catch (SQLException e) {
+                throw new SQLException(migration + " failed: " + e.getMessage(), e.getSQLState(), e);
+            }
+            System.out.println("Applied " + migration);
+            applied.add(migration);
+            failOnViolations(verify(migration));
+        }
+        return applied;
+    }
+
+    /**
+     * Records migrations up to a version as applied without running them, for
+     * databases whose schema was created by hand from the same scripts.
+     * @return number of migrations recorded
+     */
+    public int baseline(int version) throws IOException, SQLException {
+        List<Migration> pending = pending();
+        int recorded = 0;
+        try (Connection conn = DBConnection.getConnection()) {
+            for (Migration migration : pending) {
+                if (migration.version() <= version) {
+                    record(conn, migration);
+                    recorded++;
+                }
+            }
+        }
+        return recorded;
+    }
+
+    /**
+     * Checks the query plans of every migration; run once the schema is up to date.
+     * @return the full scans found
+     */
+    public List<QueryPlanVerifier.Violation> verifyAll() throws IOException, SQLException {
+        List<QueryPlanVerifier.Violation> violations = new ArrayList<>();
+        for (Migration migration : migrations()) {
+            violations.addAll(verify(migration));
+        }
+        return violations;
+    }
+
+    private List<QueryPlanVerifier.Violation> verify(Migration migration) throws IOException, SQLException {
+        return migration.verifyScript() == null ? List.of() : verifier.verify(migration.verifyScript());
+    }
+
+    private static void failOnViolations(List<QueryPlanVerifier.Violation> violations) {
+        if (!violations.isEmpty()) {
+            StringBuilder message = new StringBuilder("Query plan verification failed:");
+            for (QueryPlanVerifier.Violation violation : violations) {
+                message.append("\n  ").append(violation);
+            }
+            throw new IllegalStateException(message.toString());
+        }
+    }
+
+    private Map<Integer, String> appliedChecksums() throws SQLException {
+        Map<Integer, String> applied = new HashMap<>();
+        try (Connection conn = DBConnection.getConnection()) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute(CREATE_HISTORY_TABLE);
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(SELECT_HISTORY_QUERY);
+                 ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    applied.put(rs.getInt("version"), rs.getString("checksum"));
+                }
+            }
+        }
+        return applied;
+    }
+
+    private static void record(Connection conn, Migration migration) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(INSERT_HISTORY_QUERY)) {
+            stmt.setInt(1, migration.version());
+            stmt.setString(2, migration.description());
+            stmt.setString(3, migration.checksum());
+            stmt.executeUpdate();
+        }
+    }
+
+    private static String checksum(Path file) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(Files.readAllBytes(file)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Runs against the MySQL primary from the application configuration.
+     * "verify" also works with companyz.db.profile=EMBEDDED.
+     */
+    public static void main(String[] args) {
+        String command = "status";
+        int baselineVersion = -1;
+        long minRows = 1000;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].startsWith("--min-rows=")) {
+                minRows = Long.parseLong(args[i].substring("--min-rows=".length()));
+            } else if (args[i].equals("baseline") && i + 1 < args.length) {
+                command = "baseline";
+                baselineVersion = Integer.parseInt(args[++i]);
+            } else {
+                command = args[i];
+            }
+        }
+
+        try {
+            AppConfig config = AppConfig.load(ConfigManager.locateFile());
+            boolean embedded = config.getEnum(ConfigKey.DB_PROFILE, DatabaseProfile.class) == DatabaseProfile.EMBEDDED;
+            if (embedded && !command.equals("verify")) {
+                System.err.println("The embedded profile is built from db/embedded/schema.sql; only verify applies");
+                System.exit(2);
+            }
+            if (embedded) {
+                new EmbeddedDatabase(config.getString(ConfigKey.DB_EMBEDDED_URL),
+                    Paths.get(config.getString(ConfigKey.DB_EMBEDDED_SCRIPTS))).start(1, 5000);
+            } else {
+                DBConnection.configurePrimary(new DataSourceConfig("primary", config.getString(ConfigKey.DB_URL),
+                    config.getString(ConfigKey.DB_USER), config.getString(ConfigKey.DB_PASSWORD), 1), 5000);
+            }
+
+            SchemaMigrator migrator = new SchemaMigrator(DEFAULT_DIR, new QueryPlanVerifier(minRows));
+            switch (command) {
+                case "status" -> {
+                    List<Migration> pending = migrator.pending();
+                    System.out.println(pending.isEmpty() ? "Schema is up to date" : "Pending: " + pending);
+                }
+                case "migrate" -> {
+                    List<Migration> applied = migrator.migrate();
+                    System.out.println(applied.isEmpty() ? "Schema is up to date" : "Applied " + applied.size());
+                }
+                case "baseline" -> System.out.println("Recorded " + migrator.baseline(baselineVersion)
+                    + " migrations as applied");
+                case "verify" -> {
+                    failOnViolations(migrator.verifyAll());
+                    System.out.println("All verified queries use indexes");
+                }
+                default -> {
+                    System.err.println("Unknown command " + command + "; use status, migrate, verify or baseline N");
+                    System.exit(2);
+                }
+            }
+        } catch (ConfigException | IllegalStateException | IOException | SQLException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+}
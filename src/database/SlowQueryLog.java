@@ -0,0 +1,100 @@
+package src.database;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * SlowQueryLog appends query traces to a size-rotated log file.
+ * When the active file exceeds the size limit it is renamed to
+ * {@code <name>.1}, older files shift up, and the oldest is dropped.
+ */
+public class SlowQueryLog implements AutoCloseable {
+    private final Path file;
+    private final long maxFileBytes;
+    private final int maxArchivedFiles;
+
+    private BufferedWriter writer;
+    private long currentBytes;
+
+    public SlowQueryLog(Path file, long maxFileBytes, int maxArchivedFiles) {
+        if (maxFileBytes <= 0 || maxArchivedFiles < 0) {
+            throw new IllegalArgumentException("File size must be positive and archive count must be >= 0");
+        }
+        this.file = file;
+        this.maxFileBytes = maxFileBytes;
+        this.maxArchivedFiles = maxArchivedFiles;
+    }
+
+    /**
+     * Appends one trace entry, rotating the file first if it is full.
+     * I/O errors are reported but never propagated to the query path.
+     * @param trace the query trace
+     * @param sampled true if logged by sampling rather than the threshold
+     */
+    public synchronized void append(QueryTrace trace, boolean sampled) {
+        byte[] line = (trace.toLogLine(sampled) + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+        try {
+            if (writer == null) {
+                open();
+            }
+            if (currentBytes > 0 && currentBytes + line.length > maxFileBytes) {
+                rotate();
+            }
+            writer.write(new String(line, StandardCharsets.UTF_8));
+            writer.flush();
+            currentBytes += line.length;
+        } catch (IOException e) {
+            System.err.println("Failed to write slow query log: " + e.getMessage());
+        }
+    }
+
+    private void open() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        currentBytes = Files.size(file);
+    }
+
+    private void rotate() throws IOException {
+        writer.close();
+        writer = null;
+
+        if (maxArchivedFiles == 0) {
+            Files.deleteIfExists(file);
+        } else {
+            Files.deleteIfExists(archivePath(maxArchivedFiles));
+            for (int i = maxArchivedFiles - 1; i >= 1; i--) {
+                Path source = archivePath(i);
+                if (Files.exists(source)) {
+                    Files.move(source, archivePath(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(file, archivePath(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        open();
+    }
+
+    private Path archivePath(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                System.err.println("Failed to close slow query log: " + e.getMessage());
+            }
+            writer = null;
+        }
+    }
+}
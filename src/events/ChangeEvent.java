@@ -0,0 +1,110 @@
+package src.events;
+
+import src.models.Employee;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * ChangeEvent describes one committed write.
+ * Carries the affected employee IDs and, for salary changes, the pay date of
+ * the payroll row and its old and new value at the same index. Events are immutable; the arrays
+ * are copied on construction and on access. Employee updates also carry the
+ * set of fields that changed.
+ */
+public final class ChangeEvent {
+    private static final int[] NO_IDS = new int[0];
+    private static final double[] NO_VALUES = new double[0];
+    private static final Set<Employee.Field> NO_FIELDS = Set.of();
+
+    private final ChangeType type;
+    private final int[] empIds;
+    private final int[] payEpochDays;
+    private final double[] oldValues;
+    private final double[] newValues;
+    private final Set<Employee.Field> fields;
+    private final long timestampMillis;
+
+    private ChangeEvent(ChangeType type, int[] empIds, int[] payEpochDays, double[] oldValues, double[] newValues,
+                        Set<Employee.Field> fields) {
+        this.type = type;
+        this.empIds = empIds;
+        this.payEpochDays = payEpochDays;
+        this.oldValues = oldValues;
+        this.newValues = newValues;
+        this.fields = fields;
+        this.timestampMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Creates a salary change event.
+     * @param empIds the employees whose salary changed
+     * @param payEpochDays pay date of each changed payroll row, as days since 1970-01-01
+     * @param oldSalaries salary before the change, per row
+     * @param newSalaries salary after the change, per row
+     * @return the event
+     */
+    public static ChangeEvent salaryUpdated(int[] empIds, int[] payEpochDays, double[] oldSalaries,
+                                            double[] newSalaries) {
+        if (empIds.length != payEpochDays.length || empIds.length != oldSalaries.length ||
+            empIds.length != newSalaries.length) {
+            throw new IllegalArgumentException("Employee IDs, pay dates and salary values must have the same length");
+        }
+        return new ChangeEvent(ChangeType.SALARY_UPDATED, empIds.clone(), payEpochDays.clone(),
+            oldSalaries.clone(), newSalaries.clone(), NO_FIELDS);
+    }
+
+    /**
+     * Creates an employee update event for employees that had the same fields changed.
+     * @param fields the fields that were written
+     * @param empIds the updated employees
+     * @return the event
+     */
+    public static ChangeEvent employeeUpdated(Set<Employee.Field> fields, int... empIds) {
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("At least one changed field is required");
+        }
+        return new ChangeEvent(ChangeType.EMPLOYEE_UPDATED, empIds.clone(), NO_IDS, NO_VALUES, NO_VALUES,
+            Collections.unmodifiableSet(EnumSet.copyOf(fields)));
+    }
+
+    /**
+     * Creates an event that only lists affected employees.
+     * @param type the change type
+     * @param empIds the affected employees
+     * @return the event
+     */
+    public static ChangeEvent of(ChangeType type, int... empIds) {
+        return new ChangeEvent(type, empIds.length == 0 ? NO_IDS : empIds.clone(), NO_IDS, NO_VALUES, NO_VALUES,
+            NO_FIELDS);
+    }
+
+    public ChangeType getType() { return type; }
+    public long getTimestampMillis() { return timestampMillis; }
+
+    public int size() { return empIds.length; }
+    public int getEmpId(int index) { return empIds[index]; }
+    public LocalDate getPayDate(int index) { return LocalDate.ofEpochDay(payEpochDays[index]); }
+    public int getPayEpochDay(int index) { return payEpochDays[index]; }
+    public double getOldValue(int index) { return oldValues[index]; }
+    public double getNewValue(int index) { return newValues[index]; }
+    public boolean hasValues() { return oldValues.length > 0; }
+
+    /**
+     * @return the changed employee fields; empty for events other than EMPLOYEE_UPDATED
+     */
+    public Set<Employee.Field> getFields() { return fields; }
+
+    public int[] getEmpIds() { return empIds.clone(); }
+
+    @Override
+    public String toString() {
+        return "ChangeEvent{" +
+                "type=" + type +
+                ", empIds=" + (empIds.length <= 10 ? Arrays.toString(empIds) : empIds.length + " employees") +
+                (fields.isEmpty() ? "" : ", fields=" + fields) +
+                '}';
+    }
+}
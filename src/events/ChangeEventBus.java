@@ -0,0 +1,310 @@
+package src.events;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ChangeEventBus is an in-process publish/subscribe bus built on a ring buffer.
+ *
+ * Publishers claim a sequence number with a compare-and-set once its slot is
+ * free, write the event into the slot and mark the slot as published; no locks
+ * are taken while there is room. Each subscriber runs on its own daemon thread,
+ * tracks its own sequence and consumes every event that has become available in
+ * one batch.
+ *
+ * Only the slow paths block: an idle subscriber sleeps until a publisher
+ * signals new events, and when the ring is full a publisher waits for the
+ * slowest subscriber for at most the publish timeout, then drops the event and
+ * counts it (see {@link #getDroppedCount()}). The drop count needs no ring slot:
+ * every subscriber checks it between batches and calls
+ * {@link ChangeEventListener#onEventsDropped()} when it has grown, so listeners
+ * never silently miss a change. A subscriber whose thread dies stops holding
+ * publishers back.
+ *
+ * Events are published after the write they describe has committed, so
+ * publish never throws for a full or closed bus; it logs and returns.
+ *
+ * Subscribe before publishing starts; a subscriber only sees events published
+ * after it was registered.
+ */
+public class ChangeEventBus implements ChangeEventPublisher, AutoCloseable {
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final long DEFAULT_PUBLISH_TIMEOUT_MILLIS = 1000;
+
+    private final int capacity;
+    private final int mask;
+    private final long publishTimeoutNanos;
+    private final AtomicReferenceArray<ChangeEvent> slots;
+    private final AtomicLongArray publishedSequences;
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private volatile boolean running = true;
+
+    // Slow-path signalling; the counters let the fast paths skip the lock when nobody waits
+    private final ReentrantLock waitLock = new ReentrantLock();
+    private final Condition eventsAvailable = waitLock.newCondition();
+    private final Condition spaceAvailable = waitLock.newCondition();
+    private final AtomicInteger idleSubscribers = new AtomicInteger();
+    private final AtomicInteger waitingPublishers = new AtomicInteger();
+
+    public ChangeEventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity ring size; rounded up to a power of two
+     */
+    public ChangeEventBus(int capacity) {
+        this(capacity, DEFAULT_PUBLISH_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * @param capacity ring size; rounded up to a power of two
+     * @param publishTimeoutMillis how long a publisher waits for room before dropping its event
+     */
+    public ChangeEventBus(int capacity, long publishTimeoutMillis) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (publishTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Publish timeout must be >= 0");
+        }
+        this.publishTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(publishTimeoutMillis);
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        this.capacity = size;
+        this.mask = this.capacity - 1;
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+        this.publishedSequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            publishedSequences.set(i, -1);
+        }
+    }
+
+    /**
+     * Registers a listener and starts its consumer thread.
+     * @param name name used for the consumer thread
+     * @param listener the listener
+     */
+    public void subscribe(String name, ChangeEventListener listener) {
+        Subscription subscription = new Subscription(name, listener, nextSequence.get() - 1);
+        subscriptions.add(subscription);
+        subscription.thread.start();
+    }
+
+    @Override
+    public void publish(ChangeEvent event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event must not be null");
+        }
+        if (!running) {
+            System.err.println("Event bus is closed; not publishing " + event);
+            return;
+        }
+
+        // Claim a sequence only once its slot's previous occupant has been consumed by
+        // every subscriber, so a publisher that gives up never leaves a gap in the ring
+        long deadline = 0;
+        long sequence;
+        while (true) {
+            sequence = nextSequence.get();
+            if (sequence - capacity > minimumConsumedSequence()) {
+                if (deadline == 0) {
+                    deadline = System.nanoTime() + publishTimeoutNanos;
+                }
+                if (!awaitSpace(sequence, deadline)) {
+                    dropped.incrementAndGet();
+                    // Wake idle subscribers so they notice the drop
+                    signalAll(eventsAvailable);
+                    return;
+                }
+            } else if (nextSequence.compareAndSet(sequence, sequence + 1)) {
+                break;
+            }
+        }
+
+        int index = (int) (sequence & mask);
+        slots.set(index, event);
+        publishedSequences.set(index, sequence);
+        if (idleSubscribers.get() > 0) {
+            signalAll(eventsAvailable);
+        }
+    }
+
+    /**
+     * @return number of events published so far
+     */
+    public long getPublishedCount() {
+        return nextSequence.get();
+    }
+
+    /**
+     * @return number of events dropped because the ring stayed full past the publish timeout
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Stops all consumer threads after they have drained the events already published.
+     */
+    @Override
+    public void close() {
+        running = false;
+        signalAll(eventsAvailable);
+        signalAll(spaceAvailable);
+        for (Subscription subscription : subscriptions) {
+            try {
+                subscription.thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private long minimumConsumedSequence() {
+        long minimum = Long.MAX_VALUE;
+        for (Subscription subscription : subscriptions) {
+            minimum = Math.min(minimum, subscription.consumed.get());
+        }
+        return minimum == Long.MAX_VALUE ? nextSequence.get() : minimum;
+    }
+
+    /**
+     * Waits until the slot for the sequence is free or the deadline passes.
+     * @return false if the publisher should give up
+     */
+    private boolean awaitSpace(long sequence, long deadline) {
+        waitLock.lock();
+        waitingPublishers.incrementAndGet();
+        try {
+            while (running && nextSequence.get() == sequence && sequence - capacity > minimumConsumedSequence()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                spaceAvailable.awaitNanos(remaining);
+            }
+            return running;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            waitingPublishers.decrementAndGet();
+            waitLock.unlock();
+        }
+    }
+
+    private void signalAll(Condition condition) {
+        waitLock.lock();
+        try {
+            condition.signalAll();
+        } finally {
+            waitLock.unlock();
+        }
+    }
+
+    /**
+     * Consumer state for one listener.
+     */
+    private final class Subscription implements Runnable {
+        private final String name;
+        private final ChangeEventListener listener;
+        private final AtomicLong consumed;
+        private final Thread thread;
+        // Drop count this listener has been told about; only read by the consumer thread
+        private long seenDropped;
+
+        Subscription(String name, ChangeEventListener listener, long startAfter) {
+            this.name = name;
+            this.listener = listener;
+            this.consumed = new AtomicLong(startAfter);
+            this.seenDropped = dropped.get();
+            this.thread = new Thread(this, "event-bus-" + name);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    long droppedNow = dropped.get();
+                    if (droppedNow != seenDropped) {
+                        seenDropped = droppedNow;
+                        try {
+                            listener.onEventsDropped();
+                        } catch (Throwable e) {
+                            System.err.println("Event listener '" + name + "' failed on dropped events: " + e);
+                        }
+                    }
+                    long next = consumed.get() + 1;
+                    long available = availableFrom(next);
+
+                    if (available < next) {
+                        if (!running || !awaitEvents(next)) {
+                            return;
+                        }
+                        continue;
+                    }
+
+                    for (long sequence = next; sequence <= available; sequence++) {
+                        ChangeEvent event = slots.get((int) (sequence & mask));
+                        try {
+                            listener.onEvent(event, sequence == available);
+                        } catch (Throwable e) {
+                            System.err.println("Event listener '" + name + "' failed on " + event + ": " + e);
+                        }
+                        consumed.set(sequence);
+                    }
+                    if (waitingPublishers.get() > 0) {
+                        signalAll(spaceAvailable);
+                    }
+                }
+            } finally {
+                // Never hold publishers back once this consumer has stopped
+                consumed.set(Long.MAX_VALUE);
+                signalAll(spaceAvailable);
+            }
+        }
+
+        private long availableFrom(long next) {
+            long available = next - 1;
+            while (publishedSequences.get((int) ((available + 1) & mask)) == available + 1) {
+                available++;
+            }
+            return available;
+        }
+
+        /**
+         * Sleeps until an event at or after next is published, an event is dropped or the bus closes.
+         * @return false if the consumer thread was interrupted and should stop
+         */
+        private boolean awaitEvents(long next) {
+            waitLock.lock();
+            idleSubscribers.incrementAndGet();
+            try {
+                while (running && availableFrom(next) < next && dropped.get() == seenDropped) {
+                    eventsAvailable.await();
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                idleSubscribers.decrementAndGet();
+                waitLock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package src.events;
+
+/**
+ * ChangeEventListener receives change events from a {@link ChangeEventBus}.
+ * Events arrive in publication order on the listener's own consumer thread.
+ * The endOfBatch flag marks the last event currently available, so listeners
+ * can buffer work and flush it once per batch.
+ */
+@FunctionalInterface
+public interface ChangeEventListener {
+    void onEvent(ChangeEvent event, boolean endOfBatch);
+
+    /**
+     * Called on the consumer thread after the bus dropped one or more events.
+     * The dropped events are gone, so listeners that derive state from events
+     * must treat all of it as stale.
+     */
+    default void onEventsDropped() {
+    }
+}
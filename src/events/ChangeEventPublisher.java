@@ -0,0 +1,17 @@
+package src.events;
+
+/**
+ * ChangeEventPublisher is the write-side view of the event bus.
+ * Repositories depend on this interface only, so they can run without a bus.
+ */
+@FunctionalInterface
+public interface ChangeEventPublisher {
+    /** Publisher that discards every event. */
+    ChangeEventPublisher NO_OP = event -> { };
+
+    /**
+     * Publishes an event to all subscribers.
+     * @param event the change event
+     */
+    void publish(ChangeEvent event);
+}
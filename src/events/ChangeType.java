@@ -0,0 +1,15 @@
+package src.events;
+
+/**
+ * ChangeType identifies what kind of write produced a {@link ChangeEvent}.
+ */
+public enum ChangeType {
+    /** Salaries changed, e.g. by a bulk raise; old and new values are included. */
+    SALARY_UPDATED,
+    /** Employee master data (name, SSN, job title, division) changed. */
+    EMPLOYEE_UPDATED,
+    /** A payroll run appended pay statements for the listed employees. */
+    PAYROLL_RUN,
+    /** The job title or division lookup tables changed. */
+    REFERENCE_DATA_CHANGED
+}
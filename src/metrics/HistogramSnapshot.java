@@ -0,0 +1,86 @@
+package src.metrics;
+
+/**
+ * HistogramSnapshot is an immutable copy of a {@link LatencyHistogram}'s buckets.
+ * Percentiles are reported as the upper bound of the bucket that contains them,
+ * so they never understate a latency.
+ */
+public class HistogramSnapshot {
+    private final long[] counts;
+    private final long totalCount;
+
+    HistogramSnapshot(long[] counts) {
+        this.counts = counts;
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        this.totalCount = total;
+    }
+
+    public long getTotalCount() { return totalCount; }
+
+    /**
+     * Combines two distributions, e.g. those of several per-thread recorders.
+     * @param other snapshot to add to this one
+     * @return a new snapshot holding the counts of both
+     */
+    public HistogramSnapshot merge(HistogramSnapshot other) {
+        long[] merged = counts.clone();
+        for (int i = 0; i < merged.length; i++) {
+            merged[i] += other.counts[i];
+        }
+        return new HistogramSnapshot(merged);
+    }
+
+    /**
+     * Returns the value at the given percentile.
+     * @param percentile percentile in the range 0-100
+     * @return value at that percentile, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        double clamped = Math.min(100.0, Math.max(0.0, percentile));
+        long target = Math.max(1, (long) Math.ceil(clamped / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return LatencyHistogram.bucketUpperBound(i);
+            }
+        }
+        return getMaxValue();
+    }
+
+    /**
+     * Upper bound of the highest non-empty bucket.
+     */
+    public long getMaxValue() {
+        for (int i = counts.length - 1; i >= 0; i--) {
+            if (counts[i] > 0) {
+                return LatencyHistogram.bucketUpperBound(i);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Mean estimated from bucket midpoints.
+     */
+    public double getMean() {
+        if (totalCount == 0) {
+            return 0;
+        }
+        double sum = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                long lower = LatencyHistogram.bucketLowerBound(i);
+                long upper = LatencyHistogram.bucketUpperBound(i);
+                sum += counts[i] * (lower + (upper - lower) / 2.0);
+            }
+        }
+        return sum / totalCount;
+    }
+}
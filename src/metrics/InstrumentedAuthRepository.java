@@ -0,0 +1,33 @@
+package src.metrics;
+
+import src.models.UserCredentials;
+import src.repositories.IAuthRepository;
+
+/**
+ * InstrumentedAuthRepository decorates an IAuthRepository with call metrics.
+ * Records call count, error count, rows returned and latency per method.
+ */
+public class InstrumentedAuthRepository implements IAuthRepository {
+    private static final String COMPONENT = "AuthRepository";
+
+    private final IAuthRepository delegate;
+    private final MethodMetrics validateLoginMetrics;
+
+    public InstrumentedAuthRepository(IAuthRepository delegate, MetricsRegistry registry) {
+        this.delegate = delegate;
+        this.validateLoginMetrics = registry.methodMetrics(COMPONENT, "validateLogin");
+    }
+
+    @Override
+    public UserCredentials validateLogin(String username, String password) {
+        long start = validateLoginMetrics.start();
+        try {
+            UserCredentials credentials = delegate.validateLogin(username, password);
+            validateLoginMetrics.success(start, credentials == null ? 0 : 1);
+            return credentials;
+        } catch (RuntimeException e) {
+            validateLoginMetrics.failure(start);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package src.metrics;
+
+import src.models.Employee;
+import src.models.EmployeeSearchResult;
+import src.repositories.IEmployeeRepository;
+import src.collections.IntObjectHashMap;
+import java.util.List;
+
+/**
+ * InstrumentedEmployeeRepository decorates an IEmployeeRepository with call metrics.
+ * Records call count, error count, rows returned and latency per method.
+ */
+public class InstrumentedEmployeeRepository implements IEmployeeRepository {
+    private static final String COMPONENT = "EmployeeRepository";
+
+    private final IEmployeeRepository delegate;
+    private final MethodMetrics searchEmployeeMetrics;
+    private final MethodMetrics getEmployeeByIdMetrics;
+    private final MethodMetrics getEmployeesByIdsMetrics;
+    private final MethodMetrics searchBySsnMetrics;
+    private final MethodMetrics updateEmployeeMetrics;
+    private final MethodMetrics updateEmployeesMetrics;
+
+    public InstrumentedEmployeeRepository(IEmployeeRepository delegate, MetricsRegistry registry) {
+        this.delegate = delegate;
+        this.searchEmployeeMetrics = registry.methodMetrics(COMPONENT, "searchEmployee");
+        this.getEmployeeByIdMetrics = registry.methodMetrics(COMPONENT, "getEmployeeById");
+        this.getEmployeesByIdsMetrics = registry.methodMetrics(COMPONENT, "getEmployeesByIds");
+        this.searchBySsnMetrics = registry.methodMetrics(COMPONENT, "searchBySsn");
+        this.updateEmployeeMetrics = registry.methodMetrics(COMPONENT, "updateEmployee");
+        this.updateEmployeesMetrics = registry.methodMetrics(COMPONENT, "updateEmployees");
+    }
+
+    @Override
+    public List<EmployeeSearchResult> searchEmployee(String searchTerm) {
+        long start = searchEmployeeMetrics.start();
+        try {
+            List<EmployeeSearchResult> results = delegate.searchEmployee(searchTerm);
+            searchEmployeeMetrics.success(start, results == null ? 0 : results.size());
+            return results;
+        } catch (RuntimeException e) {
+            searchEmployeeMetrics.failure(start);
+            throw e;
+        }
+    }
+
+    @Override
+    public Employee getEmployeeById(int empId) {
+        long start = getEmployeeByIdMetrics.start();
+        try {
+            Employee employee = delegate.getEmployeeById(empId);
+            getEmployeeByIdMetrics.success(start, employee == null ? 0 : 1);
+            return employee;
+        } catch (RuntimeException e) {
+            getEmployeeByIdMetrics.failure(start);
+            throw e;
+        }
+    }
+
+    @Override
+    public IntObjectHashMap<Employee> getEmployeesByIds(int[] empIds) {
+        long start = getEmployeesByIdsMetrics.start();
+        try {
+            IntObjectHashMap<Employee> employees = delegate.getEmployeesByIds(empIds);
+            getEmployeesByIdsMetrics.success(start, employees == null ? 0 : employees.size());
+            return employees;
+        } catch (RuntimeException e) {
+            getEmployeesByIdsMetrics.failure(start);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<EmployeeSearchResult> searchBySsn(String ssn) {
+        long start = searchBySsnMetrics.start();
+        try {
+            List<EmployeeSearchResult> results = delegate.searchBySsn(ssn);
+            searchBySsnMetrics.success(start, results == null ? 0 : results.size());
+            return results;
+        } catch (RuntimeException e) {
+            searchBySsnMetrics.failure(start);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean updateEmployee(Employee employee) {
+        long start = updateEmployeeMetrics.start();
+        try {
+            boolean updated = delegate.updateEmployee(employee);
+            updateEmployeeMetrics.success(start, updated ? 1 : 0);
+            return updated;
+        } catch (RuntimeException e) {
+            updateEmployeeMetrics.failure(start);
+            throw e;
+        }
+    }
+
+    @Override
+    public int updateEmployees(List<Employee> employees) {
+        long start = updateEmployeesMetrics.start();
+        try {
+            int updated = delegate.updateEmployees(employees);
+            updateEmployeesMetrics.success(start, updated);
+            return updated;
+        } catch (RuntimeException e) {
+            updateEmployeesMetrics.failure(start);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package src.metrics;
+
+import src.models.LatestSalaries;
+import src.models.PayrollRecord;
+import src.models.RaisePreview;
+import src.models.Report;
+import src.repositories.IPayrollRepository;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * InstrumentedPayrollRepository decorates an IPayrollRepository with call metrics.
+ * Records call count, error count, rows returned (or updated) and latency per method.
+ */
+public class InstrumentedPayrollRepository implements IPayrollRepository {
+    private static final String COMPONENT = "PayrollRepository";
+
+    private final IPayrollRepository delegate;
+    private final MethodMetrics getPayHistoryMetrics;
+    private final MethodMetrics getPayHistoryRangeMetrics;
+    private final MethodMetrics updateSalaryRangeMetrics;
+    private final MethodMetrics previewSalaryRangeMetrics;
+    private final MethodMetrics getLatestSalariesMetrics;
+    private final MethodMetrics getTotalPayByJobTitleMetrics;
+    private final MethodMetrics getTotalPayByDivisionMetrics;
+
+    public InstrumentedPayrollRepository(IPayrollRepository delegate, MetricsRegistry registry) {
+        this.delegate = delegate;
+        this.getPayHistoryMetrics = registry.methodMetrics(COMPONENT, "getPayHistory");
+        this.getPayHistoryRangeMetrics = registry.methodMetrics(COMPONENT, "getPayHistoryRange");
+        this.updateSalaryRangeMetrics = registry.methodMetrics(COMPONENT, "updateSalaryRange");
+        this.previewSalaryRangeMetrics = registry.methodMetrics(COMPONENT, "previewSalaryRange");
+        this.getLatestSalariesMetrics = registry.methodMetrics(COMPONENT, "getLatestSalaries");
+        this.getTotalPayByJobTitleMetrics = registry.methodMetrics(COMPONENT, "getTotalPayByJobTitle");
+        this.getTotalPayByDivisionMetrics = registry.methodMetrics(COMPONENT, "getTotalPayByDivision");
+    }
+
+    @Override
+    public List<PayrollRecord> getPayHistory(int empId) {
+        long start = getPayHistoryMetrics.start();
+        try {
+            List<PayrollRecord> history = delegate.getPayHistory(empId);
+            getPayHistoryMetrics.success(start, history == null ? 0 : history.size());
+            return history;
+        } catch (RuntimeException e) {
+            getPayHistoryMetrics.failure(start);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<PayrollRecord> getPayHistory(int empId, LocalDate from, LocalDate to, int limit) {
+        long start = getPayHistoryRangeMetrics.start();
+        try {
+            List<PayrollRecord> history = delegate.getPayHistory(empId, from, to, limit);
+            getPayHistoryRangeMetrics.success(start, history == null ? 0 : history.size());
+            return history;
+        } catch (RuntimeException e) {
+            getPayHistoryRangeMetrics.failure(start);
+            throw e;
+        }
+    }
+
+    @Override
+    public int updateSalaryRange(double min, double max, double percentIncrease) {
+        long start = updateSalaryRangeMetrics.start();
+        try {
+            int updated = delegate.updateSalaryRange(min, max, percentIncrease);
+            updateSalaryRangeMetrics.success(start, updated);
+            return updated;
+        } catch (RuntimeException e) {
+            updateSalaryRangeMetrics.failure(start);
+            throw e;
+        }
+    }
+
+    @Override
+    public RaisePreview previewSalaryRange(double min, double max, double percentIncrease) {
+        long start = previewSalaryRangeMetrics.start();
+        try {
+            RaisePreview preview = delegate.previewSalaryRange(min, max, percentIncrease);
+            previewSalaryRangeMetrics.success(start, preview == null ? 0 : preview.divisions().size());
+            return preview;
+        } catch (RuntimeException e) {
+            previewSalaryRangeMetrics.failure(start);
+            throw e;
+        }
+    }
+
+    @Override
+    public LatestSalaries getLatestSalaries() {
+        long start = getLatestSalariesMetrics.start();
+        try {
+            LatestSalaries salaries = delegate.getLatestSalaries();
+            getLatestSalariesMetrics.success(start, salaries == null ? 0 : salaries.size());
+            return salaries;
+        } catch (RuntimeException e) {
+            getLatestSalariesMetrics.failure(start);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Report> getTotalPayByJobTitle() {
+        long start = getTotalPayByJobTitleMetrics.start();
+        try {
+            List<Report> reports = delegate.getTotalPayByJobTitle();
+            getTotalPayByJobTitleMetrics.success(start, reports == null ? 0 : reports.size());
+            return reports;
+        } catch (RuntimeException e) {
+            getTotalPayByJobTitleMetrics.failure(start);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Report> getTotalPayByDivision() {
+        long start = getTotalPayByDivisionMetrics.start();
+        try {
+            List<Report> reports = delegate.getTotalPayByDivision();
+            getTotalPayByDivisionMetrics.success(start, reports == null ? 0 : reports.size());
+            return reports;
+        } catch (RuntimeException e) {
+            getTotalPayByDivisionMetrics.failure(start);
+            throw e;
+        }
+    }
+}
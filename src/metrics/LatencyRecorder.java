@@ -0,0 +1,45 @@
+package src.metrics;
+
+/**
+ * LatencyRecorder is a single-threaded counterpart of {@link LatencyHistogram}
+ * for test and benchmark harnesses: each thread records into its own
+ * instance with plain array increments, and the snapshots are merged with
+ * {@link HistogramSnapshot#merge} once the threads have finished.
+ *
+ * Not thread-safe; snapshot() may only be called by the recording thread or
+ * after it has been joined.
+ */
+public class LatencyRecorder {
+    private final long[] counts = new long[LatencyHistogram.BUCKET_COUNT];
+
+    /**
+     * Records a single latency in nanoseconds; negative values count as zero.
+     */
+    public void record(long value) {
+        counts[LatencyHistogram.bucketIndex(value)]++;
+    }
+
+    /**
+     * Records a latency with coordinated-omission correction; see
+     * {@link LatencyHistogram#recordCorrected(long, long)}.
+     * @param value the measured latency in nanoseconds
+     * @param expectedIntervalNanos intended time between samples, or 0 for no correction
+     */
+    public void recordCorrected(long value, long expectedIntervalNanos) {
+        record(value);
+        if (expectedIntervalNanos <= 0) {
+            return;
+        }
+        for (long missing = value - expectedIntervalNanos; missing >= expectedIntervalNanos;
+             missing -= expectedIntervalNanos) {
+            counts[LatencyHistogram.bucketIndex(missing)]++;
+        }
+    }
+
+    /**
+     * @return copy of the recorded distribution
+     */
+    public HistogramSnapshot snapshot() {
+        return new HistogramSnapshot(counts.clone());
+    }
+}
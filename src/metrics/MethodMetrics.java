@@ -0,0 +1,79 @@
+package src.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * MethodMetrics holds the counters and latency histogram for one instrumented method.
+ * Counters are LongAdders, so concurrent callers update separate cells instead
+ * of contending on a single atomic.
+ *
+ * Usage on the hot path:
+ * <pre>
+ *   long start = metrics.start();
+ *   try {
+ *       result = delegate.call();
+ *       metrics.success(start, rows);
+ *   } catch (RuntimeException e) {
+ *       metrics.failure(start);
+ *       throw e;
+ *   }
+ * </pre>
+ */
+public class MethodMetrics {
+    private final String component;
+    private final String method;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    MethodMetrics(String component, String method) {
+        this.component = component;
+        this.method = method;
+    }
+
+    public String getComponent() { return component; }
+    public String getMethod() { return method; }
+
+    public long getCalls() { return calls.sum(); }
+    public long getErrors() { return errors.sum(); }
+    public long getRows() { return rows.sum(); }
+    public long getTotalNanos() { return totalNanos.sum(); }
+    public HistogramSnapshot getLatency() { return latency.snapshot(); }
+
+    /**
+     * Marks the start of a call.
+     * @return start timestamp to pass to success or failure
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records a completed call.
+     * @param startNanos value returned by start
+     * @param rowCount rows returned or affected by the call
+     */
+    public void success(long startNanos, long rowCount) {
+        record(startNanos);
+        rows.add(rowCount);
+    }
+
+    /**
+     * Records a call that ended with an exception.
+     * @param startNanos value returned by start
+     */
+    public void failure(long startNanos) {
+        record(startNanos);
+        errors.increment();
+    }
+
+    private void record(long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        calls.increment();
+        totalNanos.add(elapsed);
+        latency.record(elapsed);
+    }
+}
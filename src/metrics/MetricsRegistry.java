@@ -0,0 +1,45 @@
+package src.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MetricsRegistry owns every {@link MethodMetrics} instance in the application.
+ * Instrumented components look their metrics up once at construction time,
+ * so the registry is never consulted on the hot path.
+ */
+public class MetricsRegistry {
+    private static final MetricsRegistry DEFAULT = new MetricsRegistry();
+
+    private final ConcurrentHashMap<String, MethodMetrics> metrics = new ConcurrentHashMap<>();
+
+    /**
+     * Shared registry used by the application wiring and reporters.
+     * @return the process-wide registry
+     */
+    public static MetricsRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the metrics for a component method, creating them on first use.
+     * @param component the component name (e.g., "EmployeeRepository")
+     * @param method the method name
+     * @return metrics shared by every caller using the same names
+     */
+    public MethodMetrics methodMetrics(String component, String method) {
+        return metrics.computeIfAbsent(component + "." + method, key -> new MethodMetrics(component, method));
+    }
+
+    /**
+     * Returns all registered metrics ordered by component and method.
+     * @return list of method metrics
+     */
+    public List<MethodMetrics> getAll() {
+        List<MethodMetrics> all = new ArrayList<>(metrics.values());
+        all.sort(Comparator.comparing(MethodMetrics::getComponent).thenComparing(MethodMetrics::getMethod));
+        return all;
+    }
+}
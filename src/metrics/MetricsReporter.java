@@ -0,0 +1,88 @@
+package src.metrics;
+
+import java.io.PrintStream;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MetricsReporter renders a MetricsRegistry as a plain-text table.
+ * Can print the table once or on a fixed schedule from a daemon thread.
+ */
+public class MetricsReporter implements AutoCloseable {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final MetricsRegistry registry;
+    private final PrintStream out;
+    private ScheduledExecutorService scheduler;
+
+    public MetricsReporter(MetricsRegistry registry, PrintStream out) {
+        this.registry = registry;
+        this.out = out;
+    }
+
+    /**
+     * Starts dumping metrics periodically.
+     * @param intervalSeconds seconds between dumps
+     */
+    public synchronized void start(long intervalSeconds) {
+        if (intervalSeconds <= 0) {
+            throw new IllegalArgumentException("Report interval must be positive");
+        }
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::report, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Prints the current metrics once.
+     */
+    public void report() {
+        out.print(formatText());
+        out.flush();
+    }
+
+    /**
+     * Formats all metrics as a fixed-width table with latencies in milliseconds.
+     * @return formatted text
+     */
+    public String formatText() {
+        StringBuilder sb = new StringBuilder("--- METRICS ---\n");
+        sb.append(String.format("%-45s %8s %6s %8s %9s %9s %9s %9s%n",
+            "method", "calls", "errors", "rows", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)"));
+
+        for (MethodMetrics metrics : registry.getAll()) {
+            if (metrics.getCalls() == 0) {
+                continue;
+            }
+            HistogramSnapshot latency = metrics.getLatency();
+            sb.append(String.format("%-45s %8d %6d %8d %9.3f %9.3f %9.3f %9.3f%n",
+                metrics.getComponent() + "." + metrics.getMethod(),
+                metrics.getCalls(),
+                metrics.getErrors(),
+                metrics.getRows(),
+                latency.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                latency.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                latency.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                latency.getMaxValue() / NANOS_PER_MILLI));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Stops the periodic dump.
+     */
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler = null;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package src.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PercentileSpectrum is a latency distribution reduced to a fixed list of
+ * percentiles, saved as text so the spectra of two builds can be diffed.
+ *
+ * File format: a "# name count" header line, then one "percentile value"
+ * line per percentile, values in nanoseconds.
+ */
+public final class PercentileSpectrum {
+    /** The percentiles every spectrum reports, so files from different runs line up. */
+    public static final double[] PERCENTILES =
+        { 50, 75, 90, 95, 99, 99.5, 99.9, 99.95, 99.99, 99.999, 100 };
+
+    private final String name;
+    private final long totalCount;
+    private final long[] values;
+
+    private PercentileSpectrum(String name, long totalCount, long[] values) {
+        this.name = name;
+        this.totalCount = totalCount;
+        this.values = values;
+    }
+
+    /**
+     * @param name what was measured, e.g. "search"
+     * @param snapshot recorded latencies in nanoseconds
+     */
+    public static PercentileSpectrum of(String name, HistogramSnapshot snapshot) {
+        long[] values = new long[PERCENTILES.length];
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            values[i] = PERCENTILES[i] == 100 ? snapshot.getMaxValue()
+                : snapshot.getValueAtPercentile(PERCENTILES[i]);
+        }
+        return new PercentileSpectrum(name, snapshot.getTotalCount(), values);
+    }
+
+    public String getName() { return name; }
+    public long getTotalCount() { return totalCount; }
+
+    /**
+     * @param index position in {@link #PERCENTILES}
+     * @return latency in nanoseconds at that percentile
+     */
+    public long getValue(int index) { return values[index]; }
+
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("# ").append(name).append(' ').append(totalCount).append('\n');
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            sb.append(PERCENTILES[i]).append(' ').append(values[i]).append('\n');
+        }
+        return sb.toString();
+    }
+
+    public void write(Path file) throws IOException {
+        Files.writeString(file, format(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a file written by {@link #write(Path)}.
+     * @throws IOException if it cannot be read or does not list the expected percentiles
+     */
+    public static PercentileSpectrum read(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        if (lines.size() != PERCENTILES.length + 1 || !lines.get(0).startsWith("# ")) {
+            throw new IOException(file + " is not a percentile spectrum");
+        }
+        String[] header = lines.get(0).substring(2).trim().split(" ");
+        long[] values = new long[PERCENTILES.length];
+        try {
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                String[] pair = lines.get(i + 1).trim().split(" ");
+                if (Double.parseDouble(pair[0]) != PERCENTILES[i]) {
+                    throw new IOException(file + " line " + (i + 2) + ": expected percentile " + PERCENTILES[i]);
+                }
+                values[i] = Long.parseLong(pair[1]);
+            }
+            return new PercentileSpectrum(header[0], Long.parseLong(header[header.length - 1]), values);
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException(file + " is not a percentile spectrum: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Lists the percentiles at which a candidate is slower than this baseline
+     * by more than the tolerance. Differences below floorNanos are ignored so
+     * timer noise on fast operations does not count as a regression.
+     * @param candidate spectrum of the build under test
+     * @param tolerance allowed relative increase, e.g. 0.2 for 20%
+     * @param floorNanos smallest absolute increase that counts
+     * @return one description per regressed percentile; empty if none
+     */
+    public List<String> regressionsIn(PercentileSpectrum candidate, double tolerance, long floorNanos) {
+        List<String> regressions = new ArrayList<>();
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            long base = values[i];
+            long now = candidate.values[i];
+            if (now - base > floorNanos && now > base * (1 + tolerance)) {
+                regressions.add(String.format("%s p%s: %.3f ms -> %.3f ms (+%.0f%%)", name, PERCENTILES[i],
+                    base / 1e6, now / 1e6, base == 0 ? 100.0 : 100.0 * (now - base) / base));
+            }
+        }
+        return regressions;
+    }
+}
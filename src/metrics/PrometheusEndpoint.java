@@ -0,0 +1,119 @@
+package src.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * PrometheusEndpoint serves a MetricsRegistry in the Prometheus text exposition format.
+ * Binds to the loopback interface only; metrics are available at /metrics.
+ */
+public class PrometheusEndpoint implements AutoCloseable {
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final MetricsRegistry registry;
+    private HttpServer server;
+
+    public PrometheusEndpoint(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Starts the HTTP endpoint on localhost.
+     * @param port the TCP port to listen on (0 picks a free port)
+     * @throws IOException if the port cannot be bound
+     */
+    public synchronized void start(int port) throws IOException {
+        if (server != null) {
+            return;
+        }
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", exchange -> {
+            byte[] body = format().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+    }
+
+    /**
+     * @return the bound port, or -1 if the endpoint is not running
+     */
+    public synchronized int getPort() {
+        return server == null ? -1 : server.getAddress().getPort();
+    }
+
+    /**
+     * Formats all metrics in Prometheus text format.
+     * @return exposition text
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("# HELP companyz_calls_total Completed calls per method.\n");
+        sb.append("# TYPE companyz_calls_total counter\n");
+        for (MethodMetrics metrics : registry.getAll()) {
+            appendSample(sb, "companyz_calls_total", metrics, null, metrics.getCalls());
+        }
+
+        sb.append("# HELP companyz_errors_total Calls that ended with an exception.\n");
+        sb.append("# TYPE companyz_errors_total counter\n");
+        for (MethodMetrics metrics : registry.getAll()) {
+            appendSample(sb, "companyz_errors_total", metrics, null, metrics.getErrors());
+        }
+
+        sb.append("# HELP companyz_rows_total Rows returned or affected per method.\n");
+        sb.append("# TYPE companyz_rows_total counter\n");
+        for (MethodMetrics metrics : registry.getAll()) {
+            appendSample(sb, "companyz_rows_total", metrics, null, metrics.getRows());
+        }
+
+        sb.append("# HELP companyz_latency_seconds Call latency per method.\n");
+        sb.append("# TYPE companyz_latency_seconds summary\n");
+        for (MethodMetrics metrics : registry.getAll()) {
+            HistogramSnapshot latency = metrics.getLatency();
+            for (double quantile : QUANTILES) {
+                appendSample(sb, "companyz_latency_seconds", metrics, String.valueOf(quantile),
+                    latency.getValueAtPercentile(quantile * 100) / NANOS_PER_SECOND);
+            }
+            appendSample(sb, "companyz_latency_seconds_sum", metrics, null, metrics.getTotalNanos() / NANOS_PER_SECOND);
+            appendSample(sb, "companyz_latency_seconds_count", metrics, null, latency.getTotalCount());
+        }
+        return sb.toString();
+    }
+
+    private static void appendSample(StringBuilder sb, String name, MethodMetrics metrics, String quantile, double value) {
+        sb.append(name)
+          .append("{component=\"").append(metrics.getComponent())
+          .append("\",method=\"").append(metrics.getMethod()).append('"');
+        if (quantile != null) {
+            sb.append(",quantile=\"").append(quantile).append('"');
+        }
+        sb.append("} ");
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            sb.append((long) value);
+        } else {
+            sb.append(value);
+        }
+        sb.append('\n');
+    }
+
+    /**
+     * Stops the HTTP endpoint.
+     */
+    @Override
+    public synchronized void close() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+}
@@ -1,10 +1,21 @@
 package src.models;
 
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
 /**
  * Employee entity class representing an employee record.
  * Encapsulates employee data with proper getter/setter for maintainability.
+ * Setters record which fields changed since the object was loaded, so updates
+ * only write the modified columns.
  */
 public class Employee {
+    /** Updatable employee fields, used for dirty tracking. */
+    public enum Field { NAME, SSN, JOB_TITLE, DIVISION }
+
+    private final EnumSet<Field> dirtyFields = EnumSet.noneOf(Field.class);
+
     private int empId;
     private String name;
     private String ssn;
@@ -31,16 +42,47 @@ public class Employee {
     public void setEmpId(int empId) { this.empId = empId; }
 
     public String getName() { return name; }
-    public void setName(String name) { this.name = name; }
+    public void setName(String name) {
+        if (!Objects.equals(this.name, name)) {
+            this.name = name;
+            dirtyFields.add(Field.NAME);
+        }
+    }
 
     public String getSsn() { return ssn; }
-    public void setSsn(String ssn) { this.ssn = ssn; }
+    public void setSsn(String ssn) {
+        if (!Objects.equals(this.ssn, ssn)) {
+            this.ssn = ssn;
+            dirtyFields.add(Field.SSN);
+        }
+    }
 
     public int getJobTitleId() { return jobTitleId; }
-    public void setJobTitleId(int jobTitleId) { this.jobTitleId = jobTitleId; }
+    public void setJobTitleId(int jobTitleId) {
+        if (this.jobTitleId != jobTitleId) {
+            this.jobTitleId = jobTitleId;
+            dirtyFields.add(Field.JOB_TITLE);
+        }
+    }
 
     public int getDivisionId() { return divisionId; }
-    public void setDivisionId(int divisionId) { this.divisionId = divisionId; }
+    public void setDivisionId(int divisionId) {
+        if (this.divisionId != divisionId) {
+            this.divisionId = divisionId;
+            dirtyFields.add(Field.DIVISION);
+        }
+    }
+
+    /**
+     * @return the fields changed since construction or the last {@link #markClean()}
+     */
+    public Set<Field> getDirtyFields() { return EnumSet.copyOf(dirtyFields); }
+    public boolean isDirty() { return !dirtyFields.isEmpty(); }
+
+    /**
+     * Clears the dirty fields; called once the changes have been written.
+     */
+    public void markClean() { dirtyFields.clear(); }
 
     @Override
     public String toString() {
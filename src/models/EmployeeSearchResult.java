@@ -3,11 +3,12 @@ package src.models;
 /**
  * EmployeeSearchResult data transfer object for search results.
  * Encapsulates search result data independently of database layer.
+ * Immutable, so results can be shared across threads and cached as they are.
  */
-public class EmployeeSearchResult {
-    private int empId;
-    private String name;
-    private double salary;
+public final class EmployeeSearchResult {
+    private final int empId;
+    private final String name;
+    private final double salary;
 
     public EmployeeSearchResult(int empId, String name, double salary) {
         this.empId = empId;
@@ -16,13 +17,10 @@ public class EmployeeSearchResult {
     }
 
     public int getEmpId() { return empId; }
-    public void setEmpId(int empId) { this.empId = empId; }
 
     public String getName() { return name; }
-    public void setName(String name) { this.name = name; }
 
     public double getSalary() { return salary; }
-    public void setSalary(double salary) { this.salary = salary; }
 
     @Override
     public String toString() {
@@ -0,0 +1,36 @@
+package src.models;
+
+/**
+ * EmployeeSnapshot is an immutable, thread-safe counterpart of {@link Employee}.
+ * Safe to share across threads and hold in caches without defensive copies.
+ */
+public record EmployeeSnapshot(int empId, String name, String ssn, int jobTitleId, int divisionId) {
+
+    /**
+     * Captures the current state of a mutable Employee.
+     * @param employee the employee to copy
+     * @return immutable snapshot
+     */
+    public static EmployeeSnapshot of(Employee employee) {
+        return new EmployeeSnapshot(employee.getEmpId(), employee.getName(), employee.getSsn(),
+            employee.getJobTitleId(), employee.getDivisionId());
+    }
+
+    /**
+     * @return a new mutable Employee with the same values
+     */
+    public Employee toEmployee() {
+        return new Employee(empId, name, ssn, jobTitleId, divisionId);
+    }
+
+    @Override
+    public String toString() {
+        // SSN intentionally omitted, matching Employee.toString()
+        return "EmployeeSnapshot{" +
+                "empId=" + empId +
+                ", name='" + name + '\'' +
+                ", jobTitleId=" + jobTitleId +
+                ", divisionId=" + divisionId +
+                '}';
+    }
+}
@@ -0,0 +1,21 @@
+package src.models;
+
+/**
+ * LatestSalaries holds the current salary of each employee: the salary on their
+ * latest payroll row, as parallel arrays with one entry per employee.
+ * @param empIds employee ids
+ * @param payEpochDays pay date of each employee's latest row, as days since 1970-01-01
+ * @param salaries salary on that row
+ */
+public record LatestSalaries(int[] empIds, int[] payEpochDays, double[] salaries) {
+
+    public LatestSalaries {
+        if (empIds.length != payEpochDays.length || empIds.length != salaries.length) {
+            throw new IllegalArgumentException("Employee IDs, pay dates and salaries must have the same length");
+        }
+    }
+
+    public int size() {
+        return empIds.length;
+    }
+}
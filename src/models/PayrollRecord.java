@@ -5,33 +5,37 @@ import java.time.LocalDate;
 /**
  * PayrollRecord entity representing payroll information.
  * Encapsulates salary and payment history data.
+ * Immutable; the pay date is held as an epoch-day int rather than a LocalDate
+ * object, so a record is one small object with no references.
  */
-public class PayrollRecord {
-    private int empId;
-    private double salary;
-    private LocalDate payDate;
+public final class PayrollRecord {
+    private final int empId;
+    private final double salary;
+    private final int payEpochDay;
 
     public PayrollRecord(int empId, double salary, LocalDate payDate) {
         this.empId = empId;
         this.salary = salary;
-        this.payDate = payDate;
+        this.payEpochDay = Math.toIntExact(payDate.toEpochDay());
     }
 
     public int getEmpId() { return empId; }
-    public void setEmpId(int empId) { this.empId = empId; }
 
     public double getSalary() { return salary; }
-    public void setSalary(double salary) { this.salary = salary; }
 
-    public LocalDate getPayDate() { return payDate; }
-    public void setPayDate(LocalDate payDate) { this.payDate = payDate; }
+    public LocalDate getPayDate() { return LocalDate.ofEpochDay(payEpochDay); }
+
+    /**
+     * @return the pay date as days since 1970-01-01
+     */
+    public int getPayEpochDay() { return payEpochDay; }
 
     @Override
     public String toString() {
         return "PayrollRecord{" +
                 "empId=" + empId +
                 ", salary=" + String.format("$%.2f", salary) +
-                ", payDate=" + payDate +
+                ", payDate=" + getPayDate() +
                 '}';
     }
 }
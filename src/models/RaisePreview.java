@@ -0,0 +1,47 @@
+package src.models;
+
+import java.util.List;
+
+/**
+ * RaisePreview describes the effect a salary range raise would have, without applying it.
+ * Holds one entry per division; the overall figures are the sums of the entries.
+ */
+public record RaisePreview(double min, double max, double percentIncrease, List<DivisionImpact> divisions) {
+
+    /**
+     * Impact of the raise on one division.
+     * @param division division name
+     * @param affectedCount number of payroll rows in the salary range
+     * @param currentTotal their current total salary
+     * @param delta change in total salary if the raise is applied
+     */
+    public record DivisionImpact(String division, int affectedCount, double currentTotal, double delta) { }
+
+    public RaisePreview {
+        divisions = List.copyOf(divisions);
+    }
+
+    public int getAffectedCount() {
+        int count = 0;
+        for (DivisionImpact impact : divisions) {
+            count += impact.affectedCount();
+        }
+        return count;
+    }
+
+    public double getCurrentTotal() {
+        double total = 0;
+        for (DivisionImpact impact : divisions) {
+            total += impact.currentTotal();
+        }
+        return total;
+    }
+
+    public double getTotalDelta() {
+        double delta = 0;
+        for (DivisionImpact impact : divisions) {
+            delta += impact.delta();
+        }
+        return delta;
+    }
+}
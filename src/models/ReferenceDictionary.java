@@ -0,0 +1,103 @@
+package src.models;
+
+import src.collections.IntObjectHashMap;
+import java.util.Arrays;
+
+/**
+ * ReferenceDictionary is an immutable, versioned snapshot of the job_titles
+ * and division lookup tables. Names are held in arrays indexed directly by id,
+ * so resolving an id is a single array read. It is the flyweight for these
+ * names: models resolved through it share its String instances instead of
+ * holding one copy per row.
+ */
+public final class ReferenceDictionary {
+    // Guards against sparse ids turning the lookup arrays into huge allocations
+    private static final int MAX_REFERENCE_ID = 1_000_000;
+
+    private final long version;
+    private final String[] jobTitleNames;
+    private final String[] divisionNames;
+
+    private ReferenceDictionary(long version, String[] jobTitleNames, String[] divisionNames) {
+        this.version = version;
+        this.jobTitleNames = jobTitleNames;
+        this.divisionNames = divisionNames;
+    }
+
+    /**
+     * Builds a dictionary from id-to-name maps.
+     * @param version version number of this snapshot
+     * @param jobTitles job_title_id to job_title_name
+     * @param divisions division_id to division_name
+     * @return the dictionary
+     */
+    public static ReferenceDictionary build(long version, IntObjectHashMap<String> jobTitles,
+                                            IntObjectHashMap<String> divisions) {
+        return new ReferenceDictionary(version, toArray(jobTitles), toArray(divisions));
+    }
+
+    /**
+     * @return an empty dictionary with version 0
+     */
+    public static ReferenceDictionary empty() {
+        return new ReferenceDictionary(0, new String[0], new String[0]);
+    }
+
+    public long getVersion() { return version; }
+
+    /**
+     * @param jobTitleId the job title id
+     * @return job title name, or null if the id is unknown
+     */
+    public String jobTitleName(int jobTitleId) {
+        return jobTitleId >= 0 && jobTitleId < jobTitleNames.length ? jobTitleNames[jobTitleId] : null;
+    }
+
+    /**
+     * @param divisionId the division id
+     * @return division name, or null if the id is unknown
+     */
+    public String divisionName(int divisionId) {
+        return divisionId >= 0 && divisionId < divisionNames.length ? divisionNames[divisionId] : null;
+    }
+
+    /**
+     * Compares contents, ignoring the version number.
+     * @param other the dictionary to compare with
+     * @return true if both map the same ids to the same names
+     */
+    public boolean hasSameEntries(ReferenceDictionary other) {
+        return other != null &&
+                Arrays.equals(jobTitleNames, other.jobTitleNames) &&
+                Arrays.equals(divisionNames, other.divisionNames);
+    }
+
+    /**
+     * Returns a copy of this dictionary under a different version number.
+     */
+    public ReferenceDictionary withVersion(long newVersion) {
+        return new ReferenceDictionary(newVersion, jobTitleNames, divisionNames);
+    }
+
+    private static String[] toArray(IntObjectHashMap<String> names) {
+        int maxId = -1;
+        for (int id : names.keys()) {
+            if (id < 0 || id > MAX_REFERENCE_ID) {
+                throw new IllegalArgumentException("Reference id out of supported range: " + id);
+            }
+            maxId = Math.max(maxId, id);
+        }
+        String[] array = new String[maxId + 1];
+        names.forEach((id, name) -> array[id] = name);
+        return array;
+    }
+
+    @Override
+    public String toString() {
+        return "ReferenceDictionary{" +
+                "version=" + version +
+                ", jobTitles=" + Arrays.stream(jobTitleNames).filter(n -> n != null).count() +
+                ", divisions=" + Arrays.stream(divisionNames).filter(n -> n != null).count() +
+                '}';
+    }
+}
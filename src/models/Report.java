@@ -3,10 +3,12 @@ package src.models;
 /**
  * Report entity for storing aggregated report data.
  * Encapsulates data for different report types (job title, division).
+ * Immutable; category names resolved through the {@link ReferenceDictionary}
+ * are the dictionary's shared String instances.
  */
-public class Report {
-    private String category;      // Job title name or division name
-    private double totalPayment;  // Total compensation for the category
+public final class Report {
+    private final String category;      // Job title name or division name
+    private final double totalPayment;  // Total compensation for the category
 
     public Report(String category, double totalPayment) {
         this.category = category;
@@ -14,10 +16,8 @@ public class Report {
     }
 
     public String getCategory() { return category; }
-    public void setCategory(String category) { this.category = category; }
 
     public double getTotalPayment() { return totalPayment; }
-    public void setTotalPayment(double totalPayment) { this.totalPayment = totalPayment; }
 
     @Override
     public String toString() {
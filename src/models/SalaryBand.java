@@ -0,0 +1,17 @@
+package src.models;
+
+/**
+ * SalaryBand summarizes the employees whose current salary (the salary on
+ * their latest payroll row) falls in [min, max), the same range convention as
+ * a bulk raise.
+ * @param min lower bound, inclusive
+ * @param max upper bound, exclusive
+ * @param count number of employees in the band
+ * @param totalSalary their total salary
+ */
+public record SalaryBand(double min, double max, int count, double totalSalary) {
+
+    public double getAverageSalary() {
+        return count == 0 ? 0 : totalSalary / count;
+    }
+}
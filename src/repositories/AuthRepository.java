@@ -2,6 +2,7 @@ package src.repositories;
 
 import src.models.UserCredentials;
 import src.database.DBConnection;
+import src.database.DataAccessException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -10,7 +11,7 @@ import java.sql.SQLException;
 /**
  * AuthRepository implements IAuthRepository.
  * Single Responsibility: handles only authentication database operations.
- * Encapsulates SQL logic, exceptions handled internally.
+ * Encapsulates SQL logic; failures surface as DataAccessException.
  */
 public class AuthRepository implements IAuthRepository {
     private static final String LOGIN_QUERY = "SELECT role FROM users WHERE username = ? AND password = ?";
@@ -34,8 +35,7 @@ public class AuthRepository implements IAuthRepository {
                 }
             }
         } catch (SQLException e) {
-            System.err.println("Authentication query failed: " + e.getMessage());
-            e.printStackTrace();
+            throw new DataAccessException("Authentication query failed", e);
         }
         return null;
     }
@@ -0,0 +1,177 @@
+package src.repositories;
+
+import src.models.Employee;
+import src.collections.IntObjectHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EmployeeBatchLoader coalesces single-employee lookups into batch queries.
+ * IDs requested within a short window are resolved with one call to
+ * {@link IEmployeeRepository#getEmployeesByIds}, and concurrent callers asking
+ * for the same ID share the in-flight future instead of issuing duplicate queries.
+ *
+ * Results are not cached: once a batch completes, the next request for an ID
+ * goes back to the repository. Every future handed out is completed, with an
+ * exception if the batch fails or the loader is closed before it runs.
+ */
+public class EmployeeBatchLoader implements AutoCloseable {
+    private static final long DEFAULT_WINDOW_MILLIS = 2;
+    private static final int DEFAULT_MAX_BATCH_SIZE = 500;
+
+    private final IEmployeeRepository employeeRepository;
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+
+    // Futures that have been handed out but not yet completed, keyed by empid
+    private final Map<Integer, CompletableFuture<Employee>> inFlight = new ConcurrentHashMap<>();
+
+    private final Object pendingLock = new Object();
+    private IntObjectHashMap<CompletableFuture<Employee>> pending = new IntObjectHashMap<>();  // guarded by pendingLock
+    private boolean dispatchScheduled;                                                          // guarded by pendingLock
+    private boolean closed;                                                                     // guarded by pendingLock
+
+    public EmployeeBatchLoader(IEmployeeRepository employeeRepository) {
+        this(employeeRepository, DEFAULT_WINDOW_MILLIS, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    public EmployeeBatchLoader(IEmployeeRepository employeeRepository, long windowMillis, int maxBatchSize) {
+        if (windowMillis < 0 || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Window must be >= 0 and batch size must be > 0");
+        }
+        this.employeeRepository = employeeRepository;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "employee-batch-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Requests an employee by ID.
+     * The lookup is deferred until the batch window closes or the batch fills up.
+     * @param empId the employee ID
+     * @return future completed with the Employee, or with null if not found;
+     *         failed with IllegalStateException once the loader is closed
+     */
+    public CompletableFuture<Employee> load(int empId) {
+        CompletableFuture<Employee> existing = inFlight.get(empId);
+        if (existing != null) {
+            return existing;
+        }
+
+        CompletableFuture<Employee> future = new CompletableFuture<>();
+        existing = inFlight.putIfAbsent(empId, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        boolean dispatchNow = false;
+        IntObjectHashMap<CompletableFuture<Employee>> rejected = null;
+        synchronized (pendingLock) {
+            pending.put(empId, future);
+            if (closed) {
+                rejected = takePending();
+            } else if (pending.size() >= maxBatchSize) {
+                dispatchNow = true;
+            } else if (!dispatchScheduled) {
+                try {
+                    scheduler.schedule(this::dispatch, windowMillis, TimeUnit.MILLISECONDS);
+                    dispatchScheduled = true;
+                } catch (RejectedExecutionException e) {
+                    rejected = takePending();
+                }
+            }
+        }
+
+        if (rejected != null) {
+            fail(rejected, new IllegalStateException("Employee batch loader is closed"));
+        } else if (dispatchNow) {
+            dispatch();
+        }
+        return future;
+    }
+
+    /**
+     * Requests several employees and waits for all of them.
+     * @param empIds the employee IDs
+     * @return map of employee ID to Employee for every ID that was found
+     */
+    public IntObjectHashMap<Employee> loadAll(int[] empIds) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[empIds.length];
+        for (int i = 0; i < empIds.length; i++) {
+            futures[i] = load(empIds[i]);
+        }
+
+        IntObjectHashMap<Employee> employees = new IntObjectHashMap<>(empIds.length);
+        for (int i = 0; i < empIds.length; i++) {
+            Employee employee = (Employee) futures[i].join();
+            if (employee != null) {
+                employees.put(empIds[i], employee);
+            }
+        }
+        return employees;
+    }
+
+    /**
+     * Sends everything collected so far to the repository as one batch.
+     */
+    private void dispatch() {
+        IntObjectHashMap<CompletableFuture<Employee>> batch;
+        synchronized (pendingLock) {
+            dispatchScheduled = false;
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = takePending();
+        }
+
+        try {
+            IntObjectHashMap<Employee> found = employeeRepository.getEmployeesByIds(batch.keys());
+            batch.forEach((empId, future) -> {
+                inFlight.remove(empId, future);
+                future.complete(found.get(empId));
+            });
+        } catch (Throwable e) {
+            // Waiters must not hang, whatever the repository threw
+            fail(batch, e);
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+        }
+    }
+
+    private IntObjectHashMap<CompletableFuture<Employee>> takePending() {
+        IntObjectHashMap<CompletableFuture<Employee>> batch = pending;
+        pending = new IntObjectHashMap<>();
+        return batch;
+    }
+
+    private void fail(IntObjectHashMap<CompletableFuture<Employee>> batch, Throwable cause) {
+        batch.forEach((empId, future) -> {
+            inFlight.remove(empId, future);
+            future.completeExceptionally(cause);
+        });
+    }
+
+    /**
+     * Flushes any pending requests and stops the dispatch thread.
+     * Later loads fail with IllegalStateException.
+     */
+    @Override
+    public void close() {
+        synchronized (pendingLock) {
+            closed = true;
+        }
+        dispatch();
+        scheduler.shutdown();
+    }
+}
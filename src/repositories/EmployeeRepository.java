@@ -3,12 +3,22 @@ package src.repositories;
 import src.models.Employee;
 import src.models.EmployeeSearchResult;
 import src.database.DBConnection;
+import src.database.DataAccessException;
+import src.events.ChangeEvent;
+import src.events.ChangeEventPublisher;
+import src.security.SsnHasher;
+import src.collections.IntHashSet;
+import src.collections.IntArrayList;
+import src.collections.IntObjectHashMap;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * EmployeeRepository implements IEmployeeRepository.
@@ -24,11 +34,43 @@ public class EmployeeRepository implements IEmployeeRepository {
     private static final String SEARCH_BY_SSN_QUERY = 
         "SELECT e.empid, e.name, p.salary FROM employees e " +
         "JOIN payroll p ON e.empid = p.empid " +
-        "WHERE e.ssn = ?";
+        "WHERE e.ssn_hash = ?";
+
+    private static final String SELECT_UNHASHED_SSN_QUERY = 
+        "SELECT empid, ssn FROM employees WHERE ssn_hash IS NULL AND ssn IS NOT NULL";
+
+    private static final String UPDATE_SSN_HASH_QUERY = 
+        "UPDATE employees SET ssn_hash = ? WHERE empid = ?";
     
     private static final String GET_BY_ID_QUERY = 
         "SELECT empid, name, job_title_id, division_id FROM employees WHERE empid = ?";
 
+    private static final String GET_BY_IDS_QUERY_PREFIX = 
+        "SELECT empid, name, job_title_id, division_id FROM employees WHERE empid IN (";
+
+    // Keeps each IN list well under driver/server placeholder limits
+    private static final int MAX_IDS_PER_QUERY = 500;
+
+    private final SsnHasher ssnHasher;
+    private final ChangeEventPublisher eventPublisher;
+
+    public EmployeeRepository() {
+        this(SsnHasher.getDefault());
+    }
+
+    public EmployeeRepository(SsnHasher ssnHasher) {
+        this(ssnHasher, ChangeEventPublisher.NO_OP);
+    }
+
+    /**
+     * @param ssnHasher hashes SSNs for ssn_hash lookups and updates
+     * @param eventPublisher receives an EMPLOYEE_UPDATED event per committed field set
+     */
+    public EmployeeRepository(SsnHasher ssnHasher, ChangeEventPublisher eventPublisher) {
+        this.ssnHasher = ssnHasher;
+        this.eventPublisher = eventPublisher;
+    }
+
     @Override
     public List<EmployeeSearchResult> searchEmployee(String searchTerm) {
         List<EmployeeSearchResult> results = new ArrayList<>();
@@ -37,7 +79,7 @@ public class EmployeeRepository implements IEmployeeRepository {
             return results;
         }
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DBConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(SEARCH_QUERY)) {
             stmt.setString(1, "%" + searchTerm + "%");
             stmt.setString(2, searchTerm);
@@ -53,8 +95,7 @@ public class EmployeeRepository implements IEmployeeRepository {
                 }
             }
         } catch (SQLException e) {
-            System.err.println("Employee search failed: " + e.getMessage());
-            e.printStackTrace();
+            throw new DataAccessException("Employee search failed", e);
         }
         return results;
     }
@@ -76,12 +117,59 @@ public class EmployeeRepository implements IEmployeeRepository {
                 }
             }
         } catch (SQLException e) {
-            System.err.println("Failed to retrieve employee: " + e.getMessage());
-            e.printStackTrace();
+            throw new DataAccessException("Failed to retrieve employee", e);
         }
         return null;
     }
 
+    @Override
+    public IntObjectHashMap<Employee> getEmployeesByIds(int[] empIds) {
+        if (empIds == null || empIds.length == 0) {
+            return new IntObjectHashMap<>();
+        }
+
+        int[] distinctIds = IntHashSet.of(empIds).toArray();
+        IntObjectHashMap<Employee> employees = new IntObjectHashMap<>(distinctIds.length);
+
+        try (Connection conn = DBConnection.getConnection()) {
+            for (int from = 0; from < distinctIds.length; from += MAX_IDS_PER_QUERY) {
+                int chunkSize = Math.min(MAX_IDS_PER_QUERY, distinctIds.length - from);
+                
+                try (PreparedStatement stmt = conn.prepareStatement(buildInQuery(chunkSize))) {
+                    for (int i = 0; i < chunkSize; i++) {
+                        stmt.setInt(i + 1, distinctIds[from + i]);
+                    }
+                    
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            Employee employee = new Employee(
+                                rs.getInt("empid"),
+                                rs.getString("name"),
+                                rs.getInt("job_title_id"),
+                                rs.getInt("division_id")
+                            );
+                            employees.put(employee.getEmpId(), employee);
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to retrieve employees by ID", e);
+        }
+        return employees;
+    }
+
+    /**
+     * Builds the batch lookup query with one placeholder per ID.
+     */
+    private static String buildInQuery(int placeholders) {
+        StringBuilder sql = new StringBuilder(GET_BY_IDS_QUERY_PREFIX);
+        for (int i = 0; i < placeholders; i++) {
+            sql.append(i == 0 ? "?" : ",?");
+        }
+        return sql.append(")").toString();
+    }
+
     @Override
     public List<EmployeeSearchResult> searchBySsn(String ssn) {
         List<EmployeeSearchResult> results = new ArrayList<>();
@@ -89,10 +177,16 @@ public class EmployeeRepository implements IEmployeeRepository {
         if (ssn == null || ssn.trim().isEmpty()) {
             return results;
         }
+        
+        // Only the keyed hash is sent to the database; it is matched via idx_employees_ssn_hash
+        byte[] ssnHash = ssnHasher.hash(ssn);
+        if (ssnHash == null) {
+            return results;
+        }
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DBConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(SEARCH_BY_SSN_QUERY)) {
-            stmt.setString(1, ssn);
+            stmt.setBytes(1, ssnHash);
             
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
@@ -105,9 +199,173 @@ public class EmployeeRepository implements IEmployeeRepository {
                 }
             }
         } catch (SQLException e) {
-            System.err.println("Employee SSN search failed: " + e.getMessage());
-            e.printStackTrace();
+            throw new DataAccessException("Employee SSN search failed", e);
         }
         return results;
     }
+
+    @Override
+    public boolean updateEmployee(Employee employee) {
+        return employee != null && updateEmployees(List.of(employee)) == 1;
+    }
+
+    @Override
+    public int updateEmployees(List<Employee> employees) {
+        if (employees == null || employees.isEmpty()) {
+            return 0;
+        }
+
+        // One UPDATE statement per distinct set of changed columns
+        Map<Set<Employee.Field>, List<Employee>> groups = new LinkedHashMap<>();
+        for (Employee employee : employees) {
+            if (employee.isDirty()) {
+                groups.computeIfAbsent(employee.getDirtyFields(), fields -> new ArrayList<>()).add(employee);
+            }
+        }
+        if (groups.isEmpty()) {
+            return 0;
+        }
+
+        List<ChangeEvent> events = new ArrayList<>(groups.size());
+        List<Employee> updated = new ArrayList<>();
+
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+
+            try {
+                for (Map.Entry<Set<Employee.Field>, List<Employee>> group : groups.entrySet()) {
+                    Set<Employee.Field> fields = group.getKey();
+                    List<Employee> members = group.getValue();
+                    IntArrayList updatedIds = new IntArrayList(members.size());
+
+                    try (PreparedStatement stmt = conn.prepareStatement(buildUpdateQuery(fields))) {
+                        for (Employee employee : members) {
+                            bindUpdate(stmt, fields, employee);
+                            stmt.addBatch();
+                        }
+                        int[] updateCounts = stmt.executeBatch();
+                        for (int i = 0; i < members.size(); i++) {
+                            // SUCCESS_NO_INFO (-2) means the driver could not report a count
+                            if (updateCounts[i] != 0) {
+                                updatedIds.add(members.get(i).getEmpId());
+                                updated.add(members.get(i));
+                            }
+                        }
+                    }
+                    if (!updatedIds.isEmpty()) {
+                        events.add(ChangeEvent.employeeUpdated(fields, updatedIds.toArray()));
+                    }
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                System.err.println("Employee update transaction rolled back: " + e.getMessage());
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to update employees", e);
+        }
+
+        for (Employee employee : updated) {
+            employee.markClean();
+        }
+        for (ChangeEvent event : events) {
+            eventPublisher.publish(event);
+        }
+        return updated.size();
+    }
+
+    /**
+     * Builds an UPDATE that sets only the given columns. An SSN change also rewrites ssn_hash.
+     */
+    private static String buildUpdateQuery(Set<Employee.Field> fields) {
+        StringBuilder sql = new StringBuilder("UPDATE employees SET ");
+        String separator = "";
+        for (Employee.Field field : fields) {
+            sql.append(separator);
+            switch (field) {
+                case NAME:
+                    sql.append("name = ?");
+                    break;
+                case SSN:
+                    sql.append("ssn = ?, ssn_hash = ?");
+                    break;
+                case JOB_TITLE:
+                    sql.append("job_title_id = ?");
+                    break;
+                case DIVISION:
+                    sql.append("division_id = ?");
+                    break;
+            }
+            separator = ", ";
+        }
+        return sql.append(" WHERE empid = ?").toString();
+    }
+
+    /**
+     * Binds parameters in the column order produced by buildUpdateQuery.
+     */
+    private void bindUpdate(PreparedStatement stmt, Set<Employee.Field> fields, Employee employee)
+            throws SQLException {
+        int index = 1;
+        for (Employee.Field field : fields) {
+            switch (field) {
+                case NAME:
+                    stmt.setString(index++, employee.getName());
+                    break;
+                case SSN:
+                    stmt.setString(index++, employee.getSsn());
+                    stmt.setBytes(index++, ssnHasher.hash(employee.getSsn()));
+                    break;
+                case JOB_TITLE:
+                    stmt.setInt(index++, employee.getJobTitleId());
+                    break;
+                case DIVISION:
+                    stmt.setInt(index++, employee.getDivisionId());
+                    break;
+            }
+        }
+        stmt.setInt(index, employee.getEmpId());
+    }
+
+    /**
+     * Computes ssn_hash for employees that do not have one yet.
+     * Run after applying the ssn_hash migration or rotating the HMAC key
+     * (after clearing the column); rows that already have a hash are skipped.
+     * @return number of employees updated
+     */
+    public int backfillSsnHashes() {
+        int count = 0;
+        
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            
+            try (PreparedStatement selectStmt = conn.prepareStatement(SELECT_UNHASHED_SSN_QUERY);
+                 PreparedStatement updateStmt = conn.prepareStatement(UPDATE_SSN_HASH_QUERY);
+                 ResultSet rs = selectStmt.executeQuery()) {
+                while (rs.next()) {
+                    byte[] ssnHash = ssnHasher.hash(rs.getString("ssn"));
+                    if (ssnHash == null) {
+                        continue;
+                    }
+                    updateStmt.setBytes(1, ssnHash);
+                    updateStmt.setInt(2, rs.getInt("empid"));
+                    updateStmt.addBatch();
+                    count++;
+                }
+                updateStmt.executeBatch();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to backfill SSN hashes", e);
+        }
+        return count;
+    }
 }
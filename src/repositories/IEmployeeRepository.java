@@ -2,6 +2,7 @@ package src.repositories;
 
 import src.models.Employee;
 import src.models.EmployeeSearchResult;
+import src.collections.IntObjectHashMap;
 import java.util.List;
 
 /**
@@ -23,10 +24,35 @@ public interface IEmployeeRepository {
      */
     Employee getEmployeeById(int empId);
 
+    /**
+     * Retrieves several employees in as few round-trips as possible.
+     * Duplicate IDs are resolved once; IDs with no matching employee are omitted.
+     * @param empIds the employee IDs to resolve
+     * @return map of employee ID to Employee for every ID that was found
+     */
+    IntObjectHashMap<Employee> getEmployeesByIds(int[] empIds);
+
     /**
      * Searches for an employee by Social Security Number (SSN).
      * @param ssn the employee's SSN (e.g., "123-45-6789")
      * @return list of matching employee search results
      */
     List<EmployeeSearchResult> searchBySsn(String ssn);
+
+    /**
+     * Writes the changed fields of an employee; unchanged columns are not touched.
+     * The employee is marked clean once the change is committed.
+     * @param employee the employee with its dirty fields set
+     * @return true if the employee was updated; false if nothing changed or it does not exist
+     */
+    boolean updateEmployee(Employee employee);
+
+    /**
+     * Writes the changed fields of several employees in one transaction.
+     * Employees with the same set of changed fields share one batched statement.
+     * Updated employees are marked clean.
+     * @param employees the employees to update; clean ones are skipped
+     * @return number of employees updated
+     */
+    int updateEmployees(List<Employee> employees);
 }
@@ -1,7 +1,10 @@
 package src.repositories;
 
+import src.models.LatestSalaries;
 import src.models.PayrollRecord;
+import src.models.RaisePreview;
 import src.models.Report;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -16,15 +19,43 @@ public interface IPayrollRepository {
      */
     List<PayrollRecord> getPayHistory(int empId);
 
+    /**
+     * Retrieves the pay history for an employee within a pay period range, newest first.
+     * @param empId the employee ID
+     * @param from first pay date to include, or null for no lower bound
+     * @param to pay date to stop before (exclusive), or null for no upper bound
+     * @param limit maximum number of records, or 0 for no limit
+     * @return list of payroll records
+     */
+    List<PayrollRecord> getPayHistory(int empId, LocalDate from, LocalDate to, int limit);
+
     /**
      * Updates salary for employees within a range by a percentage.
      * @param min minimum salary threshold
      * @param max maximum salary threshold
      * @param percentIncrease percentage increase to apply
      * @return number of records updated
+     * @throws src.database.PartialUpdateException if some rows in the range were left unchanged;
+     *         the others stay updated
      */
     int updateSalaryRange(double min, double max, double percentIncrease);
 
+    /**
+     * Computes what updateSalaryRange would change, per division, without writing or locking rows.
+     * @param min minimum salary threshold
+     * @param max maximum salary threshold
+     * @param percentIncrease percentage increase to evaluate
+     * @return the raise preview
+     */
+    RaisePreview previewSalaryRange(double min, double max, double percentIncrease);
+
+    /**
+     * Retrieves each employee's current salary, the salary on their latest
+     * payroll row, in no particular order. Used to build in-memory salary distributions.
+     * @return one entry per employee with payroll rows
+     */
+    LatestSalaries getLatestSalaries();
+
     /**
      * Retrieves total pay aggregated by job title.
      * @return list of reports with job title and total pay
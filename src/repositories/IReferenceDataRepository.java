@@ -0,0 +1,21 @@
+package src.repositories;
+
+import src.collections.IntObjectHashMap;
+
+/**
+ * IReferenceDataRepository defines the contract for reading lookup tables.
+ * Follows Interface Segregation Principle - focused on job title and division reference data.
+ */
+public interface IReferenceDataRepository {
+    /**
+     * Loads every job title.
+     * @return map of job_title_id to job_title_name
+     */
+    IntObjectHashMap<String> loadJobTitles();
+
+    /**
+     * Loads every division.
+     * @return map of division_id to division_name
+     */
+    IntObjectHashMap<String> loadDivisions();
+}
@@ -2,14 +2,66 @@ package src.repositories;
 
 import src.models.Employee;
 import src.models.EmployeeSearchResult;
+import src.models.EmployeeSnapshot;
+import src.security.SsnHasher;
+import src.security.SsnIndex;
+import src.collections.IntArrayList;
+import src.collections.IntObjectHashMap;
+import src.events.ChangeEvent;
+import src.events.ChangeEventPublisher;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntToDoubleFunction;
 
 /**
  * MockEmployeeRepository provides demo employee search for testing.
  * Useful when database is not available.
+ * Employees are held in memory together with an SSN hash index, so SSN
+ * lookups are a single hash probe rather than a scan. Search results show the
+ * repository's own demo salaries, or those of a {@link MockPayrollRepository}
+ * when one is given, so raises show up in searches.
  */
 public class MockEmployeeRepository implements IEmployeeRepository {
+    // Immutable snapshots, so stored rows can be shared without defensive copies
+    private final Map<Integer, EmployeeSnapshot> employees = new LinkedHashMap<>();
+    private final Map<Integer, Double> salaries = new HashMap<>();
+    private final SsnIndex ssnIndex = new SsnIndex(SsnHasher.getDefault());
+    private final ChangeEventPublisher eventPublisher;
+    private final IntToDoubleFunction salaryLookup;
+
+    public MockEmployeeRepository() {
+        this(ChangeEventPublisher.NO_OP);
+    }
+
+    public MockEmployeeRepository(ChangeEventPublisher eventPublisher) {
+        this(eventPublisher, null);
+    }
+
+    /**
+     * @param eventPublisher receives employee update events
+     * @param payroll salary store read by searches, or null for this repository's demo salaries
+     */
+    public MockEmployeeRepository(ChangeEventPublisher eventPublisher, MockPayrollRepository payroll) {
+        this.eventPublisher = eventPublisher;
+        this.salaryLookup = payroll != null ? payroll::getCurrentSalary
+            : empId -> salaries.getOrDefault(empId, 0.0);
+
+        // Mock employee data with SSNs
+        addEmployee(new Employee(1, "John Smith", "123-45-6789", 1, 1), 75000.00);
+        addEmployee(new Employee(2, "Jane Doe", "234-56-7890", 2, 1), 85000.00);
+        addEmployee(new Employee(3, "Bob Johnson", "345-67-8901", 1, 2), 72000.00);
+        addEmployee(new Employee(4, "Alice Williams", "456-78-9012", 2, 2), 90000.00);
+    }
+
+    private void addEmployee(Employee employee, double salary) {
+        employees.put(employee.getEmpId(), EmployeeSnapshot.of(employee));
+        salaries.put(employee.getEmpId(), salary);
+        ssnIndex.put(employee.getSsn(), employee.getEmpId());
+    }
 
     @Override
     public List<EmployeeSearchResult> searchEmployee(String searchTerm) {
@@ -23,16 +75,16 @@ public class MockEmployeeRepository implements IEmployeeRepository {
         String term = searchTerm.toLowerCase();
         
         if (term.contains("john") || term.contains("1")) {
-            results.add(new EmployeeSearchResult(1, "John Smith", 75000.00));
+            results.add(toSearchResult(employees.get(1)));
         }
         if (term.contains("jane") || term.contains("2")) {
-            results.add(new EmployeeSearchResult(2, "Jane Doe", 85000.00));
+            results.add(toSearchResult(employees.get(2)));
         }
         if (term.contains("bob") || term.contains("3")) {
-            results.add(new EmployeeSearchResult(3, "Bob Johnson", 72000.00));
+            results.add(toSearchResult(employees.get(3)));
         }
         if (term.contains("alice") || term.contains("4")) {
-            results.add(new EmployeeSearchResult(4, "Alice Williams", 90000.00));
+            results.add(toSearchResult(employees.get(4)));
         }
         
         return results;
@@ -40,18 +92,28 @@ public class MockEmployeeRepository implements IEmployeeRepository {
 
     @Override
     public Employee getEmployeeById(int empId) {
-        switch(empId) {
-            case 1:
-                return new Employee(1, "John Smith", "123-45-6789", 1, 1);
-            case 2:
-                return new Employee(2, "Jane Doe", "234-56-7890", 2, 1);
-            case 3:
-                return new Employee(3, "Bob Johnson", "345-67-8901", 1, 2);
-            case 4:
-                return new Employee(4, "Alice Williams", "456-78-9012", 2, 2);
-            default:
-                return null;
+        EmployeeSnapshot employee = employees.get(empId);
+        return employee == null ? null : employee.toEmployee();
+    }
+
+    @Override
+    public IntObjectHashMap<Employee> getEmployeesByIds(int[] empIds) {
+        IntObjectHashMap<Employee> employees = new IntObjectHashMap<>();
+        
+        if (empIds == null) {
+            return employees;
+        }
+        
+        for (int empId : empIds) {
+            if (employees.containsKey(empId)) {
+                continue;
+            }
+            Employee employee = getEmployeeById(empId);
+            if (employee != null) {
+                employees.put(empId, employee);
+            }
         }
+        return employees;
     }
 
     @Override
@@ -62,17 +124,61 @@ public class MockEmployeeRepository implements IEmployeeRepository {
             return results;
         }
         
-        // Mock employee data with SSNs
-        if (ssn.equals("123-45-6789")) {
-            results.add(new EmployeeSearchResult(1, "John Smith", 75000.00));
-        } else if (ssn.equals("234-56-7890")) {
-            results.add(new EmployeeSearchResult(2, "Jane Doe", 85000.00));
-        } else if (ssn.equals("345-67-8901")) {
-            results.add(new EmployeeSearchResult(3, "Bob Johnson", 72000.00));
-        } else if (ssn.equals("456-78-9012")) {
-            results.add(new EmployeeSearchResult(4, "Alice Williams", 90000.00));
+        int empId = ssnIndex.find(ssn);
+        if (empId > 0 && employees.containsKey(empId)) {
+            results.add(toSearchResult(employees.get(empId)));
         }
         
         return results;
     }
+
+    @Override
+    public boolean updateEmployee(Employee employee) {
+        return employee != null && updateEmployees(List.of(employee)) == 1;
+    }
+
+    @Override
+    public synchronized int updateEmployees(List<Employee> updates) {
+        if (updates == null) {
+            return 0;
+        }
+
+        Map<Set<Employee.Field>, IntArrayList> updatedByFields = new LinkedHashMap<>();
+        int count = 0;
+
+        for (Employee employee : updates) {
+            EmployeeSnapshot current = employees.get(employee.getEmpId());
+            if (current == null || !employee.isDirty()) {
+                continue;
+            }
+
+            // Apply only the dirty fields, as the SQL update would
+            Set<Employee.Field> fields = employee.getDirtyFields();
+            EmployeeSnapshot next = new EmployeeSnapshot(current.empId(),
+                fields.contains(Employee.Field.NAME) ? employee.getName() : current.name(),
+                fields.contains(Employee.Field.SSN) ? employee.getSsn() : current.ssn(),
+                fields.contains(Employee.Field.JOB_TITLE) ? employee.getJobTitleId() : current.jobTitleId(),
+                fields.contains(Employee.Field.DIVISION) ? employee.getDivisionId() : current.divisionId());
+            employees.put(next.empId(), next);
+
+            if (fields.contains(Employee.Field.SSN)) {
+                ssnIndex.remove(current.ssn());
+                ssnIndex.put(next.ssn(), next.empId());
+            }
+
+            updatedByFields.computeIfAbsent(fields, f -> new IntArrayList()).add(next.empId());
+            employee.markClean();
+            count++;
+        }
+
+        for (Map.Entry<Set<Employee.Field>, IntArrayList> entry : updatedByFields.entrySet()) {
+            eventPublisher.publish(ChangeEvent.employeeUpdated(entry.getKey(), entry.getValue().toArray()));
+        }
+        return count;
+    }
+
+    private EmployeeSearchResult toSearchResult(EmployeeSnapshot employee) {
+        return new EmployeeSearchResult(employee.empId(), employee.name(),
+            salaryLookup.applyAsDouble(employee.empId()));
+    }
 }
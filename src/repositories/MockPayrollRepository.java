@@ -1,16 +1,74 @@
 package src.repositories;
 
+import src.models.LatestSalaries;
 import src.models.PayrollRecord;
+import src.models.RaisePreview;
 import src.models.Report;
+import src.audit.SalaryAuditSink;
+import src.collections.DoubleArrayList;
+import src.collections.IntArrayList;
+import src.events.ChangeEvent;
+import src.events.ChangeEventPublisher;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * MockPayrollRepository provides demo payroll operations for testing.
  * Useful when database is not available.
+ * Current salaries of the mock employees are kept in memory, so salary
+ * updates change them and publish the same events as the real repository.
  */
 public class MockPayrollRepository implements IPayrollRepository {
+    private final Map<Integer, Double> salaries = new LinkedHashMap<>();
+    private final Map<Integer, String> jobTitles = new LinkedHashMap<>();
+    private final Map<Integer, String> divisions = new LinkedHashMap<>();
+    private final ChangeEventPublisher eventPublisher;
+    private volatile SalaryAuditSink auditSink = SalaryAuditSink.NO_OP;
+
+    public MockPayrollRepository() {
+        this(ChangeEventPublisher.NO_OP);
+    }
+
+    public MockPayrollRepository(ChangeEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+        
+        // Same employees, salaries, job titles and divisions as MockEmployeeRepository
+        addEmployee(1, 75000.00, "Senior Developer", "Engineering");
+        addEmployee(2, 85000.00, "Junior Developer", "Engineering");
+        addEmployee(3, 72000.00, "Senior Developer", "Management");
+        addEmployee(4, 90000.00, "Junior Developer", "Management");
+    }
+
+    /**
+     * @param auditSink receives the before/after value of every salary update
+     */
+    public void setAuditSink(SalaryAuditSink auditSink) {
+        this.auditSink = auditSink;
+    }
+
+    private void addEmployee(int empId, double salary, String jobTitle, String division) {
+        salaries.put(empId, salary);
+        jobTitles.put(empId, jobTitle);
+        divisions.put(empId, division);
+    }
+
+    /**
+     * @return copy of the current salary of each mock employee, by employee id
+     */
+    public synchronized Map<Integer, Double> getCurrentSalaries() {
+        return new LinkedHashMap<>(salaries);
+    }
+
+    /**
+     * @param empId employee id
+     * @return the employee's current salary, or 0 if unknown
+     */
+    public synchronized double getCurrentSalary(int empId) {
+        return salaries.getOrDefault(empId, 0.0);
+    }
 
     @Override
     public List<PayrollRecord> getPayHistory(int empId) {
@@ -26,34 +84,130 @@ public class MockPayrollRepository implements IPayrollRepository {
     }
 
     @Override
-    public int updateSalaryRange(double min, double max, double percentIncrease) {
-        // Mock: simulate updating 5 employees
-        System.out.println("MOCK: Updated 5 employees with salary range $" + min + "-$" + max + " by " + percentIncrease + "%");
-        return 5;
+    public List<PayrollRecord> getPayHistory(int empId, LocalDate from, LocalDate to, int limit) {
+        List<PayrollRecord> history = new ArrayList<>();
+        
+        for (PayrollRecord record : getPayHistory(empId)) {
+            if (from != null && record.getPayDate().isBefore(from)) {
+                continue;
+            }
+            if (to != null && !record.getPayDate().isBefore(to)) {
+                continue;
+            }
+            history.add(record);
+            if (limit > 0 && history.size() == limit) {
+                break;
+            }
+        }
+        return history;
     }
 
     @Override
-    public List<Report> getTotalPayByJobTitle() {
-        List<Report> reports = new ArrayList<>();
+    public synchronized int updateSalaryRange(double min, double max, double percentIncrease) {
+        if (percentIncrease < -100) {
+            throw new IllegalArgumentException("Percent increase cannot be less than -100");
+        }
         
-        // Mock report data
-        reports.add(new Report("Senior Developer", 350000.00));
-        reports.add(new Report("Junior Developer", 180000.00));
-        reports.add(new Report("Project Manager", 420000.00));
-        reports.add(new Report("Business Analyst", 240000.00));
+        IntArrayList empIds = new IntArrayList();
+        IntArrayList payDays = new IntArrayList();
+        DoubleArrayList oldSalaries = new DoubleArrayList();
+        DoubleArrayList newSalaries = new DoubleArrayList();
+        // Mock salaries are the current pay period's, dated today as in getPayHistory
+        int today = Math.toIntExact(LocalDate.now().toEpochDay());
         
-        return reports;
+        // Audit room is reserved before any salary changes, as the database repository does
+        int matching = 0;
+        for (double salary : salaries.values()) {
+            if (salary >= min && salary < max) {
+                matching++;
+            }
+        }
+        SalaryAuditSink audit = auditSink;
+        audit.reserve(matching);
+        
+        for (Map.Entry<Integer, Double> entry : salaries.entrySet()) {
+            double salary = entry.getValue();
+            if (salary >= min && salary < max) {
+                double newSalary = salary * (1 + (percentIncrease / 100));
+                entry.setValue(newSalary);
+                audit.record(entry.getKey(), today, salary, newSalary);
+                empIds.add(entry.getKey());
+                payDays.add(today);
+                oldSalaries.add(salary);
+                newSalaries.add(newSalary);
+            }
+        }
+        
+        System.out.println("MOCK: Updated " + empIds.size() + " employees with salary range $" + min + "-$" + max + " by " + percentIncrease + "%");
+        if (!empIds.isEmpty()) {
+            eventPublisher.publish(ChangeEvent.salaryUpdated(
+                empIds.toArray(), payDays.toArray(), oldSalaries.toArray(), newSalaries.toArray()));
+        }
+        return empIds.size();
     }
 
     @Override
-    public List<Report> getTotalPayByDivision() {
-        List<Report> reports = new ArrayList<>();
+    public synchronized RaisePreview previewSalaryRange(double min, double max, double percentIncrease) {
+        Map<String, int[]> counts = new LinkedHashMap<>();
+        Map<String, Double> totals = new LinkedHashMap<>();
+        
+        for (Map.Entry<Integer, Double> entry : salaries.entrySet()) {
+            double salary = entry.getValue();
+            if (salary >= min && salary < max) {
+                String division = divisions.get(entry.getKey());
+                counts.computeIfAbsent(division, d -> new int[1])[0]++;
+                totals.merge(division, salary, Double::sum);
+            }
+        }
         
-        // Mock report data
-        reports.add(new Report("Engineering", 570000.00));
-        reports.add(new Report("Management", 420000.00));
-        reports.add(new Report("Operations", 240000.00));
+        List<RaisePreview.DivisionImpact> impacts = new ArrayList<>();
+        for (Map.Entry<String, Double> entry : totals.entrySet()) {
+            double currentTotal = entry.getValue();
+            impacts.add(new RaisePreview.DivisionImpact(entry.getKey(), counts.get(entry.getKey())[0],
+                currentTotal, currentTotal * (percentIncrease / 100)));
+        }
+        return new RaisePreview(min, max, percentIncrease, impacts);
+    }
+
+    @Override
+    public synchronized LatestSalaries getLatestSalaries() {
+        // Mock salaries are all paid today, the pay date updateSalaryRange reports
+        int today = Math.toIntExact(LocalDate.now().toEpochDay());
+        int[] empIds = new int[salaries.size()];
+        int[] payDays = new int[salaries.size()];
+        double[] values = new double[salaries.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Double> entry : salaries.entrySet()) {
+            empIds[i] = entry.getKey();
+            payDays[i] = today;
+            values[i++] = entry.getValue();
+        }
+        return new LatestSalaries(empIds, payDays, values);
+    }
+
+    @Override
+    public synchronized List<Report> getTotalPayByJobTitle() {
+        return totalsBy(jobTitles);
+    }
+
+    @Override
+    public synchronized List<Report> getTotalPayByDivision() {
+        return totalsBy(divisions);
+    }
+
+    /**
+     * Sums the current salaries per category, in one consistent pass.
+     */
+    private List<Report> totalsBy(Map<Integer, String> categories) {
+        Map<String, Double> totals = new LinkedHashMap<>();
+        for (Map.Entry<Integer, Double> entry : salaries.entrySet()) {
+            totals.merge(categories.get(entry.getKey()), entry.getValue(), Double::sum);
+        }
         
+        List<Report> reports = new ArrayList<>(totals.size());
+        for (Map.Entry<String, Double> entry : totals.entrySet()) {
+            reports.add(new Report(entry.getKey(), entry.getValue()));
+        }
         return reports;
     }
 }
@@ -0,0 +1,29 @@
+package src.repositories;
+
+import src.collections.IntObjectHashMap;
+
+/**
+ * MockReferenceDataRepository provides demo job titles and divisions for testing.
+ * Useful when database is not available.
+ */
+public class MockReferenceDataRepository implements IReferenceDataRepository {
+
+    @Override
+    public IntObjectHashMap<String> loadJobTitles() {
+        IntObjectHashMap<String> jobTitles = new IntObjectHashMap<>();
+        jobTitles.put(1, "Senior Developer");
+        jobTitles.put(2, "Junior Developer");
+        jobTitles.put(3, "Project Manager");
+        jobTitles.put(4, "Business Analyst");
+        return jobTitles;
+    }
+
+    @Override
+    public IntObjectHashMap<String> loadDivisions() {
+        IntObjectHashMap<String> divisions = new IntObjectHashMap<>();
+        divisions.put(1, "Engineering");
+        divisions.put(2, "Management");
+        divisions.put(3, "Operations");
+        return divisions;
+    }
+}
@@ -1,16 +1,30 @@
 package src.repositories;
 
+import src.models.LatestSalaries;
 import src.models.PayrollRecord;
+import src.models.RaisePreview;
+import src.models.ReferenceDictionary;
 import src.models.Report;
+import src.audit.SalaryAuditSink;
 import src.database.DBConnection;
+import src.database.DataAccessException;
+import src.database.FetchPlan;
+import src.database.PartialUpdateException;
+import src.collections.DoubleArrayList;
+import src.collections.IntArrayList;
+import src.events.ChangeEvent;
+import src.events.ChangeEventPublisher;
 import java.sql.Connection;
 import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
 
 /**
  * PayrollRepository implements IPayrollRepository.
@@ -21,11 +35,67 @@ public class PayrollRepository implements IPayrollRepository {
     private static final String PAY_HISTORY_QUERY = 
         "SELECT pay_date, salary FROM payroll WHERE empid = ? ORDER BY pay_date DESC";
     
+    // Bounded on pay_date so MySQL prunes payroll partitions outside the range
+    private static final String PAY_HISTORY_RANGE_QUERY = 
+        "SELECT pay_date, salary FROM payroll WHERE empid = ? AND pay_date >= ? AND pay_date < ? " +
+        "ORDER BY pay_date DESC LIMIT ?";
+    
+    // Bounds substituted for open-ended ranges (the limits of the MySQL DATE type)
+    private static final LocalDate EARLIEST_PAY_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate LATEST_PAY_DATE = LocalDate.of(9999, 12, 31);
+    
+    // Locks the rows it reads, so a concurrent raise on an overlapping band waits
+    // instead of computing from a stale salary (a lost update)
     private static final String SELECT_SALARY_RANGE_QUERY = 
-        "SELECT empid, salary FROM payroll WHERE salary >= ? AND salary < ?";
+        "SELECT empid, pay_date, salary FROM payroll WHERE salary >= ? AND salary < ? FOR UPDATE";
+    
+    // Plain consistent reads (no FOR UPDATE), so a preview never blocks concurrent writers.
+    // Grouped from the payroll side to count exactly the rows updateSalaryRange would touch.
+    private static final String PREVIEW_SALARY_RANGE_QUERY = 
+        "SELECT d.division_name AS division, COUNT(*) AS affected, SUM(p.salary) AS current_total " +
+        "FROM payroll p " +
+        "LEFT JOIN employees e ON e.empid = p.empid " +
+        "LEFT JOIN division d ON e.division_id = d.division_id " +
+        "WHERE p.salary >= ? AND p.salary < ? " +
+        "GROUP BY d.division_name";
+    
+    private static final String PREVIEW_SALARY_RANGE_BY_ID_QUERY = 
+        "SELECT e.division_id AS division_id, COUNT(*) AS affected, SUM(p.salary) AS current_total " +
+        "FROM payroll p " +
+        "LEFT JOIN employees e ON e.empid = p.empid " +
+        "WHERE p.salary >= ? AND p.salary < ? " +
+        "GROUP BY e.division_id";
     
+    private static final String UNASSIGNED_DIVISION = "Unassigned";
+    
+    // Read from the primary, not a replica: change events are applied on top of the result.
+    // Both sides of the join are served from the (empid, pay_date) primary key.
+    private static final String LATEST_SALARIES_QUERY =
+        "SELECT p.empid, p.pay_date, p.salary FROM payroll p " +
+        "JOIN (SELECT empid, MAX(pay_date) AS pay_date FROM payroll GROUP BY empid) latest " +
+        "ON latest.empid = p.empid AND latest.pay_date = p.pay_date";
+    
+    // Addresses one pay period; each row's raise is computed from that row's salary.
+    // Bumps the version too, so optimistic writers notice the change.
     private static final String UPDATE_SALARY_QUERY = 
-        "UPDATE payroll SET salary = ? WHERE empid = ?";
+        "UPDATE payroll SET salary = ?, version = version + 1 WHERE empid = ? AND pay_date = ?";
+    
+    // Optimistic mode addresses single rows by primary key and checks the version read earlier
+    private static final String SELECT_SALARY_RANGE_VERSIONED_QUERY = 
+        "SELECT empid, pay_date, salary, version FROM payroll WHERE salary >= ? AND salary < ?";
+    
+    private static final String SELECT_SALARY_ROW_QUERY = 
+        "SELECT salary, version FROM payroll WHERE empid = ? AND pay_date = ?";
+    
+    private static final String UPDATE_SALARY_VERSIONED_QUERY = 
+        "UPDATE payroll SET salary = ?, version = version + 1 WHERE empid = ? AND pay_date = ? AND version = ?";
+    
+    // Row estimate for one employee's full pay history: 40 years of monthly pay periods
+    private static final long EXPECTED_PAY_PERIODS_PER_EMPLOYEE = 480;
+    
+    // Rows per short transaction, and re-read/retry rounds for rows that changed concurrently
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final int OPTIMISTIC_MAX_RETRIES = 3;
     
     private static final String JOB_TITLE_REPORT_QUERY = 
         "SELECT j.job_title_name, SUM(p.salary) as total_pay " +
@@ -41,12 +111,107 @@ public class PayrollRepository implements IPayrollRepository {
         "JOIN division d ON e.division_id = d.division_id " +
         "GROUP BY d.division_name";
 
+    // Dictionary-encoded variants: aggregate on ids, names are attached afterwards.
+    // The EXISTS filters keep the inner-join semantics of the queries above, so
+    // NULL or orphaned ids are left out instead of reported under a placeholder.
+    private static final String JOB_TITLE_ID_REPORT_QUERY = 
+        "SELECT e.job_title_id AS category_id, SUM(p.salary) as total_pay " +
+        "FROM employees e " +
+        "JOIN payroll p ON e.empid = p.empid " +
+        "WHERE e.job_title_id IS NOT NULL " +
+        "AND EXISTS (SELECT 1 FROM job_titles j WHERE j.job_title_id = e.job_title_id) " +
+        "GROUP BY e.job_title_id";
+    
+    private static final String DIVISION_ID_REPORT_QUERY = 
+        "SELECT e.division_id AS category_id, SUM(p.salary) as total_pay " +
+        "FROM employees e " +
+        "JOIN payroll p ON e.empid = p.empid " +
+        "WHERE e.division_id IS NOT NULL " +
+        "AND EXISTS (SELECT 1 FROM division d WHERE d.division_id = e.division_id) " +
+        "GROUP BY e.division_id";
+
+    private final Supplier<ReferenceDictionary> referenceData;
+    private final ChangeEventPublisher eventPublisher;
+    private final UpdateMode updateMode;
+    private volatile int batchSize = DEFAULT_BATCH_SIZE;
+    private volatile FetchPlan fetchPlan = FetchPlan.defaults();
+    private volatile SalaryAuditSink auditSink = SalaryAuditSink.NO_OP;
+
+    /**
+     * Creates a repository whose reports join the lookup tables in SQL.
+     */
+    public PayrollRepository() {
+        this(null);
+    }
+
+    /**
+     * Creates a repository whose reports aggregate on ids and resolve names
+     * from a preloaded dictionary instead of joining job_titles/division.
+     * @param referenceData source of the current reference dictionary, or null to join in SQL
+     */
+    public PayrollRepository(Supplier<ReferenceDictionary> referenceData) {
+        this(referenceData, ChangeEventPublisher.NO_OP);
+    }
+
+    /**
+     * @param referenceData source of the current reference dictionary, or null to join in SQL
+     * @param eventPublisher receives a SALARY_UPDATED event after each committed salary update
+     */
+    public PayrollRepository(Supplier<ReferenceDictionary> referenceData, ChangeEventPublisher eventPublisher) {
+        this(referenceData, eventPublisher, UpdateMode.TRANSACTIONAL);
+    }
+
+    /**
+     * @param referenceData source of the current reference dictionary, or null to join in SQL
+     * @param eventPublisher receives a SALARY_UPDATED event after each committed salary update
+     * @param updateMode how bulk salary updates guard against concurrent edits
+     */
+    public PayrollRepository(Supplier<ReferenceDictionary> referenceData, ChangeEventPublisher eventPublisher,
+                             UpdateMode updateMode) {
+        this.referenceData = referenceData;
+        this.eventPublisher = eventPublisher;
+        this.updateMode = updateMode;
+    }
+
+    /**
+     * Sets the number of rows per JDBC batch, and per transaction in OPTIMISTIC
+     * mode. Safe to change while updates run; each update reads it once.
+     * @param batchSize rows per batch
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Sets how result sets are fetched per method. One employee's pay history
+     * is small and buffered with the default plan; the salary range scans are
+     * unbounded, so they are read through a cursor or streamed instead of
+     * buffered whole.
+     * @param fetchPlan fetch strategy per method
+     */
+    public void setFetchPlan(FetchPlan fetchPlan) {
+        this.fetchPlan = fetchPlan;
+    }
+
+    /**
+     * Sets where salary updates enqueue their before/after values. Room is
+     * reserved before each commit, so a full audit queue fails the update.
+     * @param auditSink the salary audit trail
+     */
+    public void setAuditSink(SalaryAuditSink auditSink) {
+        this.auditSink = auditSink;
+    }
+
     @Override
     public List<PayrollRecord> getPayHistory(int empId) {
         List<PayrollRecord> history = new ArrayList<>();
         
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DBConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(PAY_HISTORY_QUERY)) {
+            fetchPlan.apply(stmt, "getPayHistory", EXPECTED_PAY_PERIODS_PER_EMPLOYEE);
             stmt.setInt(1, empId);
             
             try (ResultSet rs = stmt.executeQuery()) {
@@ -61,8 +226,37 @@ public class PayrollRepository implements IPayrollRepository {
                 }
             }
         } catch (SQLException e) {
-            System.err.println("Failed to retrieve pay history: " + e.getMessage());
-            e.printStackTrace();
+            throw new DataAccessException("Failed to retrieve pay history", e);
+        }
+        return history;
+    }
+
+    @Override
+    public List<PayrollRecord> getPayHistory(int empId, LocalDate from, LocalDate to, int limit) {
+        List<PayrollRecord> history = new ArrayList<>();
+        
+        Date fromDate = Date.valueOf(from != null ? from : EARLIEST_PAY_DATE);
+        Date toDate = Date.valueOf(to != null ? to : LATEST_PAY_DATE);
+        
+        try (Connection conn = DBConnection.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(PAY_HISTORY_RANGE_QUERY)) {
+            fetchPlan.apply(stmt, "getPayHistoryRange", limit > 0 ? limit : FetchPlan.UNBOUNDED);
+            stmt.setInt(1, empId);
+            stmt.setDate(2, fromDate);
+            stmt.setDate(3, toDate);
+            stmt.setInt(4, limit > 0 ? limit : Integer.MAX_VALUE);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    history.add(new PayrollRecord(
+                        empId,
+                        rs.getDouble("salary"),
+                        rs.getDate("pay_date").toLocalDate()
+                    ));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to retrieve pay history range", e);
         }
         return history;
     }
@@ -72,49 +266,350 @@ public class PayrollRepository implements IPayrollRepository {
         if (percentIncrease < -100) {
             throw new IllegalArgumentException("Percent increase cannot be less than -100");
         }
+        if (updateMode == UpdateMode.OPTIMISTIC) {
+            return updateSalaryRangeOptimistic(min, max, percentIncrease);
+        }
         
         int count = 0;
+        SalaryAuditSink audit = auditSink;
         
         try (Connection conn = DBConnection.getConnection()) {
             conn.setAutoCommit(false);  // Transaction support for data consistency
+            int reserved = 0;
+            
+            // Affected rows are collected into primitive lists before updating,
+            // so the select result set is closed before the batch runs (a streamed
+            // result set blocks other statements on its connection until closed)
+            IntArrayList empIds = new IntArrayList();
+            IntArrayList payDays = new IntArrayList();
+            DoubleArrayList oldSalaries = new DoubleArrayList();
+            DoubleArrayList newSalaries = new DoubleArrayList();
             
             try (PreparedStatement selectStmt = conn.prepareStatement(SELECT_SALARY_RANGE_QUERY)) {
+                fetchPlan.apply(selectStmt, "updateSalaryRange", FetchPlan.UNBOUNDED);
                 selectStmt.setDouble(1, min);
                 selectStmt.setDouble(2, max);
                 
                 try (ResultSet rs = selectStmt.executeQuery()) {
-                    try (PreparedStatement updateStmt = conn.prepareStatement(UPDATE_SALARY_QUERY)) {
-                        while (rs.next()) {
-                            double newSalary = rs.getDouble("salary") * (1 + (percentIncrease / 100));
-                            updateStmt.setDouble(1, newSalary);
-                            updateStmt.setInt(2, rs.getInt("empid"));
-                            updateStmt.addBatch();
-                            count++;
+                    while (rs.next()) {
+                        double salary = rs.getDouble("salary");
+                        empIds.add(rs.getInt("empid"));
+                        payDays.add(Math.toIntExact(rs.getDate("pay_date").toLocalDate().toEpochDay()));
+                        oldSalaries.add(salary);
+                        newSalaries.add(salary * (1 + (percentIncrease / 100)));
+                    }
+                }
+                
+                // Before anything is written, so a full audit queue fails the whole update
+                audit.reserve(empIds.size());
+                reserved = empIds.size();
+                
+                int rowsPerBatch = batchSize;
+                try (PreparedStatement updateStmt = conn.prepareStatement(UPDATE_SALARY_QUERY)) {
+                    for (int i = 0; i < empIds.size(); i++) {
+                        updateStmt.setDouble(1, newSalaries.get(i));
+                        updateStmt.setInt(2, empIds.get(i));
+                        updateStmt.setDate(3, Date.valueOf(LocalDate.ofEpochDay(payDays.get(i))));
+                        updateStmt.addBatch();
+                        if ((i + 1) % rowsPerBatch == 0) {
+                            updateStmt.executeBatch();
                         }
+                    }
+                    if (empIds.size() % rowsPerBatch != 0) {
                         updateStmt.executeBatch();
                     }
                 }
                 
                 conn.commit();
+                count = empIds.size();
+                for (int i = 0; i < count; i++) {
+                    audit.record(empIds.get(i), payDays.get(i), oldSalaries.get(i), newSalaries.get(i));
+                }
+                reserved = 0;
+                
+                // Published only after commit, so subscribers never see rolled-back values
+                if (count > 0) {
+                    eventPublisher.publish(ChangeEvent.salaryUpdated(
+                        empIds.toArray(), payDays.toArray(), oldSalaries.toArray(), newSalaries.toArray()));
+                }
             } catch (SQLException e) {
                 conn.rollback();
                 System.err.println("Salary update transaction rolled back: " + e.getMessage());
                 throw e;
             } finally {
+                audit.release(reserved);
                 conn.setAutoCommit(true);
             }
         } catch (SQLException e) {
-            System.err.println("Failed to update salary range: " + e.getMessage());
-            e.printStackTrace();
+            throw new DataAccessException("Failed to update salary range", e);
         }
         return count;
     }
 
+    /**
+     * Optimistic variant of updateSalaryRange.
+     * Rows are read without locks, then updated in short transactions of
+     * batchSize rows, each guarded by the version read. Rows whose
+     * version changed are re-read; if they are still in range the raise is
+     * recomputed from the fresh salary and retried, otherwise they are skipped.
+     * Rows still conflicting after the last retry are left unchanged and the
+     * update ends with a PartialUpdateException counting them.
+     * Chunks commit independently, so a failure leaves earlier chunks applied;
+     * the event lists exactly the committed rows.
+     */
+    private int updateSalaryRangeOptimistic(double min, double max, double percentIncrease) {
+        double factor = 1 + (percentIncrease / 100);
+        IntArrayList updatedIds = new IntArrayList();
+        IntArrayList updatedPayDays = new IntArrayList();
+        DoubleArrayList oldSalaries = new DoubleArrayList();
+        DoubleArrayList newSalaries = new DoubleArrayList();
+        int skipped = 0;
+        
+        try (Connection conn = DBConnection.getConnection()) {
+            VersionedRows pending = new VersionedRows();
+            try (PreparedStatement selectStmt = conn.prepareStatement(SELECT_SALARY_RANGE_VERSIONED_QUERY)) {
+                fetchPlan.apply(selectStmt, "updateSalaryRange", FetchPlan.UNBOUNDED);
+                selectStmt.setDouble(1, min);
+                selectStmt.setDouble(2, max);
+                
+                try (ResultSet rs = selectStmt.executeQuery()) {
+                    while (rs.next()) {
+                        pending.add(rs.getInt("empid"), rs.getDate("pay_date").toLocalDate(),
+                            rs.getDouble("salary"), rs.getInt("version"));
+                    }
+                }
+            }
+            
+            for (int attempt = 0; attempt <= OPTIMISTIC_MAX_RETRIES && pending.size() > 0; attempt++) {
+                if (attempt > 0) {
+                    pending = rereadConflicts(conn, pending, min, max);
+                }
+                pending = applyVersionedUpdates(conn, pending, factor, updatedIds, updatedPayDays,
+                    oldSalaries, newSalaries);
+            }
+            skipped = pending.size();
+        } catch (SQLException e) {
+            // Chunks committed before the failure stay applied; report them before failing
+            publishSalaryUpdates(updatedIds, updatedPayDays, oldSalaries, newSalaries);
+            throw new DataAccessException("Failed to update salary range after " +
+                updatedIds.size() + " rows were committed", e);
+        } catch (DataAccessException e) {
+            // The audit queue stayed full; the chunks before it are committed and audited
+            publishSalaryUpdates(updatedIds, updatedPayDays, oldSalaries, newSalaries);
+            throw new DataAccessException(e.getMessage() + " after " + updatedIds.size() +
+                " rows were committed", e.isTransient());
+        }
+        
+        publishSalaryUpdates(updatedIds, updatedPayDays, oldSalaries, newSalaries);
+        if (skipped > 0) {
+            throw new PartialUpdateException("Salary raise partly applied; rows still changing after " +
+                OPTIMISTIC_MAX_RETRIES + " retries were left unchanged", updatedIds.size(), skipped);
+        }
+        return updatedIds.size();
+    }
+
+    private void publishSalaryUpdates(IntArrayList empIds, IntArrayList payDays, DoubleArrayList oldSalaries,
+                                      DoubleArrayList newSalaries) {
+        if (!empIds.isEmpty()) {
+            eventPublisher.publish(ChangeEvent.salaryUpdated(
+                empIds.toArray(), payDays.toArray(), oldSalaries.toArray(), newSalaries.toArray()));
+        }
+    }
+
+    /**
+     * Runs the versioned updates chunk by chunk and collects the committed rows.
+     * @return the rows whose version no longer matched
+     */
+    private VersionedRows applyVersionedUpdates(Connection conn, VersionedRows rows, double factor,
+                                                IntArrayList updatedIds, IntArrayList updatedPayDays,
+                                                DoubleArrayList oldSalaries, DoubleArrayList newSalaries)
+            throws SQLException {
+        VersionedRows conflicts = new VersionedRows();
+        int chunkSize = batchSize;
+        SalaryAuditSink audit = auditSink;
+        
+        try (PreparedStatement updateStmt = conn.prepareStatement(UPDATE_SALARY_VERSIONED_QUERY)) {
+            for (int start = 0; start < rows.size(); start += chunkSize) {
+                int end = Math.min(start + chunkSize, rows.size());
+                // Reserved per chunk, before the chunk writes; conflicting rows hand their room back
+                audit.reserve(end - start);
+                int reserved = end - start;
+                conn.setAutoCommit(false);
+                try {
+                    for (int i = start; i < end; i++) {
+                        updateStmt.setDouble(1, rows.salaries.get(i) * factor);
+                        updateStmt.setInt(2, rows.empIds.get(i));
+                        updateStmt.setDate(3, Date.valueOf(LocalDate.ofEpochDay(rows.payDays.get(i))));
+                        updateStmt.setInt(4, rows.versions.get(i));
+                        updateStmt.addBatch();
+                    }
+                    int[] updateCounts = updateStmt.executeBatch();
+                    for (int updateCount : updateCounts) {
+                        if (updateCount == Statement.SUCCESS_NO_INFO) {
+                            // Rewritten batches hide per-row counts, so conflicts could not be detected
+                            throw new SQLException("Optimistic salary update needs per-statement update counts; " +
+                                "disable rewriteBatchedStatements");
+                        }
+                    }
+                    conn.commit();
+                    
+                    for (int i = start; i < end; i++) {
+                        if (updateCounts[i - start] > 0) {
+                            audit.record(rows.empIds.get(i), rows.payDays.get(i), rows.salaries.get(i),
+                                rows.salaries.get(i) * factor);
+                            reserved--;
+                            updatedIds.add(rows.empIds.get(i));
+                            updatedPayDays.add(rows.payDays.get(i));
+                            oldSalaries.add(rows.salaries.get(i));
+                            newSalaries.add(rows.salaries.get(i) * factor);
+                        } else {
+                            conflicts.addFrom(rows, i);
+                        }
+                    }
+                } catch (SQLException e) {
+                    conn.rollback();
+                    System.err.println("Salary update chunk rolled back: " + e.getMessage());
+                    throw e;
+                } finally {
+                    audit.release(reserved);
+                    conn.setAutoCommit(true);
+                }
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Re-reads rows that lost an optimistic race and keeps those still inside the salary range.
+     */
+    private VersionedRows rereadConflicts(Connection conn, VersionedRows conflicts,
+                                          double min, double max) throws SQLException {
+        VersionedRows refreshed = new VersionedRows();
+        
+        try (PreparedStatement stmt = conn.prepareStatement(SELECT_SALARY_ROW_QUERY)) {
+            for (int i = 0; i < conflicts.size(); i++) {
+                LocalDate payDate = LocalDate.ofEpochDay(conflicts.payDays.get(i));
+                stmt.setInt(1, conflicts.empIds.get(i));
+                stmt.setDate(2, Date.valueOf(payDate));
+                
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        double salary = rs.getDouble("salary");
+                        if (salary >= min && salary < max) {
+                            refreshed.add(conflicts.empIds.get(i), payDate, salary, rs.getInt("version"));
+                        }
+                    }
+                }
+            }
+        }
+        return refreshed;
+    }
+
+    /**
+     * Payroll rows read for an optimistic update, in parallel primitive lists.
+     */
+    private static final class VersionedRows {
+        final IntArrayList empIds = new IntArrayList();
+        final IntArrayList payDays = new IntArrayList();
+        final DoubleArrayList salaries = new DoubleArrayList();
+        final IntArrayList versions = new IntArrayList();
+
+        void add(int empId, LocalDate payDate, double salary, int version) {
+            empIds.add(empId);
+            payDays.add(Math.toIntExact(payDate.toEpochDay()));
+            salaries.add(salary);
+            versions.add(version);
+        }
+
+        void addFrom(VersionedRows other, int index) {
+            empIds.add(other.empIds.get(index));
+            payDays.add(other.payDays.get(index));
+            salaries.add(other.salaries.get(index));
+            versions.add(other.versions.get(index));
+        }
+
+        int size() {
+            return empIds.size();
+        }
+    }
+
+    @Override
+    public RaisePreview previewSalaryRange(double min, double max, double percentIncrease) {
+        List<RaisePreview.DivisionImpact> divisions = new ArrayList<>();
+        ReferenceDictionary dictionary = referenceData != null ? referenceData.get() : null;
+        double factor = percentIncrease / 100;
+        
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                 dictionary != null ? PREVIEW_SALARY_RANGE_BY_ID_QUERY : PREVIEW_SALARY_RANGE_QUERY)) {
+            stmt.setDouble(1, min);
+            stmt.setDouble(2, max);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String division;
+                    if (dictionary != null) {
+                        int divisionId = rs.getInt("division_id");
+                        if (rs.wasNull()) {
+                            division = null;
+                        } else {
+                            division = dictionary.divisionName(divisionId);
+                            if (division == null) {
+                                division = "Division #" + divisionId;
+                            }
+                        }
+                    } else {
+                        division = rs.getString("division");
+                    }
+                    double currentTotal = rs.getDouble("current_total");
+                    divisions.add(new RaisePreview.DivisionImpact(
+                        division != null ? division : UNASSIGNED_DIVISION,
+                        rs.getInt("affected"),
+                        currentTotal,
+                        currentTotal * factor
+                    ));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to preview salary range update", e);
+        }
+        return new RaisePreview(min, max, percentIncrease, divisions);
+    }
+
+    @Override
+    public LatestSalaries getLatestSalaries() {
+        IntArrayList empIds = new IntArrayList();
+        IntArrayList payDays = new IntArrayList();
+        DoubleArrayList salaries = new DoubleArrayList();
+        
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(LATEST_SALARIES_QUERY)) {
+            fetchPlan.apply(stmt, "getLatestSalaries", FetchPlan.UNBOUNDED);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    empIds.add(rs.getInt(1));
+                    payDays.add(Math.toIntExact(rs.getDate(2).toLocalDate().toEpochDay()));
+                    salaries.add(rs.getDouble(3));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to read salaries", e);
+        }
+        return new LatestSalaries(empIds.toArray(), payDays.toArray(), salaries.toArray());
+    }
+
     @Override
     public List<Report> getTotalPayByJobTitle() {
+        if (referenceData != null) {
+            ReferenceDictionary dictionary = referenceData.get();
+            return getTotalsByCategoryId(JOB_TITLE_ID_REPORT_QUERY, dictionary::jobTitleName,
+                "Job Title #", "job title report");
+        }
+        
         List<Report> reports = new ArrayList<>();
         
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DBConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(JOB_TITLE_REPORT_QUERY);
              ResultSet rs = stmt.executeQuery()) {
             
@@ -126,17 +621,22 @@ public class PayrollRepository implements IPayrollRepository {
                 reports.add(report);
             }
         } catch (SQLException e) {
-            System.err.println("Failed to generate job title report: " + e.getMessage());
-            e.printStackTrace();
+            throw new DataAccessException("Failed to generate job title report", e);
         }
         return reports;
     }
 
     @Override
     public List<Report> getTotalPayByDivision() {
+        if (referenceData != null) {
+            ReferenceDictionary dictionary = referenceData.get();
+            return getTotalsByCategoryId(DIVISION_ID_REPORT_QUERY, dictionary::divisionName,
+                "Division #", "division report");
+        }
+        
         List<Report> reports = new ArrayList<>();
         
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DBConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(DIVISION_REPORT_QUERY);
              ResultSet rs = stmt.executeQuery()) {
             
@@ -148,8 +648,35 @@ public class PayrollRepository implements IPayrollRepository {
                 reports.add(report);
             }
         } catch (SQLException e) {
-            System.err.println("Failed to generate division report: " + e.getMessage());
-            e.printStackTrace();
+            throw new DataAccessException("Failed to generate division report", e);
+        }
+        return reports;
+    }
+
+    /**
+     * Runs an id-grouped total query and decorates the ids with names at the end.
+     */
+    private List<Report> getTotalsByCategoryId(String query, IntFunction<String> names,
+                                               String unknownPrefix, String description) {
+        IntArrayList categoryIds = new IntArrayList();
+        DoubleArrayList totals = new DoubleArrayList();
+        
+        try (Connection conn = DBConnection.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(query);
+             ResultSet rs = stmt.executeQuery()) {
+            
+            while (rs.next()) {
+                categoryIds.add(rs.getInt("category_id"));
+                totals.add(rs.getDouble("total_pay"));
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to generate " + description, e);
+        }
+        
+        List<Report> reports = new ArrayList<>(categoryIds.size());
+        for (int i = 0; i < categoryIds.size(); i++) {
+            String name = names.apply(categoryIds.get(i));
+            reports.add(new Report(name != null ? name : unknownPrefix + categoryIds.get(i), totals.get(i)));
         }
         return reports;
     }
@@ -0,0 +1,51 @@
+package src.repositories;
+
+import src.collections.IntObjectHashMap;
+import src.database.DBConnection;
+import src.database.DataAccessException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * ReferenceDataRepository implements IReferenceDataRepository.
+ * Single Responsibility: reads the job_titles and division lookup tables.
+ * Failures surface as DataAccessException rather than an empty table.
+ */
+public class ReferenceDataRepository implements IReferenceDataRepository {
+    private static final String JOB_TITLES_QUERY =
+        "SELECT job_title_id, job_title_name FROM job_titles";
+
+    private static final String DIVISIONS_QUERY =
+        "SELECT division_id, division_name FROM division";
+
+    @Override
+    public IntObjectHashMap<String> loadJobTitles() {
+        return loadNames(JOB_TITLES_QUERY, "job_title_id", "job_title_name", "job titles");
+    }
+
+    @Override
+    public IntObjectHashMap<String> loadDivisions() {
+        return loadNames(DIVISIONS_QUERY, "division_id", "division_name", "divisions");
+    }
+
+    private IntObjectHashMap<String> loadNames(String query, String idColumn, String nameColumn, String description) {
+        IntObjectHashMap<String> names = new IntObjectHashMap<>();
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                String name = rs.getString(nameColumn);
+                if (name != null) {
+                    names.put(rs.getInt(idColumn), name);
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to load " + description, e);
+        }
+        return names;
+    }
+}
@@ -0,0 +1,15 @@
+package src.repositories;
+
+/**
+ * UpdateMode selects how PayrollRepository protects bulk salary updates
+ * against concurrent edits.
+ */
+public enum UpdateMode {
+    /** Select and update every row in one transaction; rows stay locked until it commits. */
+    TRANSACTIONAL,
+    /**
+     * Read without locks, then update in short transactions guarded by the row version.
+     * Rows changed in between are detected, re-read and retried. Requires payroll.version.
+     */
+    OPTIMISTIC
+}
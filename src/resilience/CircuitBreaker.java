@@ -0,0 +1,77 @@
+package src.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * CircuitBreaker stops calls to a failing dependency for a cool-down period.
+ * CLOSED: calls pass; consecutive failures are counted and the breaker opens at the threshold.
+ * OPEN: calls are rejected until the open period has elapsed.
+ * HALF_OPEN: a single probe call is let through; success closes the breaker, failure reopens it.
+ */
+public class CircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAtMillis;
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        if (failureThreshold <= 0 || openMillis <= 0) {
+            throw new IllegalArgumentException("Failure threshold and open period must be positive");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * @return true if a call may proceed; in HALF_OPEN only the first caller gets true
+     */
+    public boolean allowRequest() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && System.currentTimeMillis() - openedAtMillis >= openMillis) {
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return false;
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        state.set(State.CLOSED);
+    }
+
+    public void onFailure() {
+        if (state.get() == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * Reports a call that ended without telling anything about the dependency's health,
+     * e.g. a bulkhead rejection or invalid input. A pending half-open probe is handed
+     * back so the next call can probe instead.
+     */
+    public void onIgnored() {
+        state.compareAndSet(State.HALF_OPEN, State.OPEN);
+    }
+
+    private void open() {
+        openedAtMillis = System.currentTimeMillis();
+        state.set(State.OPEN);
+        consecutiveFailures.set(0);
+    }
+
+    public State getState() {
+        return state.get();
+    }
+}
@@ -0,0 +1,15 @@
+package src.resilience;
+
+import src.database.DataAccessException;
+
+/**
+ * CircuitOpenException is thrown instead of calling the database while the
+ * circuit breaker is open and no stale result is available.
+ */
+public class CircuitOpenException extends DataAccessException {
+    private static final long serialVersionUID = 1L;
+
+    public CircuitOpenException(String message) {
+        super(message, false);
+    }
+}
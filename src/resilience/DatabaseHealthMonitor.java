@@ -0,0 +1,204 @@
+package src.resilience;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * DatabaseHealthMonitor decides whether live traffic goes to the database or
+ * to the in-memory standby. A background thread runs the health check at a
+ * fixed interval; a few consecutive failures switch to DEGRADED and a few
+ * consecutive successes switch back to PRIMARY, so a single blip does not flap.
+ *
+ * Every switch is recorded and passed to listeners, and the time spent in
+ * DEGRADED mode is accumulated.
+ */
+public class DatabaseHealthMonitor implements AutoCloseable {
+    public enum Mode { PRIMARY, DEGRADED }
+
+    /**
+     * One switch between modes.
+     */
+    public record SwitchEvent(long timestampMillis, Mode from, Mode to, String reason) {
+        @Override
+        public String toString() {
+            return new java.util.Date(timestampMillis) + " " + from + " -> " + to + " (" + reason + ")";
+        }
+    }
+
+    private static final int MAX_RECORDED_EVENTS = 100;
+
+    private final BooleanSupplier healthCheck;
+    private final long intervalMillis;
+    private final int failuresToDegrade;
+    private final int successesToRecover;
+    private final ScheduledExecutorService scheduler;
+    private final List<Consumer<SwitchEvent>> listeners = new CopyOnWriteArrayList<>();
+    private final Deque<SwitchEvent> events = new ArrayDeque<>();
+    private final AtomicBoolean checkQueued = new AtomicBoolean();
+
+    private volatile Mode mode = Mode.PRIMARY;
+
+    // Only touched on the scheduler thread
+    private int consecutiveFailures;
+    private int consecutiveSuccesses;
+
+    // Guarded by events
+    private long switchCount;
+    private long degradedSinceMillis;
+    private long degradedMillis;
+
+    /**
+     * @param healthCheck returns true while the database is usable
+     * @param intervalMillis time between background checks
+     * @param failuresToDegrade consecutive failed checks before switching to DEGRADED
+     * @param successesToRecover consecutive successful checks before switching back to PRIMARY
+     */
+    public DatabaseHealthMonitor(BooleanSupplier healthCheck, long intervalMillis,
+                                 int failuresToDegrade, int successesToRecover) {
+        if (intervalMillis <= 0 || failuresToDegrade <= 0 || successesToRecover <= 0) {
+            throw new IllegalArgumentException("Interval and thresholds must be positive");
+        }
+        this.healthCheck = healthCheck;
+        this.intervalMillis = intervalMillis;
+        this.failuresToDegrade = failuresToDegrade;
+        this.successesToRecover = successesToRecover;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "database-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts the background checks.
+     * @param initiallyHealthy result of the startup connection test; false starts in DEGRADED mode
+     */
+    public void start(boolean initiallyHealthy) {
+        if (!initiallyHealthy) {
+            switchTo(Mode.DEGRADED, "database unavailable at startup");
+        }
+        scheduler.scheduleWithFixedDelay(this::runCheck, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Reports a failed database call; schedules an immediate health check.
+     * Concurrent reports collapse into one check.
+     * @param reason description of the failure
+     */
+    public void reportFailure(String reason) {
+        if (mode == Mode.PRIMARY && checkQueued.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                checkQueued.set(false);
+                runCheck();
+            });
+        }
+    }
+
+    public void addListener(Consumer<SwitchEvent> listener) {
+        listeners.add(listener);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public boolean isDegraded() {
+        return mode == Mode.DEGRADED;
+    }
+
+    /**
+     * @return the most recent switches, oldest first
+     */
+    public List<SwitchEvent> getSwitchEvents() {
+        synchronized (events) {
+            return new ArrayList<>(events);
+        }
+    }
+
+    public long getSwitchCount() {
+        synchronized (events) {
+            return switchCount;
+        }
+    }
+
+    /**
+     * @return total time spent in DEGRADED mode, including the current period
+     */
+    public long getDegradedMillis() {
+        synchronized (events) {
+            long total = degradedMillis;
+            if (mode == Mode.DEGRADED) {
+                total += System.currentTimeMillis() - degradedSinceMillis;
+            }
+            return total;
+        }
+    }
+
+    private void runCheck() {
+        boolean healthy;
+        try {
+            healthy = healthCheck.getAsBoolean();
+        } catch (RuntimeException e) {
+            healthy = false;
+        }
+
+        if (healthy) {
+            consecutiveFailures = 0;
+            if (mode == Mode.DEGRADED && ++consecutiveSuccesses >= successesToRecover) {
+                switchTo(Mode.PRIMARY, consecutiveSuccesses + " successful health checks");
+            }
+        } else {
+            consecutiveSuccesses = 0;
+            if (mode == Mode.PRIMARY && ++consecutiveFailures >= failuresToDegrade) {
+                switchTo(Mode.DEGRADED, consecutiveFailures + " failed health checks");
+            }
+        }
+    }
+
+    private void switchTo(Mode next, String reason) {
+        SwitchEvent event;
+        synchronized (events) {
+            Mode previous = mode;
+            if (previous == next) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            if (next == Mode.DEGRADED) {
+                degradedSinceMillis = now;
+            } else {
+                degradedMillis += now - degradedSinceMillis;
+            }
+            mode = next;
+            consecutiveFailures = 0;
+            consecutiveSuccesses = 0;
+            switchCount++;
+
+            event = new SwitchEvent(now, previous, next, reason);
+            events.addLast(event);
+            if (events.size() > MAX_RECORDED_EVENTS) {
+                events.removeFirst();
+            }
+        }
+        for (Consumer<SwitchEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                System.err.println("Failover listener failed: " + e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,15 @@
+package src.resilience;
+
+import src.database.DataAccessException;
+
+/**
+ * DegradedModeException rejects a call that needs the database while it is
+ * degraded: every write and login, and reads with no last-known-good result.
+ */
+public class DegradedModeException extends DataAccessException {
+    private static final long serialVersionUID = 1L;
+
+    public DegradedModeException(String message) {
+        super(message, false);
+    }
+}
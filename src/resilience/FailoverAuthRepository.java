@@ -0,0 +1,23 @@
+package src.resilience;
+
+import src.models.UserCredentials;
+import src.repositories.IAuthRepository;
+
+/**
+ * FailoverAuthRepository routes logins through the {@link FailoverRouter}.
+ * Credentials are never cached, so logins are refused while degraded.
+ */
+public class FailoverAuthRepository implements IAuthRepository {
+    private final IAuthRepository primary;
+    private final FailoverRouter router;
+
+    public FailoverAuthRepository(IAuthRepository primary, FailoverRouter router) {
+        this.primary = primary;
+        this.router = router;
+    }
+
+    @Override
+    public UserCredentials validateLogin(String username, String password) {
+        return router.read("validateLogin", null, () -> primary.validateLogin(username, password));
+    }
+}
@@ -0,0 +1,55 @@
+package src.resilience;
+
+import src.models.Employee;
+import src.models.EmployeeSearchResult;
+import src.repositories.IEmployeeRepository;
+import src.collections.IntObjectHashMap;
+import java.util.List;
+
+/**
+ * FailoverEmployeeRepository routes employee calls through the {@link FailoverRouter}.
+ * Cache keys match {@link ResilientEmployeeRepository}, which fills the
+ * last-known-good cache; updates are rejected while degraded.
+ */
+public class FailoverEmployeeRepository implements IEmployeeRepository {
+    private final IEmployeeRepository primary;
+    private final FailoverRouter router;
+
+    public FailoverEmployeeRepository(IEmployeeRepository primary, FailoverRouter router) {
+        this.primary = primary;
+        this.router = router;
+    }
+
+    @Override
+    public List<EmployeeSearchResult> searchEmployee(String searchTerm) {
+        return router.read("searchEmployee", searchTerm, () -> primary.searchEmployee(searchTerm));
+    }
+
+    @Override
+    public Employee getEmployeeById(int empId) {
+        Employee employee = router.read("getEmployeeById", String.valueOf(empId), () -> primary.getEmployeeById(empId));
+        // A cached Employee is shared; hand out a copy as ResilientEmployeeRepository does
+        return employee == null ? null : new Employee(employee.getEmpId(), employee.getName(), employee.getSsn(),
+            employee.getJobTitleId(), employee.getDivisionId());
+    }
+
+    @Override
+    public IntObjectHashMap<Employee> getEmployeesByIds(int[] empIds) {
+        return router.read("getEmployeesByIds", null, () -> primary.getEmployeesByIds(empIds));
+    }
+
+    @Override
+    public List<EmployeeSearchResult> searchBySsn(String ssn) {
+        return router.read("searchBySsn", null, () -> primary.searchBySsn(ssn));
+    }
+
+    @Override
+    public boolean updateEmployee(Employee employee) {
+        return router.write("updateEmployee", () -> primary.updateEmployee(employee));
+    }
+
+    @Override
+    public int updateEmployees(List<Employee> employees) {
+        return router.write("updateEmployees", () -> primary.updateEmployees(employees));
+    }
+}
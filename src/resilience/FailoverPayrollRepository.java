@@ -0,0 +1,60 @@
+package src.resilience;
+
+import src.models.LatestSalaries;
+import src.models.PayrollRecord;
+import src.models.RaisePreview;
+import src.models.Report;
+import src.repositories.IPayrollRepository;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * FailoverPayrollRepository routes payroll calls through the {@link FailoverRouter}.
+ * Cache keys match {@link ResilientPayrollRepository}, which fills the
+ * last-known-good cache; salary updates are rejected while degraded.
+ */
+public class FailoverPayrollRepository implements IPayrollRepository {
+    private final IPayrollRepository primary;
+    private final FailoverRouter router;
+
+    public FailoverPayrollRepository(IPayrollRepository primary, FailoverRouter router) {
+        this.primary = primary;
+        this.router = router;
+    }
+
+    @Override
+    public List<PayrollRecord> getPayHistory(int empId) {
+        return router.read("getPayHistory", String.valueOf(empId), () -> primary.getPayHistory(empId));
+    }
+
+    @Override
+    public List<PayrollRecord> getPayHistory(int empId, LocalDate from, LocalDate to, int limit) {
+        return router.read("getPayHistoryRange", empId + ":" + from + ":" + to + ":" + limit,
+            () -> primary.getPayHistory(empId, from, to, limit));
+    }
+
+    @Override
+    public int updateSalaryRange(double min, double max, double percentIncrease) {
+        return router.write("updateSalaryRange", () -> primary.updateSalaryRange(min, max, percentIncrease));
+    }
+
+    @Override
+    public RaisePreview previewSalaryRange(double min, double max, double percentIncrease) {
+        return router.read("previewSalaryRange", null, () -> primary.previewSalaryRange(min, max, percentIncrease));
+    }
+
+    @Override
+    public LatestSalaries getLatestSalaries() {
+        return router.read("getLatestSalaries", null, primary::getLatestSalaries);
+    }
+
+    @Override
+    public List<Report> getTotalPayByJobTitle() {
+        return router.read("getTotalPayByJobTitle", "", primary::getTotalPayByJobTitle);
+    }
+
+    @Override
+    public List<Report> getTotalPayByDivision() {
+        return router.read("getTotalPayByDivision", "", primary::getTotalPayByDivision);
+    }
+}
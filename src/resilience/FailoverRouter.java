@@ -0,0 +1,77 @@
+package src.resilience;
+
+import src.database.DataAccessException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * FailoverRouter sends each repository call to the database or to the
+ * in-memory standby, according to a {@link DatabaseHealthMonitor}.
+ *
+ * The standby is a {@link LastKnownGoodCache} of real results, never demo
+ * data. Only the monitor's DEGRADED mode routes reads to it; a failed read in
+ * PRIMARY mode is reported to the monitor, which checks health at once, and is
+ * thrown to the caller. While degraded, a read with no last-known-good result
+ * (including every login) and every write is rejected with a
+ * {@link DegradedModeException}, so callers can show the database as unavailable.
+ */
+public class FailoverRouter {
+    private final DatabaseHealthMonitor healthMonitor;
+    private final LastKnownGoodCache standby;
+    private final LongAdder standbyReads = new LongAdder();
+    private final LongAdder rejectedReads = new LongAdder();
+    private final LongAdder rejectedWrites = new LongAdder();
+
+    /**
+     * @param healthMonitor decides between PRIMARY and DEGRADED
+     * @param standby last-known-good results, filled by the {@link ResilientExecutor} sharing it
+     */
+    public FailoverRouter(DatabaseHealthMonitor healthMonitor, LastKnownGoodCache standby) {
+        this.healthMonitor = healthMonitor;
+        this.standby = standby;
+    }
+
+    /**
+     * @param method repository method name
+     * @param cacheKey the call's key in the last-known-good cache, or null if it must never be served from it
+     * @param primary the database call
+     * @return the database result, or the last-known-good result while degraded
+     */
+    public <T> T read(String method, String cacheKey, Supplier<T> primary) {
+        if (healthMonitor.isDegraded()) {
+            T lastKnownGood = standby.get(method, cacheKey);
+            if (lastKnownGood == null) {
+                rejectedReads.increment();
+                throw new DegradedModeException("Database unavailable; " + method +
+                    (cacheKey == null ? " is disabled" : " has no saved result to show") + " until it recovers");
+            }
+            standbyReads.increment();
+            return lastKnownGood;
+        }
+        try {
+            return primary.get();
+        } catch (DataAccessException e) {
+            healthMonitor.reportFailure(method + ": " + e.getMessage());
+            throw e;
+        }
+    }
+
+    public <T> T write(String method, Supplier<T> primary) {
+        if (healthMonitor.isDegraded()) {
+            rejectedWrites.increment();
+            throw new DegradedModeException("Database unavailable; " + method +
+                " is disabled until it recovers");
+        }
+        try {
+            return primary.get();
+        } catch (DataAccessException e) {
+            healthMonitor.reportFailure(method + ": " + e.getMessage());
+            throw e;
+        }
+    }
+
+    public DatabaseHealthMonitor getHealthMonitor() { return healthMonitor; }
+    public long getStandbyReadCount() { return standbyReads.sum(); }
+    public long getRejectedReadCount() { return rejectedReads.sum(); }
+    public long getRejectedWriteCount() { return rejectedWrites.sum(); }
+}
@@ -0,0 +1,62 @@
+package src.resilience;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LastKnownGoodCache keeps the most recent successful result of repository
+ * reads, keyed by method and arguments, for use while the database cannot be
+ * reached. Bounded; the least recently used entries are evicted first.
+ * Thread-safe.
+ */
+public class LastKnownGoodCache {
+    private final Map<String, Object> entries;
+
+    /**
+     * @param maxEntries results kept, or 0 to keep none
+     */
+    public LastKnownGoodCache(int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("Entry limit cannot be negative");
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param method repository method name
+     * @param key the call's arguments, or null for calls that are never cached
+     * @param result the successful result; null results are not kept
+     */
+    public void put(String method, String key, Object result) {
+        if (key == null || result == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(method + ":" + key, result);
+        }
+    }
+
+    /**
+     * @return the last successful result for the call, or null if none is kept
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String method, String key) {
+        if (key == null) {
+            return null;
+        }
+        synchronized (entries) {
+            return (T) entries.get(method + ":" + key);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package src.resilience;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ResiliencePolicy holds the limits applied by a {@link ResilientExecutor}.
+ * Immutable; the with* methods return adjusted copies.
+ */
+public final class ResiliencePolicy {
+    private final long defaultDeadlineMillis;
+    private final Map<String, Long> methodDeadlines;
+    private final int maxRetries;
+    private final long retryBaseDelayMillis;
+    private final long retryMaxDelayMillis;
+    private final int maxConcurrentCalls;
+    private final long bulkheadWaitMillis;
+    private final int failureThreshold;
+    private final long openMillis;
+    private final int maxStaleEntries;
+
+    private ResiliencePolicy(long defaultDeadlineMillis, Map<String, Long> methodDeadlines,
+                             int maxRetries, long retryBaseDelayMillis, long retryMaxDelayMillis,
+                             int maxConcurrentCalls, long bulkheadWaitMillis,
+                             int failureThreshold, long openMillis, int maxStaleEntries) {
+        this.defaultDeadlineMillis = defaultDeadlineMillis;
+        this.methodDeadlines = Map.copyOf(methodDeadlines);
+        this.maxRetries = maxRetries;
+        this.retryBaseDelayMillis = retryBaseDelayMillis;
+        this.retryMaxDelayMillis = retryMaxDelayMillis;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.bulkheadWaitMillis = bulkheadWaitMillis;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.maxStaleEntries = maxStaleEntries;
+    }
+
+    /**
+     * Defaults sized for the interactive UI: 3s deadline, 2 retries from 50ms,
+     * 8 concurrent calls, breaker opening after 5 consecutive failures for 10s,
+     * and up to 1000 stale results kept for fallback.
+     */
+    public static ResiliencePolicy defaults() {
+        return new ResiliencePolicy(3000, Map.of(), 2, 50, 1000, 8, 500, 5, 10_000, 1000);
+    }
+
+    /**
+     * @param method repository method name, or null to change the default deadline
+     * @param deadlineMillis total time allowed for the call including retries
+     */
+    public ResiliencePolicy withDeadline(String method, long deadlineMillis) {
+        if (deadlineMillis <= 0) {
+            throw new IllegalArgumentException("Deadline must be positive");
+        }
+        if (method == null) {
+            return new ResiliencePolicy(deadlineMillis, methodDeadlines, maxRetries, retryBaseDelayMillis,
+                retryMaxDelayMillis, maxConcurrentCalls, bulkheadWaitMillis, failureThreshold, openMillis,
+                maxStaleEntries);
+        }
+        Map<String, Long> deadlines = new HashMap<>(methodDeadlines);
+        deadlines.put(method, deadlineMillis);
+        return new ResiliencePolicy(defaultDeadlineMillis, deadlines, maxRetries, retryBaseDelayMillis,
+            retryMaxDelayMillis, maxConcurrentCalls, bulkheadWaitMillis, failureThreshold, openMillis,
+            maxStaleEntries);
+    }
+
+    public ResiliencePolicy withRetries(int maxRetries, long baseDelayMillis, long maxDelayMillis) {
+        if (maxRetries < 0 || baseDelayMillis <= 0 || maxDelayMillis < baseDelayMillis) {
+            throw new IllegalArgumentException("Invalid retry settings");
+        }
+        return new ResiliencePolicy(defaultDeadlineMillis, methodDeadlines, maxRetries, baseDelayMillis,
+            maxDelayMillis, maxConcurrentCalls, bulkheadWaitMillis, failureThreshold, openMillis,
+            maxStaleEntries);
+    }
+
+    public ResiliencePolicy withBulkhead(int maxConcurrentCalls, long waitMillis) {
+        if (maxConcurrentCalls <= 0 || waitMillis < 0) {
+            throw new IllegalArgumentException("Invalid bulkhead settings");
+        }
+        return new ResiliencePolicy(defaultDeadlineMillis, methodDeadlines, maxRetries, retryBaseDelayMillis,
+            retryMaxDelayMillis, maxConcurrentCalls, waitMillis, failureThreshold, openMillis,
+            maxStaleEntries);
+    }
+
+    public ResiliencePolicy withCircuitBreaker(int failureThreshold, long openMillis) {
+        if (failureThreshold <= 0 || openMillis <= 0) {
+            throw new IllegalArgumentException("Invalid circuit breaker settings");
+        }
+        return new ResiliencePolicy(defaultDeadlineMillis, methodDeadlines, maxRetries, retryBaseDelayMillis,
+            retryMaxDelayMillis, maxConcurrentCalls, bulkheadWaitMillis, failureThreshold, openMillis,
+            maxStaleEntries);
+    }
+
+    /**
+     * @param maxStaleEntries results kept for stale fallback, or 0 to disable it
+     */
+    public ResiliencePolicy withStaleFallback(int maxStaleEntries) {
+        if (maxStaleEntries < 0) {
+            throw new IllegalArgumentException("Stale entry limit cannot be negative");
+        }
+        return new ResiliencePolicy(defaultDeadlineMillis, methodDeadlines, maxRetries, retryBaseDelayMillis,
+            retryMaxDelayMillis, maxConcurrentCalls, bulkheadWaitMillis, failureThreshold, openMillis,
+            maxStaleEntries);
+    }
+
+    public long deadlineFor(String method) {
+        return methodDeadlines.getOrDefault(method, defaultDeadlineMillis);
+    }
+
+    public int getMaxRetries() { return maxRetries; }
+    public long getRetryBaseDelayMillis() { return retryBaseDelayMillis; }
+    public long getRetryMaxDelayMillis() { return retryMaxDelayMillis; }
+    public int getMaxConcurrentCalls() { return maxConcurrentCalls; }
+    public long getBulkheadWaitMillis() { return bulkheadWaitMillis; }
+    public int getFailureThreshold() { return failureThreshold; }
+    public long getOpenMillis() { return openMillis; }
+    public int getMaxStaleEntries() { return maxStaleEntries; }
+}
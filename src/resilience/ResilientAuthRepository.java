@@ -0,0 +1,23 @@
+package src.resilience;
+
+import src.models.UserCredentials;
+import src.repositories.IAuthRepository;
+
+/**
+ * ResilientAuthRepository applies a {@link ResilientExecutor} to an IAuthRepository.
+ * Logins get a deadline and retries but are never answered from stale results.
+ */
+public class ResilientAuthRepository implements IAuthRepository {
+    private final IAuthRepository delegate;
+    private final ResilientExecutor executor;
+
+    public ResilientAuthRepository(IAuthRepository delegate, ResilientExecutor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public UserCredentials validateLogin(String username, String password) {
+        return executor.read("validateLogin", null, () -> delegate.validateLogin(username, password));
+    }
+}
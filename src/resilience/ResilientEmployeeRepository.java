@@ -0,0 +1,55 @@
+package src.resilience;
+
+import src.models.Employee;
+import src.models.EmployeeSearchResult;
+import src.repositories.IEmployeeRepository;
+import src.collections.IntObjectHashMap;
+import java.util.List;
+
+/**
+ * ResilientEmployeeRepository applies a {@link ResilientExecutor} to an IEmployeeRepository.
+ * Searches and single lookups may fall back to stale results; SSN searches and
+ * batch lookups never do, so no SSN-derived key or large ID list is retained.
+ */
+public class ResilientEmployeeRepository implements IEmployeeRepository {
+    private final IEmployeeRepository delegate;
+    private final ResilientExecutor executor;
+
+    public ResilientEmployeeRepository(IEmployeeRepository delegate, ResilientExecutor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public List<EmployeeSearchResult> searchEmployee(String searchTerm) {
+        return executor.read("searchEmployee", searchTerm, () -> delegate.searchEmployee(searchTerm));
+    }
+
+    @Override
+    public Employee getEmployeeById(int empId) {
+        // Employee objects are mutable; never hand out the cached instance itself
+        Employee employee = executor.read("getEmployeeById", String.valueOf(empId), () -> delegate.getEmployeeById(empId));
+        return employee == null ? null : new Employee(employee.getEmpId(), employee.getName(), employee.getSsn(),
+            employee.getJobTitleId(), employee.getDivisionId());
+    }
+
+    @Override
+    public IntObjectHashMap<Employee> getEmployeesByIds(int[] empIds) {
+        return executor.read("getEmployeesByIds", null, () -> delegate.getEmployeesByIds(empIds));
+    }
+
+    @Override
+    public List<EmployeeSearchResult> searchBySsn(String ssn) {
+        return executor.read("searchBySsn", null, () -> delegate.searchBySsn(ssn));
+    }
+
+    @Override
+    public boolean updateEmployee(Employee employee) {
+        return executor.write("updateEmployee", () -> delegate.updateEmployee(employee));
+    }
+
+    @Override
+    public int updateEmployees(List<Employee> employees) {
+        return executor.write("updateEmployees", () -> delegate.updateEmployees(employees));
+    }
+}
@@ -0,0 +1,255 @@
+package src.resilience;
+
+import src.database.DataAccessException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ResilientExecutor runs repository calls against one database under a
+ * {@link ResiliencePolicy}. All repositories sharing a database should share
+ * one executor, so they share its bulkhead and circuit breaker.
+ *
+ * Reads get a deadline, jittered retries for transient failures and, when a
+ * cache key is given, a stale fallback to the last successful result while
+ * the database is unreachable (a transient failure or an open circuit).
+ * Failures of the query itself, such as SQL errors, are never hidden, and
+ * only transient failures (including deadline overruns) count toward the
+ * circuit breaker: a database that rejects a bad request is still up. Writes
+ * are never retried or abandoned mid-flight, since a timed-out write may still
+ * commit; they only pass through the bulkhead and the breaker.
+ */
+public class ResilientExecutor {
+    private final String name;
+    private final ResiliencePolicy policy;
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final ExecutorService workers;
+    private final LastKnownGoodCache staleResults;
+
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder staleServed = new LongAdder();
+
+    public ResilientExecutor(String name, ResiliencePolicy policy) {
+        this(name, policy, new LastKnownGoodCache(policy.getMaxStaleEntries()));
+    }
+
+    /**
+     * @param staleResults where successful read results are kept for the stale fallback;
+     *                     may be shared with a {@link FailoverRouter}
+     */
+    public ResilientExecutor(String name, ResiliencePolicy policy, LastKnownGoodCache staleResults) {
+        this.name = name;
+        this.policy = policy;
+        this.circuitBreaker = new CircuitBreaker(policy.getFailureThreshold(), policy.getOpenMillis());
+        this.bulkhead = new Semaphore(policy.getMaxConcurrentCalls());
+        this.workers = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "resilient-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.staleResults = staleResults;
+    }
+
+    /**
+     * Runs an idempotent read.
+     * @param method repository method name, used for the deadline and in messages
+     * @param cacheKey key of the stale fallback entry, or null if the result must never be served stale
+     * @param call the repository call
+     * @return the fresh result, or the last successful result for the key while the database is unreachable
+     */
+    public <T> T read(String method, String cacheKey, Callable<T> call) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(policy.deadlineFor(method));
+        String staleKey = policy.getMaxStaleEntries() == 0 ? null : cacheKey;
+
+        for (int attempt = 0; ; attempt++) {
+            DataAccessException failure;
+            if (!circuitBreaker.allowRequest()) {
+                failure = new CircuitOpenException("Database '" + name + "' is unavailable; " + method + " not attempted");
+            } else {
+                try {
+                    T result = callWithDeadline(method, call, deadline);
+                    circuitBreaker.onSuccess();
+                    staleResults.put(method, staleKey, result);
+                    return result;
+                } catch (BulkheadFullException e) {
+                    circuitBreaker.onIgnored();
+                    failure = e;
+                } catch (DataAccessException e) {
+                    recordFailure(e);
+                    failure = e;
+                } catch (RuntimeException e) {
+                    circuitBreaker.onIgnored();
+                    throw e;
+                }
+            }
+
+            long backoffNanos = TimeUnit.MILLISECONDS.toNanos(backoffMillis(attempt));
+            boolean retry = failure.isTransient() && !(failure instanceof CircuitOpenException) &&
+                attempt < policy.getMaxRetries() && System.nanoTime() + backoffNanos < deadline;
+            if (!retry) {
+                return staleOrThrow(method, staleKey, failure);
+            }
+            retries.increment();
+            sleepNanos(backoffNanos);
+        }
+    }
+
+    /**
+     * Runs a write once, on the calling thread.
+     * @param method repository method name, used in messages
+     * @param call the repository call
+     * @return the call's result
+     */
+    public <T> T write(String method, Callable<T> call) {
+        if (!circuitBreaker.allowRequest()) {
+            throw new CircuitOpenException("Database '" + name + "' is unavailable; " + method + " not attempted");
+        }
+        try {
+            acquirePermit(method, policy.getBulkheadWaitMillis());
+        } catch (BulkheadFullException e) {
+            circuitBreaker.onIgnored();
+            throw e;
+        }
+        try {
+            T result = call.call();
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (DataAccessException e) {
+            recordFailure(e);
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.onIgnored();
+            throw e;
+        } catch (Exception e) {
+            circuitBreaker.onIgnored();
+            throw new IllegalStateException(e);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * Counts a failure toward the breaker only if the database may be unreachable.
+     * Constraint violations, SQL errors and other rejected requests are ignored.
+     */
+    private void recordFailure(DataAccessException failure) {
+        if (failure.isTransient()) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onIgnored();
+        }
+    }
+
+    /**
+     * Runs the call on a worker thread and stops waiting at the deadline.
+     * The bulkhead permit is held until the worker actually finishes, so
+     * abandoned calls still count against the concurrency limit.
+     */
+    private <T> T callWithDeadline(String method, Callable<T> call, long deadline) {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        acquirePermit(method, Math.min(policy.getBulkheadWaitMillis(), Math.max(0, remainingMillis)));
+
+        Future<T> future;
+        try {
+            future = workers.submit(() -> {
+                try {
+                    return call.call();
+                } finally {
+                    bulkhead.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            throw e;
+        }
+
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Not cancelled: JDBC calls ignore interrupts, and the worker must reach its
+            // finally block to return the permit. The driver's network timeout bounds it.
+            timeouts.increment();
+            throw new DataAccessException(method + " exceeded its deadline of " +
+                policy.deadlineFor(method) + "ms", true);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessException(method + " was interrupted", false);
+        }
+    }
+
+    private void acquirePermit(String method, long waitMillis) {
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejections.increment();
+            throw new BulkheadFullException("Too many concurrent database calls; " + method + " rejected");
+        }
+    }
+
+    private <T> T staleOrThrow(String method, String staleKey, DataAccessException failure) {
+        if (failure.isTransient() || failure instanceof CircuitOpenException) {
+            T stale = staleResults.get(method, staleKey);
+            if (stale != null) {
+                staleServed.increment();
+                System.err.println("Serving stale result for " + method + ":" + staleKey + ": " + failure.getMessage());
+                return stale;
+            }
+        }
+        throw failure;
+    }
+
+    /**
+     * Exponential backoff with full jitter: a random delay up to base * 2^attempt, capped.
+     */
+    private long backoffMillis(int attempt) {
+        long ceiling = Math.min(policy.getRetryMaxDelayMillis(),
+            policy.getRetryBaseDelayMillis() << Math.min(attempt, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static void sleepNanos(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public CircuitBreaker.State getCircuitState() { return circuitBreaker.getState(); }
+    public long getRetryCount() { return retries.sum(); }
+    public long getTimeoutCount() { return timeouts.sum(); }
+    public long getRejectionCount() { return rejections.sum(); }
+    public long getStaleServedCount() { return staleServed.sum(); }
+
+    /**
+     * Raised when the bulkhead has no free permit; does not count as a database failure.
+     */
+    private static final class BulkheadFullException extends DataAccessException {
+        private static final long serialVersionUID = 1L;
+
+        BulkheadFullException(String message) {
+            super(message, true);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package src.resilience;
+
+import src.models.LatestSalaries;
+import src.models.PayrollRecord;
+import src.models.RaisePreview;
+import src.models.Report;
+import src.repositories.IPayrollRepository;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * ResilientPayrollRepository applies a {@link ResilientExecutor} to an IPayrollRepository.
+ * Pay history and reports may fall back to stale results; raise previews are
+ * always computed fresh, and salary updates are writes and never retried.
+ */
+public class ResilientPayrollRepository implements IPayrollRepository {
+    private final IPayrollRepository delegate;
+    private final ResilientExecutor executor;
+
+    public ResilientPayrollRepository(IPayrollRepository delegate, ResilientExecutor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public List<PayrollRecord> getPayHistory(int empId) {
+        return executor.read("getPayHistory", String.valueOf(empId), () -> delegate.getPayHistory(empId));
+    }
+
+    @Override
+    public List<PayrollRecord> getPayHistory(int empId, LocalDate from, LocalDate to, int limit) {
+        return executor.read("getPayHistoryRange", empId + ":" + from + ":" + to + ":" + limit,
+            () -> delegate.getPayHistory(empId, from, to, limit));
+    }
+
+    @Override
+    public int updateSalaryRange(double min, double max, double percentIncrease) {
+        return executor.write("updateSalaryRange", () -> delegate.updateSalaryRange(min, max, percentIncrease));
+    }
+
+    @Override
+    public RaisePreview previewSalaryRange(double min, double max, double percentIncrease) {
+        return executor.read("previewSalaryRange", null, () -> delegate.previewSalaryRange(min, max, percentIncrease));
+    }
+
+    @Override
+    public LatestSalaries getLatestSalaries() {
+        // Never served stale: the caller applies later change events on top of the result
+        return executor.read("getLatestSalaries", null, delegate::getLatestSalaries);
+    }
+
+    @Override
+    public List<Report> getTotalPayByJobTitle() {
+        return executor.read("getTotalPayByJobTitle", "", delegate::getTotalPayByJobTitle);
+    }
+
+    @Override
+    public List<Report> getTotalPayByDivision() {
+        return executor.read("getTotalPayByDivision", "", delegate::getTotalPayByDivision);
+    }
+}
@@ -0,0 +1,117 @@
+package src.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * SsnHasher derives keyed hashes (HMAC-SHA256) of Social Security Numbers.
+ * SSNs are normalized to their digits first, so "123-45-6789" and "123456789"
+ * hash identically. Lookups compare hashes only; the plaintext SSN never
+ * leaves the process on the search path.
+ *
+ * The key is read from the COMPANYZ_SSN_HMAC_KEY environment variable or the
+ * companyz.ssn.hmacKey system property. Changing the key invalidates every
+ * stored hash, so stored hashes must be recomputed afterwards.
+ */
+public class SsnHasher {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String KEY_ENV = "COMPANYZ_SSN_HMAC_KEY";
+    private static final String KEY_PROPERTY = "companyz.ssn.hmacKey";
+    private static final String DEMO_KEY = "companyz-demo-ssn-key";
+
+    private static volatile SsnHasher defaultHasher;
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> mac;
+
+    public SsnHasher(byte[] keyBytes) {
+        if (keyBytes == null || keyBytes.length == 0) {
+            throw new IllegalArgumentException("HMAC key must not be empty");
+        }
+        this.key = new SecretKeySpec(keyBytes.clone(), ALGORITHM);
+        this.mac = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * Returns the hasher configured from the environment.
+     * Falls back to a fixed demo key, with a warning, when none is configured.
+     * @return the shared hasher
+     */
+    public static SsnHasher getDefault() {
+        SsnHasher hasher = defaultHasher;
+        if (hasher == null) {
+            synchronized (SsnHasher.class) {
+                hasher = defaultHasher;
+                if (hasher == null) {
+                    String configuredKey = System.getProperty(KEY_PROPERTY, System.getenv(KEY_ENV));
+                    if (configuredKey == null || configuredKey.isEmpty()) {
+                        System.err.println("No SSN HMAC key configured (" + KEY_ENV + "); using demo key.");
+                        configuredKey = DEMO_KEY;
+                    }
+                    hasher = new SsnHasher(configuredKey.getBytes(StandardCharsets.UTF_8));
+                    defaultHasher = hasher;
+                }
+            }
+        }
+        return hasher;
+    }
+
+    /**
+     * Computes the keyed hash of an SSN.
+     * @param ssn the SSN in any punctuation format
+     * @return 32-byte HMAC, or null if the SSN contains no digits
+     */
+    public byte[] hash(String ssn) {
+        String digits = normalize(ssn);
+        if (digits.isEmpty()) {
+            return null;
+        }
+        return mac.get().doFinal(digits.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Computes a 64-bit key for in-memory indexes from the SSN's HMAC.
+     * @param ssn the SSN in any punctuation format
+     * @return leading 8 bytes of the HMAC as a long, or 0 if the SSN contains no digits
+     */
+    public long hashKey(String ssn) {
+        byte[] hash = hash(ssn);
+        if (hash == null) {
+            return 0L;
+        }
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (hash[i] & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * Strips everything but digits from an SSN.
+     */
+    static String normalize(String ssn) {
+        if (ssn == null) {
+            return "";
+        }
+        StringBuilder digits = new StringBuilder(9);
+        for (int i = 0; i < ssn.length(); i++) {
+            char c = ssn.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+    private Mac newMac() {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+}
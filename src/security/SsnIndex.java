@@ -0,0 +1,64 @@
+package src.security;
+
+import src.collections.LongIntHashMap;
+
+/**
+ * SsnIndex maps SSN hash keys to employee IDs.
+ * Keys are the 64-bit values produced by {@link SsnHasher#hashKey}; no
+ * plaintext SSN is stored. Entries live in a {@link LongIntHashMap}, so a
+ * lookup is a single probe sequence over primitive arrays.
+ *
+ * Thread-safety: methods are synchronized; the index is small and writes are rare.
+ */
+public class SsnIndex {
+    private static final int NOT_FOUND = -1;
+
+    private final SsnHasher hasher;
+    private final LongIntHashMap empIdsByKey;
+
+    public SsnIndex(SsnHasher hasher) {
+        this(hasher, 16);
+    }
+
+    public SsnIndex(SsnHasher hasher, int expectedSize) {
+        this.hasher = hasher;
+        this.empIdsByKey = new LongIntHashMap(expectedSize);
+    }
+
+    /**
+     * Adds or replaces the entry for an SSN.
+     * @param ssn the employee's SSN
+     * @param empId the employee ID
+     */
+    public synchronized void put(String ssn, int empId) {
+        long key = hasher.hashKey(ssn);
+        if (key != 0L) {
+            empIdsByKey.put(key, empId);
+        }
+    }
+
+    /**
+     * Removes the entry for an SSN, if present.
+     * @param ssn the SSN to remove
+     */
+    public synchronized void remove(String ssn) {
+        long key = hasher.hashKey(ssn);
+        if (key != 0L) {
+            empIdsByKey.remove(key);
+        }
+    }
+
+    /**
+     * Looks up the employee with the given SSN.
+     * @param ssn the SSN to find
+     * @return the employee ID, or -1 if not indexed
+     */
+    public synchronized int find(String ssn) {
+        long key = hasher.hashKey(ssn);
+        return key == 0L ? NOT_FOUND : empIdsByKey.getOrDefault(key, NOT_FOUND);
+    }
+
+    public synchronized int size() {
+        return empIdsByKey.size();
+    }
+}
@@ -1,8 +1,12 @@
 package src.services;
 
+import src.models.Employee;
 import src.models.EmployeeSearchResult;
+import src.repositories.EmployeeBatchLoader;
 import src.repositories.IEmployeeRepository;
+import src.collections.IntObjectHashMap;
 import java.util.List;
+import java.util.concurrent.CompletionException;
 
 /**
  * EmployeeService implements employee business logic.
@@ -11,9 +15,35 @@ import java.util.List;
  */
 public class EmployeeService {
     private final IEmployeeRepository employeeRepository;
+    private final EmployeeBatchLoader batchLoader;
 
     public EmployeeService(IEmployeeRepository employeeRepository) {
+        this(employeeRepository, new EmployeeBatchLoader(employeeRepository));
+    }
+
+    public EmployeeService(IEmployeeRepository employeeRepository, EmployeeBatchLoader batchLoader) {
         this.employeeRepository = employeeRepository;
+        this.batchLoader = batchLoader;
+    }
+
+    /**
+     * Retrieves one employee, e.g. to open it for editing.
+     * Lookups arriving together are coalesced into one batch query by the batch loader.
+     * @param empId the employee ID
+     * @return the employee, or null if not found
+     */
+    public Employee getEmployee(int empId) {
+        if (empId <= 0) {
+            return null;
+        }
+        try {
+            return batchLoader.load(empId).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
     }
 
     /**
@@ -28,6 +58,18 @@ public class EmployeeService {
         return employeeRepository.searchEmployee(searchTerm);
     }
 
+    /**
+     * Retrieves several employees with a single batch lookup.
+     * @param empIds the employee IDs
+     * @return map of employee ID to Employee for every ID that was found
+     */
+    public IntObjectHashMap<Employee> getEmployeesByIds(int[] empIds) {
+        if (empIds == null || empIds.length == 0) {
+            return new IntObjectHashMap<>();
+        }
+        return employeeRepository.getEmployeesByIds(empIds);
+    }
+
     /**
      * Searches for an employee by Social Security Number (SSN).
      * @param ssn the employee's SSN (e.g., "123-45-6789")
@@ -40,6 +82,43 @@ public class EmployeeService {
         return employeeRepository.searchBySsn(ssn);
     }
 
+    /**
+     * Saves the changed fields of an employee.
+     * @param employee the employee, modified through its setters
+     * @return true if the employee was updated
+     */
+    public boolean updateEmployee(Employee employee) {
+        if (employee == null) {
+            throw new IllegalArgumentException("Employee is required");
+        }
+        validateForUpdate(employee);
+        return employeeRepository.updateEmployee(employee);
+    }
+
+    /**
+     * Saves the changed fields of several employees in one batch.
+     * @param employees the employees, modified through their setters
+     * @return number of employees updated
+     */
+    public int updateEmployees(List<Employee> employees) {
+        if (employees == null || employees.isEmpty()) {
+            return 0;
+        }
+        for (Employee employee : employees) {
+            validateForUpdate(employee);
+        }
+        return employeeRepository.updateEmployees(employees);
+    }
+
+    private void validateForUpdate(Employee employee) {
+        if (employee.getEmpId() <= 0) {
+            throw new IllegalArgumentException("Invalid employee ID: " + employee.getEmpId());
+        }
+        if (employee.getName() == null || employee.getName().trim().isEmpty()) {
+            throw new IllegalArgumentException("Employee name cannot be empty");
+        }
+    }
+
     /**
      * Formats search results as readable strings.
      * @param results the search results
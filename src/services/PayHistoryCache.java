@@ -0,0 +1,216 @@
+package src.services;
+
+import src.models.PayrollRecord;
+import src.events.ChangeEvent;
+import src.events.ChangeEventBus;
+import src.events.ChangeEventListener;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PayHistoryCache keeps recently viewed pay histories in memory, keyed by empid.
+ * Each history is stored as two primitive arrays (pay dates as epoch days and
+ * salaries) rather than a list of PayrollRecord objects. The cache is bounded
+ * by an estimate of its heap footprint; the least recently used employees are
+ * evicted first.
+ *
+ * Pay history is append-only and only changes on payroll runs or salary
+ * updates, so entries do not expire; callers invalidate them on those events,
+ * or the cache subscribes to the change event bus and invalidates itself.
+ */
+public class PayHistoryCache implements ChangeEventListener {
+    // Approximate per-entry cost: map node, boxed key, holder object and two array headers
+    private static final long ENTRY_OVERHEAD_BYTES = 128;
+    private static final long BYTES_PER_RECORD = Integer.BYTES + Double.BYTES;
+
+    private long maxBytes;
+    private final Map<Integer, CachedHistory> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long currentBytes;
+
+    // Bumped on every invalidation so loads that raced with it are not cached
+    private long generation;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    private volatile boolean eventDriven;
+
+    public PayHistoryCache(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the cached history for an employee.
+     * @param empId the employee ID
+     * @return payroll records newest first, or null if not cached
+     */
+    public synchronized List<PayrollRecord> get(int empId) {
+        CachedHistory history = entries.get(empId);
+        if (history == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return history.toRecords(empId);
+    }
+
+    /**
+     * Changes the size limit, evicting least recently used entries if the cache
+     * is now over it.
+     * @param maxBytes new approximate limit
+     */
+    public synchronized void setMaxBytes(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.maxBytes = maxBytes;
+        evictOverLimit();
+    }
+
+    /**
+     * Captures the invalidation generation before loading from the repository.
+     * Pass the value to {@link #put} so a load that overlapped an invalidation is discarded.
+     * @return the current generation
+     */
+    public synchronized long beginLoad() {
+        return generation;
+    }
+
+    /**
+     * Caches a history loaded from the repository.
+     * @param empId the employee ID
+     * @param records payroll records newest first
+     * @param loadGeneration value returned by beginLoad before the records were read
+     */
+    public synchronized void put(int empId, List<PayrollRecord> records, long loadGeneration) {
+        if (loadGeneration != generation) {
+            return;
+        }
+        CachedHistory history = CachedHistory.of(records);
+        if (history.sizeBytes > maxBytes) {
+            return;
+        }
+
+        CachedHistory previous = entries.put(empId, history);
+        if (previous != null) {
+            currentBytes -= previous.sizeBytes;
+        }
+        currentBytes += history.sizeBytes;
+        evictOverLimit();
+    }
+
+    private void evictOverLimit() {
+        Iterator<CachedHistory> eldest = entries.values().iterator();
+        while (currentBytes > maxBytes && eldest.hasNext()) {
+            currentBytes -= eldest.next().sizeBytes;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Drops the cached histories of specific employees, e.g. after a payroll run.
+     * @param empIds the affected employee IDs
+     */
+    public synchronized void invalidate(int... empIds) {
+        generation++;
+        for (int empId : empIds) {
+            CachedHistory removed = entries.remove(empId);
+            if (removed != null) {
+                currentBytes -= removed.sizeBytes;
+            }
+        }
+    }
+
+    /**
+     * Drops every cached history.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+        currentBytes = 0;
+    }
+
+    /**
+     * Subscribes the cache to salary and payroll run events.
+     * Affected employees are invalidated asynchronously, shortly after the write commits.
+     * @param eventBus the change event bus
+     */
+    public void subscribeTo(ChangeEventBus eventBus) {
+        eventBus.subscribe("pay-history-cache", this);
+        eventDriven = true;
+    }
+
+    /**
+     * @return true if the cache invalidates itself from change events
+     */
+    public boolean isEventDriven() {
+        return eventDriven;
+    }
+
+    @Override
+    public void onEventsDropped() {
+        // Entries never expire, so a missed invalidation would be served forever
+        invalidateAll();
+    }
+
+    @Override
+    public void onEvent(ChangeEvent event, boolean endOfBatch) {
+        switch (event.getType()) {
+            case SALARY_UPDATED:
+            case PAYROLL_RUN:
+                invalidate(event.getEmpIds());
+                break;
+            default:
+                break;
+        }
+    }
+
+    public synchronized int size() { return entries.size(); }
+    public synchronized long getSizeBytes() { return currentBytes; }
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+    public synchronized long getEvictions() { return evictions; }
+
+    /**
+     * Compact, immutable holder for one employee's history.
+     */
+    private static final class CachedHistory {
+        final int[] payEpochDays;
+        final double[] salaries;
+        final long sizeBytes;
+
+        private CachedHistory(int[] payEpochDays, double[] salaries) {
+            this.payEpochDays = payEpochDays;
+            this.salaries = salaries;
+            this.sizeBytes = ENTRY_OVERHEAD_BYTES + BYTES_PER_RECORD * payEpochDays.length;
+        }
+
+        static CachedHistory of(List<PayrollRecord> records) {
+            int[] days = new int[records.size()];
+            double[] amounts = new double[records.size()];
+            for (int i = 0; i < records.size(); i++) {
+                PayrollRecord record = records.get(i);
+                days[i] = record.getPayEpochDay();
+                amounts[i] = record.getSalary();
+            }
+            return new CachedHistory(days, amounts);
+        }
+
+        List<PayrollRecord> toRecords(int empId) {
+            List<PayrollRecord> records = new ArrayList<>(payEpochDays.length);
+            for (int i = 0; i < payEpochDays.length; i++) {
+                records.add(new PayrollRecord(empId, salaries[i], LocalDate.ofEpochDay(payEpochDays[i])));
+            }
+            return records;
+        }
+    }
+}
@@ -2,8 +2,14 @@ package src.services;
 
 import src.models.Report;
 import src.models.PayrollRecord;
+import src.models.RaisePreview;
+import src.models.SalaryBand;
+import src.database.PartialUpdateException;
 import src.repositories.IPayrollRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * PayrollService implements payroll and salary business logic.
@@ -11,10 +17,28 @@ import java.util.List;
  * Depends on abstraction (IPayrollRepository) for loose coupling.
  */
 public class PayrollService {
+    // Window shown on the self-service screen
+    private static final int RECENT_HISTORY_MONTHS = 12;
+    private static final int RECENT_HISTORY_LIMIT = 24;
+    private static final long DEFAULT_HISTORY_CACHE_BYTES = 8L * 1024 * 1024;
+
     private final IPayrollRepository payrollRepository;
+    private final PayHistoryCache payHistoryCache;
+    private final SalaryDistributionIndex salaryDistribution;
 
     public PayrollService(IPayrollRepository payrollRepository) {
+        this(payrollRepository, new PayHistoryCache(DEFAULT_HISTORY_CACHE_BYTES));
+    }
+
+    public PayrollService(IPayrollRepository payrollRepository, PayHistoryCache payHistoryCache) {
+        this(payrollRepository, payHistoryCache, new SalaryDistributionIndex(payrollRepository));
+    }
+
+    public PayrollService(IPayrollRepository payrollRepository, PayHistoryCache payHistoryCache,
+                          SalaryDistributionIndex salaryDistribution) {
         this.payrollRepository = payrollRepository;
+        this.payHistoryCache = payHistoryCache;
+        this.salaryDistribution = salaryDistribution;
     }
 
     /**
@@ -29,6 +53,68 @@ public class PayrollService {
         return payrollRepository.getPayHistory(empId);
     }
 
+    /**
+     * Retrieves pay history for an employee within a pay period range.
+     * @param empId the employee ID
+     * @param from first pay date to include, or null for no lower bound
+     * @param to pay date to stop before (exclusive), or null for no upper bound
+     * @param limit maximum number of records, or 0 for no limit
+     * @return list of payroll records, newest first
+     */
+    public List<PayrollRecord> getPayHistory(int empId, LocalDate from, LocalDate to, int limit) {
+        if (empId <= 0) {
+            return List.of();
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("Invalid pay period range: from must not be after to");
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+        return payrollRepository.getPayHistory(empId, from, to, limit);
+    }
+
+    /**
+     * Retrieves the most recent pay statements for an employee.
+     * Only the last year of pay periods is read, so older partitions are not touched.
+     * Repeat views are served from the pay history cache without database access.
+     * @param empId the employee ID
+     * @return list of payroll records, newest first
+     */
+    public List<PayrollRecord> getRecentPayHistory(int empId) {
+        if (empId <= 0) {
+            return List.of();
+        }
+        
+        LocalDate windowStart = LocalDate.now().minusMonths(RECENT_HISTORY_MONTHS);
+        List<PayrollRecord> history = payHistoryCache.get(empId);
+        if (history == null) {
+            long loadGeneration = payHistoryCache.beginLoad();
+            history = payrollRepository.getPayHistory(empId, windowStart, null, RECENT_HISTORY_LIMIT);
+            if (!history.isEmpty()) {
+                payHistoryCache.put(empId, history, loadGeneration);
+            }
+        }
+        
+        // The window slides forward; drop statements that aged out after they were cached
+        List<PayrollRecord> recent = new ArrayList<>(history.size());
+        for (PayrollRecord record : history) {
+            if (!record.getPayDate().isBefore(windowStart)) {
+                recent.add(record);
+            }
+        }
+        return recent;
+    }
+
+    /**
+     * Notifies the service that a payroll run added statements for the given employees.
+     * @param empIds the employees paid in the run
+     */
+    public void onPayrollRun(int... empIds) {
+        payHistoryCache.invalidate(empIds);
+        salaryDistribution.invalidate();
+    }
+
     /**
      * Applies a salary raise to employees within a range.
      * Validates input before passing to repository.
@@ -36,16 +122,97 @@ public class PayrollService {
      * @param max maximum salary
      * @param percentIncrease percentage increase
      * @return number of employees updated
+     * @throws PartialUpdateException if only some rows were updated
      */
     public int applySalaryRaise(double min, double max, double percentIncrease) {
+        validateRaise(min, max, percentIncrease);
+        
+        int updated;
+        try {
+            updated = payrollRepository.updateSalaryRange(min, max, percentIncrease);
+        } catch (PartialUpdateException e) {
+            invalidateSalaryCaches(e.getCommittedCount());
+            throw e;
+        }
+        invalidateSalaryCaches(updated);
+        return updated;
+    }
+
+    private void invalidateSalaryCaches(int updated) {
+        if (updated > 0) {
+            // Without the event bus there is no record of which employees changed
+            if (!payHistoryCache.isEventDriven()) {
+                payHistoryCache.invalidateAll();
+            }
+            if (!salaryDistribution.isEventDriven()) {
+                salaryDistribution.invalidate();
+            }
+        }
+    }
+
+    /**
+     * Computes the impact of a salary raise without applying it.
+     * Runs a single aggregate read that takes no row locks.
+     * @param min minimum salary
+     * @param max maximum salary
+     * @param percentIncrease percentage increase
+     * @return affected count and payroll delta, overall and per division
+     */
+    public RaisePreview previewSalaryRaise(double min, double max, double percentIncrease) {
+        validateRaise(min, max, percentIncrease);
+        return payrollRepository.previewSalaryRange(min, max, percentIncrease);
+    }
+
+    /**
+     * Counts the employees whose current salary is in a range and totals those salaries.
+     * Served from the in-memory salary distribution, without a database read.
+     * @param min minimum salary
+     * @param max maximum salary (exclusive)
+     * @return the salary band
+     */
+    public SalaryBand getSalaryBand(double min, double max) {
+        validateRange(min, max);
+        return salaryDistribution.range(min, max);
+    }
+
+    /**
+     * Like getSalaryBand, but never waits for the database; for per-keystroke lookups.
+     * @param min minimum salary
+     * @param max maximum salary (exclusive)
+     * @return the salary band, or null while the salary distribution is loading
+     */
+    public SalaryBand getSalaryBandIfLoaded(double min, double max) {
+        validateRange(min, max);
+        return salaryDistribution.rangeIfLoaded(min, max);
+    }
+
+    /**
+     * @return completes when the salary distribution is loaded
+     */
+    public CompletableFuture<Void> loadSalaryDistribution() {
+        return salaryDistribution.loadInBackground();
+    }
+
+    /**
+     * Suggests salary bands holding roughly equal numbers of employees.
+     * @param bands number of bands wanted
+     * @return consecutive bands covering every salary, lowest first
+     */
+    public List<SalaryBand> suggestSalaryBands(int bands) {
+        return salaryDistribution.suggestBands(bands);
+    }
+
+    private void validateRange(double min, double max) {
         if (min < 0 || max < 0 || min > max) {
             throw new IllegalArgumentException("Invalid salary range: min must be >= 0, max must be >= min");
         }
+    }
+
+    private void validateRaise(double min, double max, double percentIncrease) {
+        validateRange(min, max);
         if (percentIncrease < -100) {
             throw new IllegalArgumentException("Percent increase cannot be less than -100%");
         }
-        
-        return payrollRepository.updateSalaryRange(min, max, percentIncrease);
     }
 
     /**
@@ -82,6 +249,53 @@ public class PayrollService {
         return sb.toString();
     }
 
+    /**
+     * Formats salary bands as readable string.
+     * @param bands the salary bands
+     * @return formatted string representation
+     */
+    public String formatSalaryBands(List<SalaryBand> bands) {
+        if (bands == null || bands.isEmpty()) {
+            return "No salaries found.";
+        }
+        
+        StringBuilder sb = new StringBuilder("--- SALARY BANDS ---\n");
+        for (SalaryBand band : bands) {
+            sb.append(formatSalaryBand(band)).append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Formats one salary band as a single line.
+     * @param band the salary band
+     * @return formatted string representation
+     */
+    public String formatSalaryBand(SalaryBand band) {
+        return String.format("$%.2f - $%.2f: %d employees | $%.2f current salary total", band.min(), band.max(),
+            band.count(), band.totalSalary());
+    }
+
+    /**
+     * Formats a raise preview as readable string.
+     * @param preview the raise preview
+     * @return formatted string representation
+     */
+    public String formatRaisePreview(RaisePreview preview) {
+        if (preview == null || preview.getAffectedCount() == 0) {
+            return "No employees in the selected salary range.";
+        }
+        
+        StringBuilder sb = new StringBuilder("--- RAISE PREVIEW ---\n");
+        sb.append("Affected: ").append(preview.getAffectedCount())
+          .append(" | Payroll change: $").append(String.format("%.2f", preview.getTotalDelta())).append("\n");
+        for (RaisePreview.DivisionImpact impact : preview.divisions()) {
+            sb.append(impact.division()).append(": ").append(impact.affectedCount())
+              .append(" affected | $").append(String.format("%.2f", impact.delta())).append("\n");
+        }
+        return sb.toString();
+    }
+
     /**
      * Formats report data as readable string.
      * @param reports the report data
@@ -0,0 +1,147 @@
+package src.services;
+
+import src.models.ReferenceDictionary;
+import src.events.ChangeEvent;
+import src.events.ChangeEventListener;
+import src.events.ChangeType;
+import src.repositories.IReferenceDataRepository;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * ReferenceDataService keeps a preloaded, versioned copy of the job title and
+ * division lookup tables. Readers get the current {@link ReferenceDictionary}
+ * without touching the database; a stale or invalidated dictionary is reloaded
+ * in the background and swapped in atomically. The version only changes when
+ * the reloaded contents actually differ. Subscribed to the change event bus,
+ * it reloads as soon as a REFERENCE_DATA_CHANGED event arrives.
+ */
+public class ReferenceDataService implements Supplier<ReferenceDictionary>, ChangeEventListener {
+    private static final long DEFAULT_MAX_AGE_MILLIS = 5 * 60 * 1000L;
+
+    private final IReferenceDataRepository referenceDataRepository;
+    private volatile long maxAgeMillis;
+    private final AtomicBoolean refreshQueued = new AtomicBoolean();
+    private final ExecutorService refresher;
+
+    private volatile ReferenceDictionary dictionary;
+    private volatile long loadedAtMillis;
+
+    public ReferenceDataService(IReferenceDataRepository referenceDataRepository) {
+        this(referenceDataRepository, DEFAULT_MAX_AGE_MILLIS);
+    }
+
+    public ReferenceDataService(IReferenceDataRepository referenceDataRepository, long maxAgeMillis) {
+        if (maxAgeMillis <= 0) {
+            throw new IllegalArgumentException("Max age must be positive");
+        }
+        this.referenceDataRepository = referenceDataRepository;
+        this.maxAgeMillis = maxAgeMillis;
+        this.refresher = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "reference-data-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Changes how long a loaded dictionary is used before a background reload.
+     * @param maxAgeMillis new maximum age
+     */
+    public void setMaxAgeMillis(long maxAgeMillis) {
+        if (maxAgeMillis <= 0) {
+            throw new IllegalArgumentException("Max age must be positive");
+        }
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    /**
+     * Returns the current dictionary, loading it on first use.
+     * Schedules a background reload when the dictionary is older than the max age.
+     * @return the current dictionary
+     */
+    public ReferenceDictionary getDictionary() {
+        ReferenceDictionary current = dictionary;
+        if (current == null) {
+            return refresh();
+        }
+        if (System.currentTimeMillis() - loadedAtMillis > maxAgeMillis) {
+            invalidate();
+        }
+        return current;
+    }
+
+    @Override
+    public ReferenceDictionary get() {
+        return getDictionary();
+    }
+
+    /**
+     * Reloads the lookup tables synchronously. A failed reload leaves the
+     * previous dictionary in effect.
+     * @return the dictionary in effect after the reload
+     * @throws src.database.DataAccessException if the lookup tables cannot be read
+     */
+    public synchronized ReferenceDictionary refresh() {
+        ReferenceDictionary current = dictionary;
+        long nextVersion = current == null ? 1 : current.getVersion() + 1;
+        ReferenceDictionary loaded = ReferenceDictionary.build(nextVersion,
+            referenceDataRepository.loadJobTitles(),
+            referenceDataRepository.loadDivisions());
+
+        if (current == null || !current.hasSameEntries(loaded)) {
+            dictionary = loaded;
+        }
+        loadedAtMillis = System.currentTimeMillis();
+        return dictionary;
+    }
+
+    /**
+     * Marks the dictionary as changed; it is reloaded in the background.
+     * Concurrent invalidations collapse into a single reload.
+     */
+    public void invalidate() {
+        if (refreshQueued.compareAndSet(false, true)) {
+            refresher.execute(() -> {
+                refreshQueued.set(false);
+                try {
+                    refresh();
+                } catch (RuntimeException e) {
+                    System.err.println("Reference data refresh failed: " + e.getMessage());
+                }
+            });
+        }
+    }
+
+    @Override
+    public void onEventsDropped() {
+        invalidate();
+    }
+
+    @Override
+    public void onEvent(ChangeEvent event, boolean endOfBatch) {
+        if (event.getType() == ChangeType.REFERENCE_DATA_CHANGED) {
+            invalidate();
+        }
+    }
+
+    /**
+     * @param jobTitleId the job title id
+     * @return the job title name, or a placeholder if the id is unknown
+     */
+    public String getJobTitleName(int jobTitleId) {
+        String name = getDictionary().jobTitleName(jobTitleId);
+        return name != null ? name : "Job Title #" + jobTitleId;
+    }
+
+    /**
+     * @param divisionId the division id
+     * @return the division name, or a placeholder if the id is unknown
+     */
+    public String getDivisionName(int divisionId) {
+        String name = getDictionary().divisionName(divisionId);
+        return name != null ? name : "Division #" + divisionId;
+    }
+}
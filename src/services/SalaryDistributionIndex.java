@@ -0,0 +1,550 @@
+package src.services;
+
+import src.events.ChangeEvent;
+import src.events.ChangeEventBus;
+import src.events.ChangeEventListener;
+import src.collections.LongIntHashMap;
+import src.models.LatestSalaries;
+import src.models.SalaryBand;
+import src.repositories.IPayrollRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * SalaryDistributionIndex keeps the distribution of current salaries in memory,
+ * so admins can size a bulk raise band without a range scan per guess. An
+ * employee's current salary is the salary on their latest payroll row; each
+ * employee is counted once, whatever their pay history.
+ * Single Responsibility: answers how many employees earn a salary range and
+ * their total salary, and suggests band boundaries.
+ *
+ * Salaries are held as cents in fixed-width buckets. Per-bucket counts and sums
+ * sit in Fenwick trees, so everything below a bucket boundary is summed in
+ * O(log buckets); each bucket keeps its values sorted, so the two partial
+ * buckets at the edges of a range are resolved exactly. Ranges use the same
+ * [min, max) convention as previewSalaryRange, which counts every pay row a
+ * raise would change rather than employees.
+ *
+ * The index loads the latest row of every employee once
+ * (IPayrollRepository.getLatestSalaries) and is then maintained from
+ * SALARY_UPDATED events, which carry each row's pay date and old and new value.
+ * Changes to earlier pay dates leave current salaries alone and are skipped.
+ * A row for an employee or pay date newer than the loaded one, or an old value
+ * that does not match, means the index is out of step with the table (a write
+ * that committed while a load was reading, for example), so it reloads itself
+ * on next use. Payroll runs add rows without values, so they mark the index for
+ * reload, as does invalidate(). Events arrive shortly after commit, so answers
+ * may lag a write by the bus delay.
+ *
+ * range, suggestBands, size and getTotalSalary load a stale index before
+ * answering. Interactive callers use rangeIfLoaded instead, which never reads
+ * the database: a stale index is reloaded on a background thread and the
+ * caller waits on loadInBackground.
+ */
+public class SalaryDistributionIndex implements ChangeEventListener {
+    private static final double DEFAULT_BUCKET_WIDTH = 1000.0;
+    private static final int INITIAL_BUCKETS = 256;
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final IPayrollRepository payrollRepository;
+    private final long bucketWidthCents;
+
+    // Fenwick trees over the buckets, 1-based
+    private long[] countTree;
+    private long[] sumTree;
+    // Sorted salaries in cents, per bucket
+    private long[][] bucketValues;
+    private int[] bucketSizes;
+    private int employees;
+    private long totalCents;
+
+    // Slot of each employee in latestPayDays and latestCents
+    private LongIntHashMap employeeSlots = new LongIntHashMap();
+    private int[] latestPayDays = new int[0];
+    private long[] latestCents = new long[0];
+
+    private boolean loaded;
+    // Bumped on every write event and invalidation, so loads that raced with one are retried
+    private long generation;
+
+    private volatile boolean eventDriven;
+
+    private final ExecutorService loader;
+    // Completes when the queued background load finishes; null when none is queued
+    private CompletableFuture<Void> pendingLoad;
+
+    public SalaryDistributionIndex(IPayrollRepository payrollRepository) {
+        this(payrollRepository, DEFAULT_BUCKET_WIDTH);
+    }
+
+    /**
+     * @param payrollRepository source of the salaries
+     * @param bucketWidth bucket width in dollars; suggested band boundaries are multiples of it
+     */
+    public SalaryDistributionIndex(IPayrollRepository payrollRepository, double bucketWidth) {
+        if (bucketWidth < 0.01) {
+            throw new IllegalArgumentException("Bucket width must be at least one cent");
+        }
+        this.payrollRepository = payrollRepository;
+        this.bucketWidthCents = Math.round(bucketWidth * 100);
+        this.bucketValues = new long[INITIAL_BUCKETS][];
+        this.bucketSizes = new int[INITIAL_BUCKETS];
+        rebuildTrees();
+        this.loader = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "salary-distribution-load");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Loads every employee's current salary from the repository, replacing the current contents.
+     * Retried if salary writes arrive while the salaries are being read.
+     */
+    public void rebuild() {
+        for (int attempt = 1; ; attempt++) {
+            long loadGeneration;
+            synchronized (this) {
+                loadGeneration = generation;
+            }
+            LatestSalaries salaries = payrollRepository.getLatestSalaries();
+            synchronized (this) {
+                if (generation == loadGeneration || attempt == MAX_LOAD_ATTEMPTS) {
+                    replaceWith(salaries);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads the index on a background thread unless it is already loaded.
+     * Concurrent calls share one load.
+     * @return completes when the index is loaded, or exceptionally if the salaries cannot be read
+     */
+    public synchronized CompletableFuture<Void> loadInBackground() {
+        if (loaded) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (pendingLoad == null) {
+            CompletableFuture<Void> load = new CompletableFuture<>();
+            pendingLoad = load;
+            loader.execute(() -> {
+                try {
+                    rebuild();
+                    finishLoad(load, null);
+                } catch (RuntimeException e) {
+                    finishLoad(load, e);
+                }
+            });
+        }
+        return pendingLoad;
+    }
+
+    private void finishLoad(CompletableFuture<Void> load, RuntimeException failure) {
+        synchronized (this) {
+            pendingLoad = null;
+        }
+        if (failure == null) {
+            load.complete(null);
+        } else {
+            load.completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * Marks the index stale; the next query reloads it.
+     */
+    public synchronized void invalidate() {
+        generation++;
+        loaded = false;
+    }
+
+    /**
+     * Counts the employees whose current salary is min &lt;= salary &lt; max and sums those salaries.
+     * @param min lower bound, inclusive
+     * @param max upper bound, exclusive
+     * @return the band
+     */
+    public SalaryBand range(double min, double max) {
+        ensureLoaded();
+        synchronized (this) {
+            return band(ceilCents(min), Math.max(ceilCents(min), ceilCents(max)), min, max);
+        }
+    }
+
+    /**
+     * Like range, but never reads the database. A stale index starts a
+     * background load instead; wait on loadInBackground and ask again.
+     * @param min lower bound, inclusive
+     * @param max upper bound, exclusive
+     * @return the band, or null while the index is loading
+     */
+    public synchronized SalaryBand rangeIfLoaded(double min, double max) {
+        if (!loaded) {
+            loadInBackground();
+            return null;
+        }
+        return band(ceilCents(min), Math.max(ceilCents(min), ceilCents(max)), min, max);
+    }
+
+    /**
+     * Splits the salary range into bands of roughly equal employee counts, for choosing raise bands.
+     * Boundaries are rounded to the bucket width, so counts are close to, not exactly, equal;
+     * bands that would collapse after rounding are merged.
+     * @param bands number of bands wanted
+     * @return consecutive bands covering every salary, lowest first; empty if there are no employees
+     */
+    public List<SalaryBand> suggestBands(int bands) {
+        if (bands <= 0) {
+            throw new IllegalArgumentException("Number of bands must be positive");
+        }
+        ensureLoaded();
+        synchronized (this) {
+            List<SalaryBand> result = new ArrayList<>();
+            if (employees == 0) {
+                return result;
+            }
+            long lower = valueAtRank(0) / bucketWidthCents * bucketWidthCents;
+            long upper = (valueAtRank(employees - 1) / bucketWidthCents + 1) * bucketWidthCents;
+            long previous = lower;
+            for (int k = 1; k <= bands; k++) {
+                long boundary = upper;
+                if (k < bands) {
+                    long quantile = valueAtRank((int) ((long) k * employees / bands));
+                    boundary = Math.round((double) quantile / bucketWidthCents) * bucketWidthCents;
+                }
+                if (boundary > previous && boundary <= upper) {
+                    result.add(band(previous, boundary, previous / 100.0, boundary / 100.0));
+                    previous = boundary;
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * @return number of employees in the index
+     */
+    public int size() {
+        ensureLoaded();
+        synchronized (this) {
+            return employees;
+        }
+    }
+
+    /**
+     * @return total current salary of all employees
+     */
+    public double getTotalSalary() {
+        ensureLoaded();
+        synchronized (this) {
+            return totalCents / 100.0;
+        }
+    }
+
+    public synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Subscribes the index to salary and payroll run events.
+     * @param eventBus the change event bus
+     */
+    public void subscribeTo(ChangeEventBus eventBus) {
+        eventBus.subscribe("salary-distribution", this);
+        eventDriven = true;
+    }
+
+    /**
+     * @return true if the index maintains itself from change events
+     */
+    public boolean isEventDriven() {
+        return eventDriven;
+    }
+
+    @Override
+    public void onEventsDropped() {
+        // Some salary changes never arrived; reload on next use
+        invalidate();
+    }
+
+    @Override
+    public synchronized void onEvent(ChangeEvent event, boolean endOfBatch) {
+        switch (event.getType()) {
+            case SALARY_UPDATED:
+                generation++;
+                if (!loaded) {
+                    break;
+                }
+                if (!event.hasValues()) {
+                    loaded = false;
+                    break;
+                }
+                for (int i = 0; i < event.size(); i++) {
+                    if (!applyChange(event.getEmpId(i), event.getPayEpochDay(i), event.getOldValue(i),
+                            event.getNewValue(i))) {
+                        // Out of step with the table (see class comment); reload on next use
+                        loaded = false;
+                        break;
+                    }
+                }
+                break;
+            case PAYROLL_RUN:
+                invalidate();
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void ensureLoaded() {
+        boolean stale;
+        synchronized (this) {
+            stale = !loaded;
+        }
+        if (stale) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Applies one row of a salary update.
+     * @return false if the row does not match the loaded salaries
+     */
+    private boolean applyChange(int empId, int payEpochDay, double oldSalary, double newSalary) {
+        int slot = employeeSlots.getOrDefault(empId, -1);
+        if (slot < 0 || payEpochDay > latestPayDays[slot]) {
+            return false;
+        }
+        if (payEpochDay < latestPayDays[slot]) {
+            // An earlier pay period; the current salary is unchanged
+            return true;
+        }
+        long oldCents = toCents(oldSalary);
+        if (latestCents[slot] != oldCents || !remove(oldCents)) {
+            return false;
+        }
+        long newCents = toCents(newSalary);
+        add(newCents);
+        latestCents[slot] = newCents;
+        return true;
+    }
+
+    private void replaceWith(LatestSalaries salaries) {
+        int size = salaries.size();
+        LongIntHashMap slots = new LongIntHashMap(size);
+        int[] payDays = new int[size];
+        long[] latest = new long[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int slot = slots.getOrDefault(salaries.empIds()[i], -1);
+            if (slot < 0) {
+                slot = count++;
+                slots.put(salaries.empIds()[i], slot);
+            } else if (salaries.payEpochDays()[i] < payDays[slot]) {
+                continue;
+            }
+            payDays[slot] = salaries.payEpochDays()[i];
+            latest[slot] = toCents(salaries.salaries()[i]);
+        }
+        employeeSlots = slots;
+        latestPayDays = payDays;
+        latestCents = latest;
+
+        long[] cents = Arrays.copyOf(latest, count);
+        long sum = 0;
+        for (long value : cents) {
+            sum += value;
+        }
+        Arrays.sort(cents);
+
+        int buckets = bucketCount(cents.length == 0 ? 0 : bucketOf(cents[cents.length - 1]) + 1);
+        bucketValues = new long[buckets][];
+        bucketSizes = new int[buckets];
+        int start = 0;
+        while (start < cents.length) {
+            int bucket = bucketOf(cents[start]);
+            int end = start + 1;
+            while (end < cents.length && bucketOf(cents[end]) == bucket) {
+                end++;
+            }
+            bucketValues[bucket] = Arrays.copyOfRange(cents, start, end);
+            bucketSizes[bucket] = end - start;
+            start = end;
+        }
+        employees = cents.length;
+        totalCents = sum;
+        rebuildTrees();
+        loaded = true;
+    }
+
+    private SalaryBand band(long fromCents, long toCents, double min, double max) {
+        int count = countBelow(toCents) - countBelow(fromCents);
+        long cents = sumBelow(toCents) - sumBelow(fromCents);
+        return new SalaryBand(min, max, count, cents / 100.0);
+    }
+
+    private void add(long cents) {
+        int bucket = bucketOf(cents);
+        if (bucket >= bucketSizes.length) {
+            grow(bucket + 1);
+        }
+        int size = bucketSizes[bucket];
+        long[] values = bucketValues[bucket];
+        if (values == null) {
+            values = bucketValues[bucket] = new long[4];
+        } else if (size == values.length) {
+            values = bucketValues[bucket] = Arrays.copyOf(values, size * 2);
+        }
+        int pos = lowerBound(values, size, cents);
+        System.arraycopy(values, pos, values, pos + 1, size - pos);
+        values[pos] = cents;
+        bucketSizes[bucket]++;
+        update(bucket, 1, cents);
+        employees++;
+        totalCents += cents;
+    }
+
+    private boolean remove(long cents) {
+        int bucket = bucketOf(cents);
+        if (bucket >= bucketSizes.length) {
+            return false;
+        }
+        int size = bucketSizes[bucket];
+        long[] values = bucketValues[bucket];
+        int pos = lowerBound(values, size, cents);
+        if (pos == size || values[pos] != cents) {
+            return false;
+        }
+        System.arraycopy(values, pos + 1, values, pos, size - pos - 1);
+        bucketSizes[bucket]--;
+        update(bucket, -1, -cents);
+        employees--;
+        totalCents -= cents;
+        return true;
+    }
+
+    private int countBelow(long cents) {
+        int bucket = bucketOf(cents);
+        if (bucket >= bucketSizes.length) {
+            return employees;
+        }
+        return (int) prefix(countTree, bucket) + lowerBound(bucketValues[bucket], bucketSizes[bucket], cents);
+    }
+
+    private long sumBelow(long cents) {
+        int bucket = bucketOf(cents);
+        if (bucket >= bucketSizes.length) {
+            return totalCents;
+        }
+        long sum = prefix(sumTree, bucket);
+        long[] values = bucketValues[bucket];
+        int end = lowerBound(values, bucketSizes[bucket], cents);
+        for (int i = 0; i < end; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * @param rank zero-based position in ascending salary order, below employees
+     */
+    private long valueAtRank(int rank) {
+        int buckets = bucketSizes.length;
+        int bucket = 0;
+        long remaining = rank;
+        for (int step = Integer.highestOneBit(buckets); step > 0; step >>= 1) {
+            int next = bucket + step;
+            if (next <= buckets && countTree[next] <= remaining) {
+                bucket = next;
+                remaining -= countTree[next];
+            }
+        }
+        return bucketValues[bucket][(int) remaining];
+    }
+
+    private void grow(int neededBuckets) {
+        int buckets = bucketCount(neededBuckets);
+        bucketValues = Arrays.copyOf(bucketValues, buckets);
+        bucketSizes = Arrays.copyOf(bucketSizes, buckets);
+        rebuildTrees();
+    }
+
+    private void rebuildTrees() {
+        int buckets = bucketSizes.length;
+        countTree = new long[buckets + 1];
+        sumTree = new long[buckets + 1];
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            countTree[bucket + 1] = bucketSizes[bucket];
+            for (int i = 0; i < bucketSizes[bucket]; i++) {
+                sumTree[bucket + 1] += bucketValues[bucket][i];
+            }
+        }
+        for (int i = 1; i <= buckets; i++) {
+            int parent = i + (i & -i);
+            if (parent <= buckets) {
+                countTree[parent] += countTree[i];
+                sumTree[parent] += sumTree[i];
+            }
+        }
+    }
+
+    private void update(int bucket, long count, long cents) {
+        for (int i = bucket + 1; i < countTree.length; i += i & -i) {
+            countTree[i] += count;
+            sumTree[i] += cents;
+        }
+    }
+
+    /**
+     * @return sum of the first buckets entries of the tree
+     */
+    private static long prefix(long[] tree, int buckets) {
+        long sum = 0;
+        for (int i = buckets; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    private static int lowerBound(long[] values, int size, long key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int bucketCount(int neededBuckets) {
+        int buckets = INITIAL_BUCKETS;
+        while (buckets < neededBuckets) {
+            buckets *= 2;
+        }
+        return buckets;
+    }
+
+    private int bucketOf(long cents) {
+        return (int) Math.min(Math.max(cents, 0) / bucketWidthCents, Integer.MAX_VALUE);
+    }
+
+    // Payroll stores DECIMAL(12,2); event values are unrounded products
+    private static long toCents(double salary) {
+        return Math.round(salary * 100);
+    }
+
+    // Smallest whole-cent salary that is >= the bound, tolerant of binary fractions like 1.1 * 100
+    private static long ceilCents(double bound) {
+        return (long) Math.ceil(bound * 100 - 1e-6);
+    }
+}
@@ -0,0 +1,30 @@
+package src.tests;
+
+/**
+ * LoadOperation lists the user actions the load harness simulates.
+ */
+public enum LoadOperation {
+    /** AuthService.login with valid demo credentials. */
+    LOGIN(false),
+    /** EmployeeService.searchEmployees for a random employee id. */
+    SEARCH(false),
+    /** PayrollService.getPayHistory for a random employee. */
+    PAY_HISTORY(false),
+    /** Job title or division totals report, alternately. */
+    REPORT(false),
+    /** PayrollService.applySalaryRaise of 0.1% on a narrow random salary band. */
+    RAISE(true);
+
+    private final boolean writes;
+
+    LoadOperation(boolean writes) {
+        this.writes = writes;
+    }
+
+    /**
+     * @return true if the operation changes data
+     */
+    public boolean writes() {
+        return writes;
+    }
+}
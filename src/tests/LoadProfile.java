@@ -0,0 +1,177 @@
+package src.tests;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * LoadProfile describes one load test run: how many simulated users, for how
+ * long, at what rate and with which mix of operations.
+ * Immutable; the with* methods return adjusted copies.
+ *
+ * With a target rate of 0 the run is closed-loop: each user issues its next
+ * operation when the previous one (plus think time) completes, so a slow
+ * system is offered less load. With a positive target rate the run is
+ * open-loop: operations start on a fixed schedule regardless of completions,
+ * and latency is measured from the scheduled start, so queueing delay counts.
+ */
+public final class LoadProfile {
+    private final int users;
+    private final long durationMillis;
+    private final long warmupMillis;
+    private final double targetRatePerSecond;
+    private final long thinkTimeMillis;
+    private final Map<LoadOperation, Integer> weights;
+    private final int maxEmployeeId;
+    private final long randomSeed;
+
+    private LoadProfile(int users, long durationMillis, long warmupMillis, double targetRatePerSecond,
+                        long thinkTimeMillis, Map<LoadOperation, Integer> weights, int maxEmployeeId,
+                        long randomSeed) {
+        this.users = users;
+        this.durationMillis = durationMillis;
+        this.warmupMillis = warmupMillis;
+        this.targetRatePerSecond = targetRatePerSecond;
+        this.thinkTimeMillis = thinkTimeMillis;
+        this.weights = Map.copyOf(weights);
+        this.maxEmployeeId = maxEmployeeId;
+        this.randomSeed = randomSeed;
+    }
+
+    /**
+     * Closed loop, 16 users, 30s after a 5s warmup, no think time, against
+     * employees 1-4. Mix: 10% logins, 30% searches, 35% pay history views,
+     * 20% reports and 5% raises.
+     */
+    public static LoadProfile defaults() {
+        Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        weights.put(LoadOperation.LOGIN, 10);
+        weights.put(LoadOperation.SEARCH, 30);
+        weights.put(LoadOperation.PAY_HISTORY, 35);
+        weights.put(LoadOperation.REPORT, 20);
+        weights.put(LoadOperation.RAISE, 5);
+        return new LoadProfile(16, 30_000, 5_000, 0, 0, weights, 4, 42);
+    }
+
+    /**
+     * @param users concurrent simulated users; in open-loop runs, the worker threads
+     */
+    public LoadProfile withUsers(int users) {
+        if (users <= 0) {
+            throw new IllegalArgumentException("At least one user is required");
+        }
+        return new LoadProfile(users, durationMillis, warmupMillis, targetRatePerSecond, thinkTimeMillis,
+            weights, maxEmployeeId, randomSeed);
+    }
+
+    /**
+     * @param durationMillis measured run time, after the warmup
+     * @param warmupMillis unmeasured time before it
+     */
+    public LoadProfile withDuration(long durationMillis, long warmupMillis) {
+        if (durationMillis <= 0 || warmupMillis < 0) {
+            throw new IllegalArgumentException("Duration must be positive and warmup not negative");
+        }
+        return new LoadProfile(users, durationMillis, warmupMillis, targetRatePerSecond, thinkTimeMillis,
+            weights, maxEmployeeId, randomSeed);
+    }
+
+    /**
+     * @param operationsPerSecond open-loop arrival rate, or 0 for a closed loop
+     */
+    public LoadProfile withTargetRate(double operationsPerSecond) {
+        if (operationsPerSecond < 0) {
+            throw new IllegalArgumentException("Target rate cannot be negative");
+        }
+        return new LoadProfile(users, durationMillis, warmupMillis, operationsPerSecond, thinkTimeMillis,
+            weights, maxEmployeeId, randomSeed);
+    }
+
+    /**
+     * @param thinkTimeMillis pause between a closed-loop user's operations
+     */
+    public LoadProfile withThinkTime(long thinkTimeMillis) {
+        if (thinkTimeMillis < 0) {
+            throw new IllegalArgumentException("Think time cannot be negative");
+        }
+        return new LoadProfile(users, durationMillis, warmupMillis, targetRatePerSecond, thinkTimeMillis,
+            weights, maxEmployeeId, randomSeed);
+    }
+
+    /**
+     * @param operation operation to weight
+     * @param weight relative share of the mix; 0 leaves the operation out
+     */
+    public LoadProfile withWeight(LoadOperation operation, int weight) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight cannot be negative");
+        }
+        Map<LoadOperation, Integer> adjusted = new EnumMap<>(weights);
+        adjusted.put(operation, weight);
+        if (adjusted.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("At least one operation needs a positive weight");
+        }
+        return new LoadProfile(users, durationMillis, warmupMillis, targetRatePerSecond, thinkTimeMillis,
+            adjusted, maxEmployeeId, randomSeed);
+    }
+
+    /**
+     * @param maxEmployeeId searches and pay history views pick ids from 1 to this
+     */
+    public LoadProfile withMaxEmployeeId(int maxEmployeeId) {
+        if (maxEmployeeId <= 0) {
+            throw new IllegalArgumentException("Employee id range must be positive");
+        }
+        return new LoadProfile(users, durationMillis, warmupMillis, targetRatePerSecond, thinkTimeMillis,
+            weights, maxEmployeeId, randomSeed);
+    }
+
+    /**
+     * @param randomSeed seed for the operation mix and parameters, so runs are repeatable
+     */
+    public LoadProfile withRandomSeed(long randomSeed) {
+        return new LoadProfile(users, durationMillis, warmupMillis, targetRatePerSecond, thinkTimeMillis,
+            weights, maxEmployeeId, randomSeed);
+    }
+
+    /**
+     * Draws an operation according to the weights.
+     */
+    LoadOperation pick(Random random) {
+        int total = 0;
+        for (int weight : weights.values()) {
+            total += weight;
+        }
+        int draw = random.nextInt(total);
+        for (LoadOperation operation : LoadOperation.values()) {
+            draw -= weights.getOrDefault(operation, 0);
+            if (draw < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Weights changed during pick");
+    }
+
+    public boolean isOpenLoop() { return targetRatePerSecond > 0; }
+    public int getUsers() { return users; }
+    public long getDurationMillis() { return durationMillis; }
+    public long getWarmupMillis() { return warmupMillis; }
+    public double getTargetRatePerSecond() { return targetRatePerSecond; }
+    public long getThinkTimeMillis() { return thinkTimeMillis; }
+    public int getWeight(LoadOperation operation) { return weights.getOrDefault(operation, 0); }
+    public int getMaxEmployeeId() { return maxEmployeeId; }
+    public long getRandomSeed() { return randomSeed; }
+
+    @Override
+    public String toString() {
+        StringBuilder mix = new StringBuilder();
+        for (LoadOperation operation : LoadOperation.values()) {
+            if (getWeight(operation) > 0) {
+                mix.append(mix.length() == 0 ? "" : ", ").append(operation).append('=').append(getWeight(operation));
+            }
+        }
+        return (isOpenLoop() ? "open loop at " + targetRatePerSecond + " ops/s" : "closed loop")
+            + ", " + users + " users, " + durationMillis / 1000.0 + "s after " + warmupMillis / 1000.0
+            + "s warmup, think " + thinkTimeMillis + "ms, employees 1-" + maxEmployeeId + ", mix " + mix;
+    }
+}
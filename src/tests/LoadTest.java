@@ -0,0 +1,168 @@
+package src.tests;
+
+import src.config.AppConfig;
+import src.config.ConfigKey;
+import src.config.ConfigManager;
+import src.database.DBConnection;
+import src.database.DataSourceConfig;
+import src.database.EmbeddedDatabase;
+import src.events.ChangeEventBus;
+import src.repositories.AuthRepository;
+import src.repositories.EmployeeRepository;
+import src.repositories.IAuthRepository;
+import src.repositories.IEmployeeRepository;
+import src.repositories.IPayrollRepository;
+import src.repositories.MockAuthRepository;
+import src.repositories.MockEmployeeRepository;
+import src.repositories.MockPayrollRepository;
+import src.repositories.PayrollRepository;
+import src.repositories.ReferenceDataRepository;
+import src.repositories.UpdateMode;
+import src.services.AuthService;
+import src.services.EmployeeService;
+import src.services.PayHistoryCache;
+import src.services.PayrollService;
+import src.services.ReferenceDataService;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Command-line entry point for the load harness.
+ *
+ * Usage: java -cp bin:lib/* src.tests.LoadTest [options]
+ *   --backend=mock|embedded|mysql  repositories to load (default mock)
+ *   --users=N --duration=SECONDS --warmup=SECONDS
+ *   --rate=OPS_PER_SECOND          open loop; omit for a closed loop
+ *   --think-ms=N                   closed-loop pause between operations
+ *   --mix=login:10,search:30,pay_history:35,report:20,raise:5
+ *   --employees=N                  embedded: synthetic employees to add; mysql: highest empid
+ *   --login=user:password          credentials for LOGIN (repeatable; default the demo users)
+ *   --seed=N
+ *   --spectra=DIR                  write per-operation percentile spectra for SpectrumDiff
+ *   --allow-writes                 required before raises run against mysql
+ *
+ * The mysql backend uses the application configuration (companyz.properties).
+ */
+public class LoadTest {
+    private static final int PAY_PERIODS = 12;
+
+    public static void main(String[] args) throws Exception {
+        LoadProfile profile = LoadProfile.defaults();
+        String backend = "mock";
+        int employees = 0;
+        boolean allowWrites = false;
+        String spectraDir = null;
+        List<LoadTestHarness.Login> logins = new ArrayList<>();
+
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            String name = eq < 0 ? arg : arg.substring(0, eq);
+            String value = eq < 0 ? "" : arg.substring(eq + 1);
+            switch (name) {
+                case "--backend" -> backend = value.toLowerCase(Locale.ROOT);
+                case "--users" -> profile = profile.withUsers(Integer.parseInt(value));
+                case "--duration" -> profile = profile.withDuration(Long.parseLong(value) * 1000,
+                    profile.getWarmupMillis());
+                case "--warmup" -> profile = profile.withDuration(profile.getDurationMillis(),
+                    Long.parseLong(value) * 1000);
+                case "--rate" -> profile = profile.withTargetRate(Double.parseDouble(value));
+                case "--think-ms" -> profile = profile.withThinkTime(Long.parseLong(value));
+                case "--mix" -> profile = withMix(profile, value);
+                case "--employees" -> employees = Integer.parseInt(value);
+                case "--login" -> {
+                    int colon = value.indexOf(':');
+                    logins.add(new LoadTestHarness.Login(value.substring(0, colon), value.substring(colon + 1)));
+                }
+                case "--seed" -> profile = profile.withRandomSeed(Long.parseLong(value));
+                case "--allow-writes" -> allowWrites = true;
+                case "--spectra" -> spectraDir = value;
+                default -> {
+                    System.err.println("Unknown option " + arg);
+                    System.exit(2);
+                }
+            }
+        }
+        if (logins.isEmpty()) {
+            logins.add(new LoadTestHarness.Login("admin", "admin123"));
+            logins.add(new LoadTestHarness.Login("employee", "emp123"));
+        }
+
+        IAuthRepository authRepository;
+        IEmployeeRepository employeeRepository;
+        IPayrollRepository payrollRepository;
+        ChangeEventBus eventBus = new ChangeEventBus();
+
+        if (backend.equals("mock")) {
+            authRepository = new MockAuthRepository();
+            employeeRepository = new MockEmployeeRepository(eventBus);
+            payrollRepository = new MockPayrollRepository(eventBus);
+        } else {
+            if (backend.equals("embedded")) {
+                EmbeddedDatabase embedded = new EmbeddedDatabase(EmbeddedDatabase.DEFAULT_URL,
+                    Paths.get("db", "embedded"));
+                embedded.start(profile.getUsers(), 5000);
+                if (employees > 0) {
+                    System.out.println("Seeding " + employees + " employees...");
+                    embedded.seedSynthetic(employees, PAY_PERIODS, profile.getRandomSeed());
+                }
+                profile = profile.withMaxEmployeeId(4 + employees);
+            } else if (backend.equals("mysql")) {
+                AppConfig config = AppConfig.load(ConfigManager.locateFile());
+                DBConnection.configurePrimary(new DataSourceConfig("primary", config.getString(ConfigKey.DB_URL),
+                    config.getString(ConfigKey.DB_USER), config.getString(ConfigKey.DB_PASSWORD),
+                    profile.getUsers()), (int) config.getLong(ConfigKey.DB_CONNECT_TIMEOUT_MILLIS));
+                if (employees > 0) {
+                    profile = profile.withMaxEmployeeId(employees);
+                }
+                if (!allowWrites && profile.getWeight(LoadOperation.RAISE) > 0) {
+                    System.out.println("Raises left out of the mix; pass --allow-writes to change salaries in MySQL");
+                    profile = profile.withWeight(LoadOperation.RAISE, 0);
+                }
+            } else {
+                System.err.println("Unknown backend " + backend + "; use mock, embedded or mysql");
+                System.exit(2);
+                return;
+            }
+            ReferenceDataService referenceData = new ReferenceDataService(new ReferenceDataRepository());
+            referenceData.refresh();
+            authRepository = new AuthRepository();
+            employeeRepository = new EmployeeRepository();
+            payrollRepository = new PayrollRepository(referenceData, eventBus, UpdateMode.OPTIMISTIC);
+        }
+
+        PayHistoryCache payHistoryCache = new PayHistoryCache(8L * 1024 * 1024);
+        payHistoryCache.subscribeTo(eventBus);
+        LoadTestHarness harness = new LoadTestHarness(new AuthService(authRepository),
+            new EmployeeService(employeeRepository), new PayrollService(payrollRepository, payHistoryCache), logins);
+
+        System.out.println("Running " + profile + " against " + backend + "...");
+        LoadTestReport report = harness.run(profile);
+        System.out.println(report.format());
+        if (spectraDir != null) {
+            report.writeSpectra(Paths.get(spectraDir));
+            System.out.println("Spectra written to " + spectraDir);
+        }
+    }
+
+    /**
+     * Parses "login:10,search:30,..."; operations not listed get weight 0.
+     */
+    private static LoadProfile withMix(LoadProfile profile, String mix) {
+        LoadProfile adjusted = profile;
+        List<LoadOperation> listed = new ArrayList<>();
+        for (String part : mix.split(",")) {
+            String[] pair = part.split(":");
+            LoadOperation operation = LoadOperation.valueOf(pair[0].trim().toUpperCase(Locale.ROOT));
+            adjusted = adjusted.withWeight(operation, Integer.parseInt(pair[1].trim()));
+            listed.add(operation);
+        }
+        for (LoadOperation operation : LoadOperation.values()) {
+            if (!listed.contains(operation)) {
+                adjusted = adjusted.withWeight(operation, 0);
+            }
+        }
+        return adjusted;
+    }
+}
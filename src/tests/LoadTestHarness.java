@@ -0,0 +1,235 @@
+package src.tests;
+
+import src.metrics.HistogramSnapshot;
+import src.metrics.LatencyRecorder;
+import src.services.AuthService;
+import src.services.EmployeeService;
+import src.services.PayrollService;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LoadTestHarness drives the service layer with many concurrent simulated
+ * users, as described by a {@link LoadProfile}.
+ * Single Responsibility: generates the load and records per-operation
+ * latency and errors; {@link LoadTestReport} presents the results.
+ *
+ * Operations that started during the warmup are run but not recorded.
+ * A call that throws, or a login that is rejected, counts as an error.
+ * Each user thread records into its own {@link LatencyRecorder}s; they are
+ * merged when the run ends.
+ *
+ * Closed-loop users with think time correct their latencies for coordinated
+ * omission, taking the think time as the interval they meant to keep between
+ * operations: a stall of n think times also records the n operations the user
+ * would otherwise have issued meanwhile. Open-loop latencies need no
+ * correction, as they already run from the scheduled start.
+ */
+public class LoadTestHarness {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    // Raises hit a random band of this width with a small increase, so salaries barely drift
+    private static final double RAISE_BAND_WIDTH = 1000;
+    private static final double RAISE_PERCENT = 0.1;
+
+    private final AuthService authService;
+    private final EmployeeService employeeService;
+    private final PayrollService payrollService;
+    private final List<Login> logins;
+
+    /**
+     * Credentials a simulated user signs in with.
+     */
+    public record Login(String username, String password) { }
+
+    /**
+     * Latencies and errors of one user thread, per operation.
+     */
+    private static final class Recorder {
+        final Map<LoadOperation, LatencyRecorder> latency = new EnumMap<>(LoadOperation.class);
+        final Map<LoadOperation, LongAdder> errors;
+
+        Recorder(Map<LoadOperation, LongAdder> errors) {
+            for (LoadOperation operation : LoadOperation.values()) {
+                latency.put(operation, new LatencyRecorder());
+            }
+            this.errors = errors;
+        }
+
+        void record(LoadOperation operation, long latencyNanos, long expectedIntervalNanos, boolean ok) {
+            latency.get(operation).recordCorrected(latencyNanos, expectedIntervalNanos);
+            if (!ok) {
+                errors.get(operation).increment();
+            }
+        }
+    }
+
+    /**
+     * @param logins valid credentials; LOGIN picks one at random
+     */
+    public LoadTestHarness(AuthService authService, EmployeeService employeeService,
+                           PayrollService payrollService, List<Login> logins) {
+        if (logins.isEmpty()) {
+            throw new IllegalArgumentException("At least one login is required");
+        }
+        this.authService = authService;
+        this.employeeService = employeeService;
+        this.payrollService = payrollService;
+        this.logins = List.copyOf(logins);
+    }
+
+    /**
+     * Runs the profile to completion and returns the measurements.
+     */
+    public LoadTestReport run(LoadProfile profile) throws InterruptedException {
+        Map<LoadOperation, LongAdder> errors = new EnumMap<>(LoadOperation.class);
+        for (LoadOperation operation : LoadOperation.values()) {
+            errors.put(operation, new LongAdder());
+        }
+        Queue<Recorder> recorders = new ConcurrentLinkedQueue<>();
+
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.MILLISECONDS.toNanos(profile.getWarmupMillis());
+        long end = measureFrom + TimeUnit.MILLISECONDS.toNanos(profile.getDurationMillis());
+        int backlog = profile.isOpenLoop()
+            ? runOpenLoop(profile, recorders, errors, start, measureFrom, end)
+            : runClosedLoop(profile, recorders, errors, measureFrom, end);
+        long elapsed = Math.max(System.nanoTime(), end) - measureFrom;
+
+        Map<LoadOperation, LoadTestReport.OperationStats> stats = new EnumMap<>(LoadOperation.class);
+        for (LoadOperation operation : LoadOperation.values()) {
+            HistogramSnapshot latency = new LatencyRecorder().snapshot();
+            for (Recorder recorder : recorders) {
+                latency = latency.merge(recorder.latency.get(operation).snapshot());
+            }
+            stats.put(operation, new LoadTestReport.OperationStats(latency, errors.get(operation).sum()));
+        }
+        return new LoadTestReport(profile, stats, elapsed, backlog);
+    }
+
+    /**
+     * Each user thread runs its next operation as soon as the previous one and its think time end.
+     */
+    private int runClosedLoop(LoadProfile profile, Queue<Recorder> recorders, Map<LoadOperation, LongAdder> errors,
+                              long measureFrom, long end) throws InterruptedException {
+        long thinkNanos = TimeUnit.MILLISECONDS.toNanos(profile.getThinkTimeMillis());
+        List<Thread> users = new ArrayList<>();
+        for (int i = 0; i < profile.getUsers(); i++) {
+            Random random = new Random(profile.getRandomSeed() + i);
+            Recorder recorder = new Recorder(errors);
+            recorders.add(recorder);
+            Thread user = new Thread(() -> {
+                while (System.nanoTime() < end) {
+                    LoadOperation operation = profile.pick(random);
+                    long started = System.nanoTime();
+                    boolean ok = execute(operation, random, profile.getMaxEmployeeId());
+                    if (started >= measureFrom) {
+                        recorder.record(operation, System.nanoTime() - started, thinkNanos, ok);
+                    }
+                    if (thinkNanos > 0) {
+                        LockSupport.parkNanos(thinkNanos);
+                    }
+                }
+            }, "load-user-" + i);
+            user.setDaemon(true);
+            users.add(user);
+            user.start();
+        }
+        for (Thread user : users) {
+            user.join();
+        }
+        return 0;
+    }
+
+    /**
+     * One dispatcher starts operations on a fixed schedule; a pool of user
+     * threads executes them. Latency runs from the scheduled start, so time
+     * spent queued behind slow operations is included.
+     * @return operations still queued when the schedule ended
+     */
+    private int runOpenLoop(LoadProfile profile, Queue<Recorder> recorders, Map<LoadOperation, LongAdder> errors,
+                            long start, long measureFrom, long end) throws InterruptedException {
+        ThreadLocal<Recorder> threadRecorder = ThreadLocal.withInitial(() -> {
+            Recorder recorder = new Recorder(errors);
+            recorders.add(recorder);
+            return recorder;
+        });
+        AtomicLong threadIds = new AtomicLong();
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(profile.getUsers(), profile.getUsers(),
+            0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), r -> {
+                Thread thread = new Thread(r, "load-user-" + threadIds.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+        Random random = new Random(profile.getRandomSeed());
+        double interval = NANOS_PER_SECOND / profile.getTargetRatePerSecond();
+        for (long n = 0; ; n++) {
+            long scheduled = start + (long) (n * interval);
+            if (scheduled >= end) {
+                break;
+            }
+            long wait;
+            while ((wait = scheduled - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            LoadOperation operation = profile.pick(random);
+            Random operationRandom = new Random(random.nextLong());
+            workers.execute(() -> {
+                boolean ok = execute(operation, operationRandom, profile.getMaxEmployeeId());
+                if (scheduled >= measureFrom) {
+                    threadRecorder.get().record(operation, System.nanoTime() - scheduled, 0, ok);
+                }
+            });
+        }
+
+        int backlog = workers.getQueue().size();
+        workers.shutdown();
+        workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        return backlog;
+    }
+
+    /**
+     * Runs one operation with random parameters.
+     * @return false if it failed
+     */
+    private boolean execute(LoadOperation operation, Random random, int maxEmployeeId) {
+        int empId = 1 + random.nextInt(maxEmployeeId);
+        try {
+            switch (operation) {
+                case LOGIN -> {
+                    Login login = logins.get(random.nextInt(logins.size()));
+                    return authService.login(login.username(), login.password()) != null;
+                }
+                case SEARCH -> {
+                    return employeeService.searchEmployees(String.valueOf(empId)) != null;
+                }
+                case PAY_HISTORY -> {
+                    return payrollService.getPayHistory(empId) != null;
+                }
+                case REPORT -> {
+                    return (random.nextBoolean() ? payrollService.getJobTitleReport()
+                        : payrollService.getDivisionReport()) != null;
+                }
+                case RAISE -> {
+                    double min = 40_000 + random.nextInt(120) * RAISE_BAND_WIDTH;
+                    return payrollService.applySalaryRaise(min, min + RAISE_BAND_WIDTH, RAISE_PERCENT) >= 0;
+                }
+                default -> throw new IllegalArgumentException("Unknown operation " + operation);
+            }
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package src.tests;
+
+import src.metrics.HistogramSnapshot;
+import src.metrics.PercentileSpectrum;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * LoadTestReport holds the results of one {@link LoadTestHarness} run:
+ * throughput, latency percentiles and error rate per operation.
+ */
+public class LoadTestReport {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final LoadProfile profile;
+    private final Map<LoadOperation, OperationStats> operations;
+    private final long elapsedNanos;
+    private final int backlog;
+
+    /**
+     * Measurements of one operation.
+     * @param latency latencies in nanoseconds
+     * @param errors operations that failed
+     */
+    public record OperationStats(HistogramSnapshot latency, long errors) {
+        public long count() {
+            return latency.getTotalCount();
+        }
+
+        public double errorRate() {
+            return count() == 0 ? 0 : (double) errors / count();
+        }
+    }
+
+    LoadTestReport(LoadProfile profile, Map<LoadOperation, OperationStats> operations,
+                   long elapsedNanos, int backlog) {
+        this.profile = profile;
+        this.operations = Map.copyOf(operations);
+        this.elapsedNanos = elapsedNanos;
+        this.backlog = backlog;
+    }
+
+    public LoadProfile getProfile() { return profile; }
+    public OperationStats get(LoadOperation operation) { return operations.get(operation); }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    /**
+     * @return open-loop operations still queued when the schedule ended; a
+     *         growing backlog means the target rate is above capacity
+     */
+    public int getBacklog() { return backlog; }
+
+    /**
+     * @return completed operations per second over the measured period
+     */
+    public double throughput(LoadOperation operation) {
+        return get(operation).count() / (elapsedNanos / NANOS_PER_SECOND);
+    }
+
+    public long getTotalCount() {
+        long total = 0;
+        for (OperationStats stats : operations.values()) {
+            total += stats.count();
+        }
+        return total;
+    }
+
+    public long getTotalErrors() {
+        long total = 0;
+        for (OperationStats stats : operations.values()) {
+            total += stats.errors();
+        }
+        return total;
+    }
+
+    /**
+     * Writes one percentile spectrum per measured operation, named like
+     * "pay_history.spectrum", for comparison with {@link SpectrumDiff}.
+     * @param dir directory to write to; created if missing
+     */
+    public void writeSpectra(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        for (LoadOperation operation : LoadOperation.values()) {
+            if (get(operation).count() > 0) {
+                String name = operation.name().toLowerCase(Locale.ROOT);
+                PercentileSpectrum.of(name, get(operation).latency())
+                    .write(dir.resolve(name + SpectrumDiff.FILE_SUFFIX));
+            }
+        }
+    }
+
+    /**
+     * Formats the results as a table, latencies in milliseconds.
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Load test: ").append(profile).append('\n');
+        sb.append(String.format("%-12s %9s %10s %8s %10s %10s %10s %10s%n",
+            "operation", "count", "ops/s", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (LoadOperation operation : LoadOperation.values()) {
+            OperationStats stats = get(operation);
+            if (stats.count() == 0) {
+                continue;
+            }
+            HistogramSnapshot latency = stats.latency();
+            sb.append(String.format("%-12s %9d %10.1f %7.2f%% %10.3f %10.3f %10.3f %10.3f%n",
+                operation, stats.count(), throughput(operation), stats.errorRate() * 100,
+                latency.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                latency.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                latency.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                latency.getMaxValue() / NANOS_PER_MILLI));
+        }
+        long total = getTotalCount();
+        sb.append(String.format("%-12s %9d %10.1f %7.2f%%%n", "total", total,
+            total / (elapsedNanos / NANOS_PER_SECOND), total == 0 ? 0.0 : 100.0 * getTotalErrors() / total));
+        if (profile.isOpenLoop()) {
+            sb.append("Backlog when the schedule ended: ").append(backlog).append(" operations\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,217 @@
+package src.tests;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * RaiseHistoryChecker decides whether the outcome of a round of concurrent
+ * raises could have been produced by running them one after another.
+ * Single Responsibility: searches the orders of a round's raises for one the
+ * {@link SequentialSalaryModel} agrees with.
+ *
+ * All raises of a round overlap in time, so every order is allowed. Raises
+ * that failed atomically are left out. With {@link Consistency#SERIALIZABLE}
+ * one order must explain every row and every raise's reported count; with
+ * {@link Consistency#PER_ROW} each row may follow its own order, which is what
+ * a store committing rows independently promises. Either way a lost update
+ * (a raise missing from a row) or a double-applied raise shows up as a row no
+ * order explains.
+ */
+public class RaiseHistoryChecker {
+    /** Isolation a repository promises for one bulk raise. */
+    public enum Consistency {
+        /** The whole raise takes effect at one point in time (one transaction or one lock). */
+        SERIALIZABLE,
+        /** Each row is updated atomically, but rows may interleave with other raises. */
+        PER_ROW
+    }
+
+    /**
+     * One completed raise of the history.
+     * @param min lower bound of the salary band, inclusive
+     * @param max upper bound, exclusive
+     * @param percentIncrease raise in percent
+     * @param reportedCount rows the repository said it changed
+     */
+    public record Raise(double min, double max, double percentIncrease, int reportedCount) {
+        @Override
+        public String toString() {
+            return String.format("raise %.1f%% on [%.2f, %.2f) -> %d rows", percentIncrease, min, max, reportedCount);
+        }
+    }
+
+    private final Consistency consistency;
+
+    public RaiseHistoryChecker(Consistency consistency) {
+        this.consistency = consistency;
+    }
+
+    /**
+     * @param before salaries when the round started
+     * @param raises the raises that completed during the round
+     * @param after salaries when the round ended
+     * @return descriptions of the rows or counts no sequential order explains; empty if consistent
+     */
+    public List<String> check(SequentialSalaryModel before, List<Raise> raises, Map<Long, Double> after) {
+        List<int[]> orders = permutations(raises.size());
+        return consistency == Consistency.SERIALIZABLE
+            ? checkSerializable(before, raises, after, orders)
+            : checkPerRow(before, raises, after, orders);
+    }
+
+    /**
+     * Every value a row could legitimately show during the round: its value
+     * after any prefix of any order. Used to validate concurrent reads.
+     */
+    public Map<Integer, Set<Double>> reachableSalaries(SequentialSalaryModel before, List<Raise> raises) {
+        Map<Integer, Set<Double>> reachable = new HashMap<>();
+        for (int[] order : permutations(raises.size())) {
+            SequentialSalaryModel model = before.copy();
+            addAll(reachable, model);
+            for (int index : order) {
+                Raise raise = raises.get(index);
+                model.apply(raise.min(), raise.max(), raise.percentIncrease());
+                addAll(reachable, model);
+            }
+        }
+        return reachable;
+    }
+
+    /**
+     * Every payroll total a report could legitimately show during the round:
+     * the sum of all rows after any prefix of any order.
+     */
+    public Set<Double> reachableTotals(SequentialSalaryModel before, List<Raise> raises) {
+        Set<Double> reachable = new HashSet<>();
+        for (int[] order : permutations(raises.size())) {
+            SequentialSalaryModel model = before.copy();
+            reachable.add(total(model));
+            for (int index : order) {
+                Raise raise = raises.get(index);
+                model.apply(raise.min(), raise.max(), raise.percentIncrease());
+                reachable.add(total(model));
+            }
+        }
+        return reachable;
+    }
+
+    private static double total(SequentialSalaryModel model) {
+        double total = 0;
+        for (double salary : model.getSalaries().values()) {
+            total += salary;
+        }
+        return total;
+    }
+
+    private List<String> checkSerializable(SequentialSalaryModel before, List<Raise> raises,
+                                           Map<Long, Double> after, List<int[]> orders) {
+        List<String> closest = null;
+        for (int[] order : orders) {
+            SequentialSalaryModel model = before.copy();
+            List<String> problems = new ArrayList<>();
+            for (int index : order) {
+                Raise raise = raises.get(index);
+                int expected = model.apply(raise.min(), raise.max(), raise.percentIncrease());
+                if (expected != raise.reportedCount()) {
+                    problems.add(raise + ", but " + expected + " rows in order " + describe(order));
+                }
+            }
+            problems.addAll(compareRows(model, after));
+            if (problems.isEmpty()) {
+                return problems;
+            }
+            if (closest == null || problems.size() < closest.size()) {
+                closest = problems;
+            }
+        }
+        return closest;
+    }
+
+    private List<String> checkPerRow(SequentialSalaryModel before, List<Raise> raises,
+                                     Map<Long, Double> after, List<int[]> orders) {
+        List<String> problems = new ArrayList<>();
+        if (!before.getSalaries().keySet().equals(after.keySet())) {
+            problems.add("Rows were added or removed during the round");
+            return problems;
+        }
+        for (long rowKey : before.getSalaries().keySet()) {
+            boolean explained = false;
+            for (int i = 0; i < orders.size() && !explained; i++) {
+                double salary = before.get(rowKey);
+                for (int index : orders.get(i)) {
+                    Raise raise = raises.get(index);
+                    salary = before.applyTo(salary, raise.min(), raise.max(), raise.percentIncrease());
+                }
+                explained = before.matches(salary, after.get(rowKey));
+            }
+            if (!explained) {
+                problems.add(describeRow(rowKey, before.get(rowKey), after.get(rowKey)));
+            }
+        }
+        return problems;
+    }
+
+    private static List<String> compareRows(SequentialSalaryModel model, Map<Long, Double> after) {
+        List<String> problems = new ArrayList<>();
+        if (!model.getSalaries().keySet().equals(after.keySet())) {
+            problems.add("Rows were added or removed during the round");
+            return problems;
+        }
+        for (Map.Entry<Long, Double> entry : model.getSalaries().entrySet()) {
+            double actual = after.get(entry.getKey());
+            if (!model.matches(entry.getValue(), actual)) {
+                problems.add("employee " + SequentialSalaryModel.empIdOf(entry.getKey()) + " row "
+                    + entry.getKey() + ": expected " + entry.getValue() + ", found " + actual);
+            }
+        }
+        return problems;
+    }
+
+    private static String describeRow(long rowKey, double before, double after) {
+        return "employee " + SequentialSalaryModel.empIdOf(rowKey) + " row " + rowKey + ": " + before
+            + " -> " + after + " matches no order of the round's raises";
+    }
+
+    private static String describe(int[] order) {
+        StringBuilder sb = new StringBuilder();
+        for (int index : order) {
+            sb.append(sb.length() == 0 ? "" : ",").append(index);
+        }
+        return sb.toString();
+    }
+
+    private static void addAll(Map<Integer, Set<Double>> reachable, SequentialSalaryModel model) {
+        for (Map.Entry<Long, Double> entry : model.getSalaries().entrySet()) {
+            reachable.computeIfAbsent(SequentialSalaryModel.empIdOf(entry.getKey()), id -> new HashSet<>())
+                .add(entry.getValue());
+        }
+    }
+
+    /**
+     * All orders of n raises; rounds keep n small (n! orders).
+     */
+    static List<int[]> permutations(int n) {
+        List<int[]> result = new ArrayList<>();
+        permute(new int[n], new boolean[n], 0, result);
+        return result;
+    }
+
+    private static void permute(int[] current, boolean[] used, int depth, List<int[]> result) {
+        if (depth == current.length) {
+            result.add(current.clone());
+            return;
+        }
+        for (int i = 0; i < current.length; i++) {
+            if (!used[i]) {
+                used[i] = true;
+                current[depth] = i;
+                permute(current, used, depth + 1, result);
+                used[i] = false;
+            }
+        }
+    }
+}
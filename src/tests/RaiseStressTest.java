@@ -0,0 +1,386 @@
+package src.tests;
+
+import src.database.DBConnection;
+import src.database.EmbeddedDatabase;
+import src.events.ChangeEventPublisher;
+import src.models.EmployeeSearchResult;
+import src.models.Report;
+import src.repositories.EmployeeRepository;
+import src.repositories.MockEmployeeRepository;
+import src.repositories.MockPayrollRepository;
+import src.repositories.PayrollRepository;
+import src.repositories.UpdateMode;
+import src.services.EmployeeService;
+import src.services.PayrollService;
+import src.tests.RaiseHistoryChecker.Consistency;
+import src.tests.RaiseHistoryChecker.Raise;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Stress test for concurrent bulk raises.
+ *
+ * Each round starts several raises on overlapping salary bands at the same
+ * instant, while reader threads run searches and reports. When the round
+ * ends the salaries are compared with a {@link SequentialSalaryModel} by
+ * {@link RaiseHistoryChecker}. Lost updates and double-applied raises fail
+ * the check. Search results seen during the round must show a salary some
+ * sequential order could have produced. On targets that promise serializable
+ * raises, every report's grand total must also match some prefix of some order.
+ *
+ * Runs against the in-memory repositories and, when the H2 driver is on the
+ * classpath, the embedded database in both update modes.
+ *
+ * Usage: java -cp bin:lib/* src.tests.RaiseStressTest [--rounds=50] [--raisers=3] [--readers=4] [--seed=N]
+ */
+public class RaiseStressTest {
+    private static final double[] RAISE_PERCENTS = { 2.5, 5, 10, -3 };
+    private static final int SYNTHETIC_EMPLOYEES = 200;
+    private static final int SYNTHETIC_PAY_PERIODS = 3;
+
+    private final int rounds;
+    private final int raisersPerRound;
+    private final int readers;
+    private final long randomSeed;
+
+    /**
+     * A repository stack under test.
+     * @param name label for the output
+     * @param salaries reads the current salary of every payroll row, keyed by SequentialSalaryModel.rowKey
+     * @param roundsToCents true if salaries are stored as DECIMAL(12,2)
+     * @param searchShowsPayroll true if search results read the salaries being raised
+     * @param consistency isolation the payroll repository promises for one raise
+     */
+    public record Target(String name, PayrollService payrollService, EmployeeService employeeService,
+                         Supplier<Map<Long, Double>> salaries, boolean roundsToCents,
+                         boolean searchShowsPayroll, Consistency consistency) { }
+
+    /**
+     * Outcome of one raise thread.
+     */
+    private record RaiseResult(Raise raise, RuntimeException failure) { }
+
+    /**
+     * One employee's salary as a search returned it during the round.
+     */
+    private record Observation(int empId, double salary) { }
+
+    /**
+     * One report's grand total, summed over its categories.
+     */
+    private record ReportObservation(String report, double total) { }
+
+    /**
+     * @param rounds rounds per target
+     * @param raisersPerRound concurrent raises per round; the checker tries all orders, so keep it small
+     * @param readers threads searching and reporting during each round
+     */
+    public RaiseStressTest(int rounds, int raisersPerRound, int readers, long randomSeed) {
+        if (raisersPerRound < 1 || raisersPerRound > 6) {
+            throw new IllegalArgumentException("Use 1-6 raisers per round");
+        }
+        this.rounds = rounds;
+        this.raisersPerRound = raisersPerRound;
+        this.readers = readers;
+        this.randomSeed = randomSeed;
+    }
+
+    /**
+     * Runs every round against a target.
+     * @return the inconsistencies found; empty if the target passed
+     */
+    public List<String> run(Target target) throws InterruptedException {
+        RaiseHistoryChecker checker = new RaiseHistoryChecker(target.consistency());
+        Random random = new Random(randomSeed);
+        List<String> problems = new ArrayList<>();
+        int applied = 0;
+        int failed = 0;
+        int inconclusive = 0;
+        int reads = 0;
+        int reports = 0;
+
+        for (int round = 1; round <= rounds; round++) {
+            SequentialSalaryModel before = new SequentialSalaryModel(target.salaries().get(), target.roundsToCents());
+            List<Raise> planned = planRaises(before, random);
+            List<Observation> observations = Collections.synchronizedList(new ArrayList<>());
+            List<ReportObservation> reportTotals = Collections.synchronizedList(new ArrayList<>());
+            AtomicInteger readErrors = new AtomicInteger();
+
+            List<RaiseResult> results = runRound(target, planned, observations, reportTotals, readErrors,
+                random.nextLong());
+            Map<Long, Double> after = target.salaries().get();
+
+            List<Raise> completed = new ArrayList<>();
+            int roundFailures = 0;
+            for (RaiseResult result : results) {
+                if (result.failure() == null) {
+                    completed.add(result.raise());
+                } else {
+                    roundFailures++;
+                }
+            }
+            applied += completed.size();
+            failed += roundFailures;
+            if (readErrors.get() > 0) {
+                problems.add("round " + round + ": " + readErrors.get() + " searches or reports failed");
+            }
+            if (roundFailures > 0 && target.consistency() == Consistency.PER_ROW) {
+                // Rows committed before the failure stay applied, so no model of the round exists
+                inconclusive++;
+                continue;
+            }
+
+            for (String problem : checker.check(before, completed, after)) {
+                problems.add("round " + round + " " + completed + ": " + problem);
+            }
+            if (target.searchShowsPayroll()) {
+                Map<Integer, Set<Double>> reachable = checker.reachableSalaries(before, completed);
+                for (Observation observation : observations) {
+                    if (!isReachable(before, reachable.get(observation.empId()), observation.salary())) {
+                        problems.add("round " + round + ": search showed employee " + observation.empId()
+                            + " at " + observation.salary() + ", which no order of the raises produces");
+                    }
+                }
+                reads += observations.size();
+            }
+            if (target.consistency() == Consistency.SERIALIZABLE) {
+                // Per-row targets commit rows independently, so a report may mix orders
+                Set<Double> reachable = checker.reachableTotals(before, completed);
+                double tolerance = before.getSalaries().size() * (target.roundsToCents() ? 0.011 : 1e-6);
+                for (ReportObservation observation : reportTotals) {
+                    if (!isReachableTotal(reachable, observation.total(), tolerance)) {
+                        problems.add("round " + round + ": " + observation.report() + " totalled "
+                            + observation.total() + ", which no order of the raises produces");
+                    }
+                }
+                reports += reportTotals.size();
+            }
+        }
+
+        System.out.println(String.format("%s: %d rounds, %d raises applied, %d failed, %d rounds inconclusive, "
+            + "%d search results and %d reports checked, %d problems", target.name(), rounds, applied, failed,
+            inconclusive, reads, reports, problems.size()));
+        return problems;
+    }
+
+    /**
+     * Raises on bands that overlap around the middle of the current salaries.
+     */
+    private List<Raise> planRaises(SequentialSalaryModel model, Random random) {
+        double low = Double.MAX_VALUE;
+        double high = 0;
+        for (double salary : model.getSalaries().values()) {
+            low = Math.min(low, salary);
+            high = Math.max(high, salary);
+        }
+        double span = Math.max(high - low, 1);
+        List<Raise> raises = new ArrayList<>();
+        for (int i = 0; i < raisersPerRound; i++) {
+            double width = span * (0.3 + 0.5 * random.nextDouble());
+            // Whole-dollar bounds keep band edges away from cent-rounded salaries
+            double min = Math.floor(low + (span - width) * random.nextDouble());
+            double max = Math.floor(min + width) + 1;
+            raises.add(new Raise(min, max, RAISE_PERCENTS[random.nextInt(RAISE_PERCENTS.length)], 0));
+        }
+        return raises;
+    }
+
+    private List<RaiseResult> runRound(Target target, List<Raise> planned, List<Observation> observations,
+                                       List<ReportObservation> reportTotals, AtomicInteger readErrors,
+                                       long readerSeed) throws InterruptedException {
+        CyclicBarrier start = new CyclicBarrier(planned.size() + readers);
+        AtomicBoolean raisesRunning = new AtomicBoolean(true);
+        RaiseResult[] results = new RaiseResult[planned.size()];
+        List<Thread> raisers = new ArrayList<>();
+        List<Thread> readerThreads = new ArrayList<>();
+
+        for (int i = 0; i < planned.size(); i++) {
+            int index = i;
+            Raise raise = planned.get(i);
+            raisers.add(new Thread(() -> {
+                awaitQuietly(start);
+                try {
+                    int count = target.payrollService().applySalaryRaise(raise.min(), raise.max(),
+                        raise.percentIncrease());
+                    results[index] = new RaiseResult(
+                        new Raise(raise.min(), raise.max(), raise.percentIncrease(), count), null);
+                } catch (RuntimeException e) {
+                    results[index] = new RaiseResult(raise, e);
+                }
+            }, "stress-raise-" + i));
+        }
+        int maxEmpId = 0;
+        for (long rowKey : target.salaries().get().keySet()) {
+            maxEmpId = Math.max(maxEmpId, SequentialSalaryModel.empIdOf(rowKey));
+        }
+        int employees = maxEmpId;
+        for (int i = 0; i < readers; i++) {
+            Random random = new Random(readerSeed + i);
+            readerThreads.add(new Thread(() -> {
+                awaitQuietly(start);
+                // At least one read per reader, so short rounds still overlap a read
+                do {
+                    try {
+                        if (random.nextInt(4) == 0) {
+                            if (random.nextBoolean()) {
+                                reportTotals.add(new ReportObservation("job title report",
+                                    grandTotal(target.payrollService().getJobTitleReport())));
+                            } else {
+                                reportTotals.add(new ReportObservation("division report",
+                                    grandTotal(target.payrollService().getDivisionReport())));
+                            }
+                        } else {
+                            int empId = 1 + random.nextInt(employees);
+                            for (EmployeeSearchResult result
+                                    : target.employeeService().searchEmployees(String.valueOf(empId))) {
+                                if (result.getEmpId() == empId) {
+                                    observations.add(new Observation(empId, result.getSalary()));
+                                }
+                            }
+                        }
+                    } catch (RuntimeException e) {
+                        readErrors.incrementAndGet();
+                    }
+                } while (raisesRunning.get());
+            }, "stress-read-" + i));
+        }
+
+        raisers.forEach(Thread::start);
+        readerThreads.forEach(Thread::start);
+        for (Thread raiser : raisers) {
+            raiser.join();
+        }
+        raisesRunning.set(false);
+        for (Thread reader : readerThreads) {
+            reader.join();
+        }
+        return List.of(results);
+    }
+
+    private static double grandTotal(List<Report> report) {
+        double total = 0;
+        for (Report category : report) {
+            total += category.getTotalPayment();
+        }
+        return total;
+    }
+
+    private static boolean isReachableTotal(Set<Double> reachable, double total, double tolerance) {
+        for (double candidate : reachable) {
+            if (Math.abs(candidate - total) < tolerance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isReachable(SequentialSalaryModel model, Set<Double> reachable, double salary) {
+        if (reachable == null) {
+            return false;
+        }
+        for (double candidate : reachable) {
+            if (model.matches(candidate, salary)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void awaitQuietly(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (Exception e) {
+            throw new IllegalStateException("Round start interrupted", e);
+        }
+    }
+
+    /**
+     * Current salary of every payroll row in the database.
+     */
+    static Map<Long, Double> readPayrollTable() {
+        Map<Long, Double> salaries = new HashMap<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("SELECT empid, pay_date, salary FROM payroll");
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                salaries.put(SequentialSalaryModel.rowKey(rs.getInt("empid"),
+                    rs.getDate("pay_date").toLocalDate().toEpochDay()), rs.getDouble("salary"));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot read payroll: " + e.getMessage(), e);
+        }
+        return salaries;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rounds = 50;
+        int raisers = 3;
+        int readers = 4;
+        long seed = 7;
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--rounds=")) {
+                rounds = Integer.parseInt(value);
+            } else if (arg.startsWith("--raisers=")) {
+                raisers = Integer.parseInt(value);
+            } else if (arg.startsWith("--readers=")) {
+                readers = Integer.parseInt(value);
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(value);
+            }
+        }
+        RaiseStressTest stressTest = new RaiseStressTest(rounds, raisers, readers, seed);
+        List<Target> targets = new ArrayList<>();
+
+        // The mock search reads the mock payroll's salaries, so searches see the raises
+        MockPayrollRepository mockPayroll = new MockPayrollRepository();
+        targets.add(new Target("in-memory", new PayrollService(mockPayroll),
+            new EmployeeService(new MockEmployeeRepository(ChangeEventPublisher.NO_OP, mockPayroll)), () -> {
+                Map<Long, Double> salaries = new HashMap<>();
+                mockPayroll.getCurrentSalaries().forEach((empId, salary) ->
+                    salaries.put(SequentialSalaryModel.rowKey(empId, 0), salary));
+                return salaries;
+            }, false, true, Consistency.SERIALIZABLE));
+
+        if (EmbeddedDatabase.isDriverAvailable()) {
+            EmbeddedDatabase embedded = new EmbeddedDatabase(EmbeddedDatabase.DEFAULT_URL, Paths.get("db", "embedded"));
+            embedded.start(raisers + readers + 2, 10_000);
+            embedded.seedSynthetic(SYNTHETIC_EMPLOYEES, SYNTHETIC_PAY_PERIODS, seed);
+            EmployeeService employeeService = new EmployeeService(new EmployeeRepository());
+            targets.add(new Target("embedded transactional", new PayrollService(new PayrollRepository(null,
+                ChangeEventPublisher.NO_OP, UpdateMode.TRANSACTIONAL)), employeeService,
+                RaiseStressTest::readPayrollTable, true, true, Consistency.SERIALIZABLE));
+            targets.add(new Target("embedded optimistic", new PayrollService(new PayrollRepository(null,
+                ChangeEventPublisher.NO_OP, UpdateMode.OPTIMISTIC)), employeeService,
+                RaiseStressTest::readPayrollTable, true, true, Consistency.PER_ROW));
+        } else {
+            System.out.println("H2 driver not on the classpath; skipping the embedded database targets");
+        }
+
+        List<String> problems = new ArrayList<>();
+        for (Target target : targets) {
+            problems.addAll(stressTest.run(target));
+        }
+        if (problems.isEmpty()) {
+            System.out.println("✅ No lost or double-applied raises");
+        } else {
+            problems.stream().limit(20).forEach(System.out::println);
+            System.out.println("❌ " + problems.size() + " inconsistencies");
+            System.exit(1);
+        }
+    }
+}
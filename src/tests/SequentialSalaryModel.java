@@ -0,0 +1,90 @@
+package src.tests;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SequentialSalaryModel is the reference implementation of a bulk raise:
+ * salaries keyed by payroll row, changed one raise at a time with no
+ * concurrency. Stress tests compare a repository's results against it.
+ *
+ * Rows are identified by a long key (see {@link #rowKey}), so the same
+ * model serves per-employee mock salaries and per-pay-period database rows.
+ */
+public final class SequentialSalaryModel {
+    private final Map<Long, Double> salaries;
+    private final boolean roundsToCents;
+
+    /**
+     * @param salaries current salary per row key
+     * @param roundsToCents true if the store keeps salaries as DECIMAL(12,2)
+     */
+    public SequentialSalaryModel(Map<Long, Double> salaries, boolean roundsToCents) {
+        this.salaries = new HashMap<>(salaries);
+        this.roundsToCents = roundsToCents;
+    }
+
+    /**
+     * @param empId employee id
+     * @param payEpochDay pay date as epoch day, or 0 for stores with one salary per employee
+     */
+    public static long rowKey(int empId, long payEpochDay) {
+        return ((long) empId << 32) | (payEpochDay & 0xFFFFFFFFL);
+    }
+
+    public static int empIdOf(long rowKey) {
+        return (int) (rowKey >>> 32);
+    }
+
+    public SequentialSalaryModel copy() {
+        return new SequentialSalaryModel(salaries, roundsToCents);
+    }
+
+    /**
+     * Applies a raise the way PayrollRepository.updateSalaryRange defines it:
+     * every row with min &lt;= salary &lt; max is multiplied by 1 + percent/100.
+     * @return number of rows changed
+     */
+    public int apply(double min, double max, double percentIncrease) {
+        int count = 0;
+        for (Map.Entry<Long, Double> entry : salaries.entrySet()) {
+            if (inRange(entry.getValue(), min, max)) {
+                entry.setValue(raise(entry.getValue(), percentIncrease));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Applies a raise to one salary value without changing the model.
+     * @return the raised salary, or the same salary if it is out of range
+     */
+    public double applyTo(double salary, double min, double max, double percentIncrease) {
+        return inRange(salary, min, max) ? raise(salary, percentIncrease) : salary;
+    }
+
+    public Double get(long rowKey) {
+        return salaries.get(rowKey);
+    }
+
+    public Map<Long, Double> getSalaries() {
+        return Map.copyOf(salaries);
+    }
+
+    /**
+     * @return true if the two salaries are equal up to the store's precision
+     */
+    public boolean matches(double expected, double actual) {
+        return Math.abs(expected - actual) < (roundsToCents ? 0.011 : 1e-6);
+    }
+
+    private static boolean inRange(double salary, double min, double max) {
+        return salary >= min && salary < max;
+    }
+
+    private double raise(double salary, double percentIncrease) {
+        double raised = salary * (1 + (percentIncrease / 100));
+        return roundsToCents ? Math.round(raised * 100) / 100.0 : raised;
+    }
+}
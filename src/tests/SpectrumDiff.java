@@ -0,0 +1,73 @@
+package src.tests;
+
+import src.metrics.PercentileSpectrum;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Compares the percentile spectra of two builds and fails on tail-latency regressions.
+ *
+ * Usage: java -cp bin src.tests.SpectrumDiff BASELINE_DIR CANDIDATE_DIR [--tolerance=0.2] [--floor-micros=50]
+ *
+ * Every *.spectrum file in the baseline directory is compared with the file of
+ * the same name in the candidate directory. A percentile regresses when it is
+ * more than the tolerance slower and at least the floor slower in absolute
+ * terms. Exits with status 1 if anything regressed or a candidate file is missing.
+ */
+public class SpectrumDiff {
+    public static final String FILE_SUFFIX = ".spectrum";
+
+    public static void main(String[] args) throws IOException {
+        List<String> dirs = new ArrayList<>();
+        double tolerance = 0.2;
+        long floorNanos = 50_000;
+        for (String arg : args) {
+            if (arg.startsWith("--tolerance=")) {
+                tolerance = Double.parseDouble(arg.substring("--tolerance=".length()));
+            } else if (arg.startsWith("--floor-micros=")) {
+                floorNanos = Long.parseLong(arg.substring("--floor-micros=".length())) * 1000;
+            } else {
+                dirs.add(arg);
+            }
+        }
+        if (dirs.size() != 2) {
+            System.err.println("Usage: SpectrumDiff BASELINE_DIR CANDIDATE_DIR [--tolerance=0.2] [--floor-micros=50]");
+            System.exit(2);
+        }
+
+        List<String> problems = compare(Paths.get(dirs.get(0)), Paths.get(dirs.get(1)), tolerance, floorNanos);
+        if (problems.isEmpty()) {
+            System.out.println("No tail-latency regressions");
+        } else {
+            problems.forEach(System.out::println);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * @return one line per regressed percentile or missing candidate file
+     */
+    static List<String> compare(Path baselineDir, Path candidateDir, double tolerance, long floorNanos)
+            throws IOException {
+        List<String> problems = new ArrayList<>();
+        List<Path> baselines;
+        try (Stream<Path> files = Files.list(baselineDir)) {
+            baselines = files.filter(file -> file.getFileName().toString().endsWith(FILE_SUFFIX)).sorted().toList();
+        }
+        for (Path baseline : baselines) {
+            Path candidate = candidateDir.resolve(baseline.getFileName());
+            if (!Files.isRegularFile(candidate)) {
+                problems.add(baseline.getFileName() + ": missing from " + candidateDir);
+                continue;
+            }
+            problems.addAll(PercentileSpectrum.read(baseline)
+                .regressionsIn(PercentileSpectrum.read(candidate), tolerance, floorNanos));
+        }
+        return problems;
+    }
+}
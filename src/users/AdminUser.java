@@ -3,6 +3,7 @@ package src.users;
 import src.models.UserCredentials;
 import src.services.EmployeeService;
 import src.services.PayrollService;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * AdminUser class for administrator-specific functionality.
@@ -36,6 +37,38 @@ public class AdminUser extends User {
         return payrollService.applySalaryRaise(min, max, percentIncrease);
     }
 
+    /**
+     * Admin-specific action: preview a bulk salary raise without applying it.
+     */
+    public String previewSalaryRaise(double min, double max, double percentIncrease) {
+        var preview = payrollService.previewSalaryRaise(min, max, percentIncrease);
+        return payrollService.formatRaisePreview(preview);
+    }
+
+    /**
+     * Admin-specific action: count the employees whose current salary is in a range, and total it.
+     * Never waits for the database.
+     * @return the description, or null while the salary distribution is loading
+     */
+    public String describeSalaryRange(double min, double max) {
+        var band = payrollService.getSalaryBandIfLoaded(min, max);
+        return band == null ? null : payrollService.formatSalaryBand(band);
+    }
+
+    /**
+     * @return completes when salary ranges can be described
+     */
+    public CompletableFuture<Void> whenSalaryRangesLoaded() {
+        return payrollService.loadSalaryDistribution();
+    }
+
+    /**
+     * Admin-specific action: suggest salary bands of similar size for bulk raises.
+     */
+    public String suggestSalaryBands(int bands) {
+        return payrollService.formatSalaryBands(payrollService.suggestSalaryBands(bands));
+    }
+
     /**
      * Admin-specific action: view job title report.
      */
@@ -19,9 +19,10 @@ public class EmployeeUser extends User {
 
     /**
      * Employee-specific action: view personal pay history.
+     * Shows recent statements only.
      */
     public String viewPayHistory() {
-        var history = payrollService.getPayHistory(DEFAULT_EMPLOYEE_ID);
+        var history = payrollService.getRecentPayHistory(DEFAULT_EMPLOYEE_ID);
         return payrollService.formatPayHistory(history);
     }
 